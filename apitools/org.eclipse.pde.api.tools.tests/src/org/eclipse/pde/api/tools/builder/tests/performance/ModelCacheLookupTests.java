@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures the throughput of concurrent type lookups in the
+ * {@link ApiModelCache} as the number of threads grows. The same total number
+ * of lookups is split across the threads, so the elapsed time should decrease
+ * with the thread count as long as lookups do not contend.
+ */
+public class ModelCacheLookupTests extends PerformanceTestCase {
+
+	private static final String BASELINE_ID = "perf-baseline"; //$NON-NLS-1$
+	private static final String COMPONENT_ID = "perf-component"; //$NON-NLS-1$
+	private static final int TYPE_COUNT = 1500;
+	private static final int LOOKUPS = 4_000_000;
+
+	private String[] fTypeNames;
+
+	public ModelCacheLookupTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(ModelCacheLookupTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fTypeNames = new String[TYPE_COUNT];
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			fTypeNames[i] = "perf.type.Type" + i; //$NON-NLS-1$
+			IApiType type = TestSuiteHelper.createTestingApiType(BASELINE_ID, COMPONENT_ID, fTypeNames[i], "()V", null, 0, null); //$NON-NLS-1$
+			ApiModelCache.getCache().cacheElementInfo(type);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ApiModelCache.getCache().flushCaches();
+		super.tearDown();
+	}
+
+	public void testLookup1Thread() throws Exception {
+		measureLookups(1);
+	}
+
+	public void testLookup2Threads() throws Exception {
+		measureLookups(2);
+	}
+
+	public void testLookup4Threads() throws Exception {
+		measureLookups(4);
+	}
+
+	public void testLookup8Threads() throws Exception {
+		tagAsSummary("API model cache lookups (8 threads)", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measureLookups(8);
+	}
+
+	private void measureLookups(int threads) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			// warm-up
+			runLookups(executor, threads, null);
+			for (int i = 0; i < 10; i++) {
+				CyclicBarrier start = new CyclicBarrier(threads + 1);
+				List<Future<Integer>> results = submitLookups(executor, threads, start);
+				start.await();
+				startMeasuring();
+				int found = join(results);
+				stopMeasuring();
+				assertEquals("Every lookup should hit the cache", LOOKUPS / threads * threads, found); //$NON-NLS-1$
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void runLookups(ExecutorService executor, int threads, CyclicBarrier start) throws Exception {
+		join(submitLookups(executor, threads, start));
+	}
+
+	private List<Future<Integer>> submitLookups(ExecutorService executor, int threads, CyclicBarrier start) {
+		int perThread = LOOKUPS / threads;
+		List<Future<Integer>> results = new ArrayList<>(threads);
+		for (int t = 0; t < threads; t++) {
+			int offset = t * 7;
+			results.add(executor.submit(() -> {
+				if (start != null) {
+					start.await();
+				}
+				ApiModelCache cache = ApiModelCache.getCache();
+				int found = 0;
+				for (int i = 0; i < perThread; i++) {
+					String name = fTypeNames[(i + offset) % TYPE_COUNT];
+					if (cache.getElementInfo(BASELINE_ID, COMPONENT_ID, name, IApiElement.TYPE) != null) {
+						found++;
+					}
+				}
+				return found;
+			}));
+		}
+		return results;
+	}
+
+	private static int join(List<Future<Integer>> results) throws Exception {
+		int found = 0;
+		for (Future<Integer> result : results) {
+			found += result.get(5, TimeUnit.MINUTES);
+		}
+		return found;
+	}
+}
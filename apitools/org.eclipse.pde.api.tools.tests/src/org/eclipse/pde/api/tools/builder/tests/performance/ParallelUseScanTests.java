@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
+import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
+import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
+import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Compares sequential and parallel API use scans over a synthetic baseline of
+ * generated bundles, where every bundle references the types of the bundles
+ * preceding it. Also checks that the XML reports of both scans are identical.
+ */
+public class ParallelUseScanTests extends PerformanceTestCase {
+
+	static final IPath ROOT_PATH = TestSuiteHelper.getUserDirectoryPath().append("parallel-use-scan-perf"); //$NON-NLS-1$
+	static final IPath BUNDLES_PATH = ROOT_PATH.append("bundles"); //$NON-NLS-1$
+	static final IPath REPORT_PATH = ROOT_PATH.append("report"); //$NON-NLS-1$
+
+	private static final int BUNDLE_COUNT = 200;
+	private static final int TYPE_COUNT = 40;
+	private static final int REFERENCED_BUNDLES = 3;
+
+	private IApiBaseline fBaseline;
+	private UseSearchRequestor fRequestor;
+
+	public ParallelUseScanTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(ParallelUseScanTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		TestSuiteHelper.delete(ROOT_PATH.toFile());
+		fBaseline = ApiModelFactory.newApiBaseline("parallel-use-scan"); //$NON-NLS-1$
+		IApiComponent[] components = new IApiComponent[BUNDLE_COUNT];
+		Set<String> ids = new HashSet<>();
+		for (int i = 0; i < BUNDLE_COUNT; i++) {
+			File bundle = generateBundle(i);
+			components[i] = ApiModelFactory.newApiComponent(fBaseline, bundle.getAbsolutePath());
+			ids.add(getBundleName(i));
+		}
+		fBaseline.addApiComponents(components);
+		fRequestor = new UseSearchRequestor(ids, components, IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fBaseline != null) {
+			fBaseline.dispose();
+		}
+		TestSuiteHelper.delete(ROOT_PATH.toFile());
+		super.tearDown();
+	}
+
+	public void testSequentialUseScan() throws Exception {
+		measureUseScan(1);
+	}
+
+	public void testParallelUseScan() throws Exception {
+		tagAsSummary("API use scan (parallel)", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measureUseScan(Math.max(2, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Tests that a parallel scan writes the same XML report as a sequential
+	 * one
+	 */
+	public void testDeterministicReport() throws Exception {
+		Map<String, String> sequential = scan(1);
+		Map<String, String> parallel = scan(Math.max(2, Runtime.getRuntime().availableProcessors()));
+		assertFalse("The scan should have reported references", sequential.isEmpty()); //$NON-NLS-1$
+		assertEquals("The parallel scan should report the same references", sequential, parallel); //$NON-NLS-1$
+	}
+
+	private void measureUseScan(int threads) throws Exception {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		engine.setParallelism(threads);
+		// warm-up
+		search(engine);
+		for (int i = 0; i < 5; i++) {
+			TestSuiteHelper.delete(REPORT_PATH.toFile());
+			startMeasuring();
+			search(engine);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void search(ApiSearchEngine engine) throws Exception {
+		XmlSearchReporter reporter = new XmlSearchReporter(REPORT_PATH.toOSString(), false);
+		engine.search(fBaseline, fRequestor, reporter, new NullProgressMonitor());
+		reporter.reportCounts();
+	}
+
+	/**
+	 * Scans the baseline with the given number of threads and returns the
+	 * contents of the written report files keyed by their relative path
+	 */
+	private Map<String, String> scan(int threads) throws Exception {
+		TestSuiteHelper.delete(REPORT_PATH.toFile());
+		ApiSearchEngine engine = new ApiSearchEngine();
+		engine.setParallelism(threads);
+		search(engine);
+		Map<String, String> report = new TreeMap<>();
+		Path root = REPORT_PATH.toPath();
+		try (Stream<Path> files = Files.walk(root)) {
+			for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+				report.put(root.relativize(file).toString(), Files.readString(file));
+			}
+		}
+		return report;
+	}
+
+	private static String getBundleName(int index) {
+		return "perf.bundle" + index; //$NON-NLS-1$
+	}
+
+	/**
+	 * Generates a directory bundle whose types reference the types of the
+	 * {@link #REFERENCED_BUNDLES} preceding bundles
+	 */
+	private static File generateBundle(int index) throws IOException {
+		String name = getBundleName(index);
+		File root = BUNDLES_PATH.append(name).toFile();
+		Path manifest = root.toPath().resolve("META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		Files.createDirectories(manifest.getParent());
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Manifest-Version: 1.0\n"); //$NON-NLS-1$
+		buffer.append("Bundle-ManifestVersion: 2\n"); //$NON-NLS-1$
+		buffer.append("Bundle-SymbolicName: ").append(name).append('\n'); //$NON-NLS-1$
+		buffer.append("Bundle-Version: 1.0.0\n"); //$NON-NLS-1$
+		buffer.append("Export-Package: ").append(name).append('\n'); //$NON-NLS-1$
+		if (index > 0) {
+			buffer.append("Require-Bundle: "); //$NON-NLS-1$
+			for (int i = Math.max(0, index - REFERENCED_BUNDLES); i < index; i++) {
+				buffer.append(getBundleName(i)).append(i < index - 1 ? "," : "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		Files.writeString(manifest, buffer.toString());
+		Path folder = root.toPath().resolve(name.replace('.', '/'));
+		Files.createDirectories(folder);
+		for (int t = 0; t < TYPE_COUNT; t++) {
+			Files.write(folder.resolve("Type" + t + ".class"), generateType(index, t)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return root;
+	}
+
+	private static byte[] generateType(int bundle, int type) {
+		String name = getBundleName(bundle).replace('.', '/') + "/Type" + type; //$NON-NLS-1$
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, "java/lang/Object", null); //$NON-NLS-1$
+		MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "use", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitCode();
+		for (int i = Math.max(0, bundle - REFERENCED_BUNDLES); i < bundle; i++) {
+			String referenced = getBundleName(i).replace('.', '/') + "/Type" + type; //$NON-NLS-1$
+			writer.visitField(Opcodes.ACC_PUBLIC, "field" + i, 'L' + referenced + ';', null, null).visitEnd(); //$NON-NLS-1$
+			method.visitMethodInsn(Opcodes.INVOKESTATIC, referenced, "use", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+}
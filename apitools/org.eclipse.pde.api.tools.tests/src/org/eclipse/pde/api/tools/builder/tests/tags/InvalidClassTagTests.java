@@ -373,4 +373,20 @@ public class InvalidClassTagTests extends TagTest {
 		deployTagTest("test12.java", inc, false); //$NON-NLS-1$
 	}
 
+	public void testInvalidClassTag13I() {
+		x13(true);
+	}
+
+	public void testInvalidClassTag13F() {
+		x13(false);
+	}
+
+	/**
+	 * Tests that tags on local classes and on the members of anonymous
+	 * classes are not reported, method bodies are not scanned
+	 */
+	private void x13(boolean inc) {
+		deployTagTest("test13.java", inc, false); //$NON-NLS-1$
+	}
+
 }
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.comparator.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -247,4 +248,25 @@ public class ApiScopeDeltaTests extends DeltaTestSetup {
 			// expected as scope is null
 		}
 	}
+
+	/**
+	 * Use api scope with a parallel comparison
+	 */
+	@Test
+	public void test8() throws CoreException {
+		deployBundles("test3"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		ApiScope scope = new ApiScope();
+		for (IApiComponent apiComponent : after.getApiComponents()) {
+			for (IApiTypeContainer iApiTypeContainer : apiComponent.getApiTypeContainers()) {
+				scope.addElement(iApiTypeContainer);
+			}
+		}
+		IDelta delta = ApiComparator.compare(scope, before, VisibilityModifiers.API, true, null);
+		IDelta parallelDelta = ApiComparator.compare(scope, before, VisibilityModifiers.API, true, false, 4, null);
+		assertNotNull("No delta", parallelDelta); //$NON-NLS-1$
+		assertArrayEquals("Wrong deltas", delta.getChildren(), parallelDelta.getChildren()); //$NON-NLS-1$
+		assertEquals("Wrong size", 1, collectLeaves(parallelDelta).length); //$NON-NLS-1$
+	}
 }
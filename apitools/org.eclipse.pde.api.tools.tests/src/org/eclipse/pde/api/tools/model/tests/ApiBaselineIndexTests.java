@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineIndex;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the binary {@link ApiBaselineIndex} persisted next to API baselines
+ */
+public class ApiBaselineIndexTests {
+
+	private static final long CHECKSUM = 0x1234L;
+
+	private IApiBaseline fBaseline;
+	private Path fDirectory;
+	private Path fIndexFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fBaseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		fDirectory = Files.createTempDirectory("baseline-index"); //$NON-NLS-1$
+		fIndexFile = ApiBaselineIndex.getIndexFile(fDirectory.resolve("test.profile")); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fBaseline != null) {
+			fBaseline.dispose();
+		}
+		TestSuiteHelper.delete(fDirectory.toFile());
+	}
+
+	private List<IApiComponent> getComponents() {
+		return Arrays.stream(fBaseline.getApiComponents()).filter(c -> !c.isSystemComponent()).toList();
+	}
+
+	/**
+	 * Tests that the components, manifests and packages written to an index
+	 * are read back
+	 */
+	@Test
+	public void testWriteAndRead() throws Exception {
+		List<IApiComponent> components = getComponents();
+		ApiBaselineIndex.write(fIndexFile, CHECKSUM, "/baseline/location", components); //$NON-NLS-1$
+		ApiBaselineIndex index = ApiBaselineIndex.read(fIndexFile);
+		assertNotNull("The index should be readable", index); //$NON-NLS-1$
+		assertEquals(CHECKSUM, index.getChecksum());
+		assertEquals("/baseline/location", index.getLocation()); //$NON-NLS-1$
+		assertTrue("The index should be current", index.isCurrent(CHECKSUM)); //$NON-NLS-1$
+		assertFalse("The index should not match another checksum", index.isCurrent(CHECKSUM + 1)); //$NON-NLS-1$
+		assertEquals(components.size(), index.getEntries().length);
+		for (IApiComponent component : components) {
+			ApiBaselineIndex.Entry entry = index.getEntry(component.getLocation());
+			assertNotNull("Missing entry for " + component.getSymbolicName(), entry); //$NON-NLS-1$
+			assertTrue("The entry should be current", entry.isCurrent()); //$NON-NLS-1$
+			Map<String, String> manifest = entry.getManifest();
+			assertTrue("Wrong symbolic name", manifest.get("Bundle-SymbolicName").startsWith(component.getSymbolicName())); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals(component.getVersion(), manifest.get("Bundle-Version")); //$NON-NLS-1$
+			assertEquals("The headers should be case insensitive", manifest.get("Bundle-Version"), //$NON-NLS-1$ //$NON-NLS-2$
+					manifest.get("bundle-version")); //$NON-NLS-1$
+			assertFalse("The packages should be indexed", entry.getPackageNames().isEmpty()); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tests that components created from an index match the ones created from
+	 * their bundles
+	 */
+	@Test
+	public void testCreateComponents() throws Exception {
+		List<IApiComponent> components = getComponents();
+		ApiBaselineIndex.write(fIndexFile, CHECKSUM, null, components);
+		ApiBaselineIndex index = ApiBaselineIndex.read(fIndexFile);
+		assertNotNull("The index should be readable", index); //$NON-NLS-1$
+		assertNull(index.getLocation());
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline("indexed"); //$NON-NLS-1$
+		try {
+			IApiComponent[] restored = index.createComponents(baseline);
+			assertEquals(components.size(), restored.length);
+			for (int i = 0; i < restored.length; i++) {
+				IApiComponent expected = components.get(i);
+				assertEquals(expected.getSymbolicName(), restored[i].getSymbolicName());
+				assertEquals(expected.getVersion(), restored[i].getVersion());
+				assertEquals(expected.getLocation(), restored[i].getLocation());
+				assertEquals(Arrays.asList(expected.getPackageNames()), Arrays.asList(restored[i].getPackageNames()));
+			}
+		} finally {
+			baseline.dispose();
+		}
+	}
+
+	/**
+	 * Tests that missing, corrupt and foreign index files are ignored
+	 */
+	@Test
+	public void testInvalidIndex() throws Exception {
+		assertNull("A missing index should be ignored", ApiBaselineIndex.read(fIndexFile)); //$NON-NLS-1$
+		Files.write(fIndexFile, new byte[] { 1, 2, 3 });
+		assertNull("A truncated index should be ignored", ApiBaselineIndex.read(fIndexFile)); //$NON-NLS-1$
+		ApiBaselineIndex.write(fIndexFile, CHECKSUM, null, getComponents());
+		byte[] bytes = Files.readAllBytes(fIndexFile);
+		ByteBuffer.wrap(bytes).putInt(4, Integer.MAX_VALUE);
+		Files.write(fIndexFile, bytes);
+		assertNull("An index of another version should be ignored", ApiBaselineIndex.read(fIndexFile)); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ClassFileCache}
+ */
+public class ClassFileCacheTests {
+
+	private long fOriginalSize;
+
+	@Before
+	public void setUp() {
+		ClassFileCache cache = ClassFileCache.getCache();
+		fOriginalSize = cache.getMaxSize();
+		cache.flush();
+	}
+
+	@After
+	public void tearDown() {
+		ClassFileCache cache = ClassFileCache.getCache();
+		cache.setMaxSize(fOriginalSize);
+		cache.flush();
+	}
+
+	/**
+	 * Tests that cached contents are returned without reading them again
+	 */
+	@Test
+	public void testHit() throws Exception {
+		ClassFileCache cache = ClassFileCache.getCache();
+		AtomicInteger reads = new AtomicInteger();
+		byte[] first = cache.getContents("a", 1, 0, () -> { //$NON-NLS-1$
+			reads.incrementAndGet();
+			return new byte[10];
+		});
+		byte[] second = cache.getContents("a", 1, 0, () -> { //$NON-NLS-1$
+			reads.incrementAndGet();
+			return new byte[10];
+		});
+		assertSame("The cached contents should have been returned", first, second); //$NON-NLS-1$
+		assertEquals("The contents should have been read once", 1, reads.get()); //$NON-NLS-1$
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(10, cache.getSize());
+	}
+
+	/**
+	 * Tests that contents cached with a different stamp are read again
+	 */
+	@Test
+	public void testStaleStamp() throws Exception {
+		ClassFileCache cache = ClassFileCache.getCache();
+		byte[] first = cache.getContents("a", 1, 0, () -> new byte[10]); //$NON-NLS-1$
+		byte[] second = cache.getContents("a", 2, 0, () -> new byte[20]); //$NON-NLS-1$
+		assertTrue("Stale contents should have been replaced", first != second); //$NON-NLS-1$
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals("Only the current contents should be accounted", 20, cache.getSize()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that contents cached with the same modification time but a
+	 * different length are read again
+	 */
+	@Test
+	public void testStaleLength() throws Exception {
+		ClassFileCache cache = ClassFileCache.getCache();
+		byte[] first = cache.getContents("a", 1, 10, () -> new byte[10]); //$NON-NLS-1$
+		byte[] second = cache.getContents("a", 1, 20, () -> new byte[20]); //$NON-NLS-1$
+		assertTrue("Stale contents should have been replaced", first != second); //$NON-NLS-1$
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	/**
+	 * Tests that the least recently used contents are evicted once the byte
+	 * bound is exceeded
+	 */
+	@Test
+	public void testEviction() throws Exception {
+		ClassFileCache cache = ClassFileCache.getCache();
+		cache.setMaxSize(25);
+		cache.getContents("a", 1, 0, () -> new byte[10]); //$NON-NLS-1$
+		cache.getContents("b", 1, 0, () -> new byte[10]); //$NON-NLS-1$
+		// touch "a" so "b" is the eldest entry
+		cache.getContents("a", 1, 0, () -> new byte[10]); //$NON-NLS-1$
+		cache.getContents("c", 1, 0, () -> new byte[10]); //$NON-NLS-1$
+		assertEquals(1, cache.getEvictions());
+		assertEquals(20, cache.getSize());
+		AtomicInteger reads = new AtomicInteger();
+		cache.getContents("a", 1, 0, () -> { //$NON-NLS-1$
+			reads.incrementAndGet();
+			return new byte[10];
+		});
+		assertEquals("'a' should still be cached", 0, reads.get()); //$NON-NLS-1$
+		cache.getContents("b", 1, 0, () -> { //$NON-NLS-1$
+			reads.incrementAndGet();
+			return new byte[10];
+		});
+		assertEquals("'b' should have been evicted", 1, reads.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that contents larger than the cache are not cached and that a size
+	 * of 0 disables the cache
+	 */
+	@Test
+	public void testDisabled() throws Exception {
+		ClassFileCache cache = ClassFileCache.getCache();
+		cache.setMaxSize(5);
+		cache.getContents("a", 1, 0, () -> new byte[10]); //$NON-NLS-1$
+		assertEquals(0, cache.getSize());
+		cache.setMaxSize(0);
+		cache.getContents("b", 1, 0, () -> new byte[1]); //$NON-NLS-1$
+		cache.getContents("b", 1, 0, () -> new byte[1]); //$NON-NLS-1$
+		assertEquals(0, cache.getSize());
+		assertEquals(0, cache.getHits());
+	}
+}
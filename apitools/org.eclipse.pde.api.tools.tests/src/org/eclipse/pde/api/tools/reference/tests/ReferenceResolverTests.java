@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.reference.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the resolutions remembered by the {@link ReferenceResolver}
+ */
+public class ReferenceResolverTests {
+
+	private IApiBaseline fBaseline;
+	private IApiMember fOrigin;
+
+	@Before
+	public void setUp() throws Exception {
+		fBaseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		IApiComponent component = fBaseline.getApiComponent("component.b"); //$NON-NLS-1$
+		assertNotNull("Missing component.b", component); //$NON-NLS-1$
+		fOrigin = component.findTypeRoot("component.b.B").getStructure(); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		if (fBaseline != null) {
+			fBaseline.dispose();
+		}
+	}
+
+	private IApiMember resolve(String typeName) throws Exception {
+		Reference reference = Reference.typeReference(fOrigin, typeName, IReference.REF_EXTENDS);
+		ReferenceResolver.resolveReferences(List.of(reference));
+		IApiMember resolved = reference.getResolvedReference();
+		assertNotNull("The reference should be resolved: " + typeName, resolved); //$NON-NLS-1$
+		return resolved;
+	}
+
+	/**
+	 * Tests that a resolution is remembered once and reused for an equal
+	 * reference
+	 */
+	@Test
+	public void testResolutionReused() throws Exception {
+		IApiMember first = resolve("component.b.Overrides"); //$NON-NLS-1$
+		assertEquals("component.b.Overrides", first.getName()); //$NON-NLS-1$
+		assertEquals(1, ReferenceResolver.getResolutionCount(fBaseline));
+
+		IApiMember second = resolve("component.b.Overrides"); //$NON-NLS-1$
+		assertEquals(first.getName(), second.getName());
+		assertEquals(first.getApiComponent(), second.getApiComponent());
+		assertEquals("The resolution should be reused", 1, ReferenceResolver.getResolutionCount(fBaseline)); //$NON-NLS-1$
+
+		resolve("e.f.g.TestImplement"); //$NON-NLS-1$
+		assertEquals(2, ReferenceResolver.getResolutionCount(fBaseline));
+	}
+
+	/**
+	 * Tests that the resolutions are dropped with their baseline
+	 */
+	@Test
+	public void testResolutionsDroppedOnDispose() throws Exception {
+		resolve("component.b.Overrides"); //$NON-NLS-1$
+		assertEquals(1, ReferenceResolver.getResolutionCount(fBaseline));
+		fBaseline.dispose();
+		assertEquals("The resolutions should be dropped", 0, ReferenceResolver.getResolutionCount(fBaseline)); //$NON-NLS-1$
+		fBaseline = null;
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.pde.api.tools.internal.ConcurrentOverflowingLRUCache;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ConcurrentOverflowingLRUCache}
+ */
+public class ConcurrentOverflowingLRUCacheTests {
+
+	/**
+	 * Tests that the least recently used entries are evicted once the cache
+	 * exceeds its size plus the allowed overflow
+	 */
+	@Test
+	public void testEviction() throws Exception {
+		ConcurrentOverflowingLRUCache<String, String> cache = new ConcurrentOverflowingLRUCache<>(3, 0);
+		cache.put("a", "a"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "b"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("c", "c"); //$NON-NLS-1$ //$NON-NLS-2$
+		// make sure "a" is the most recently used entry
+		Thread.sleep(1);
+		assertNotNull(cache.get("a")); //$NON-NLS-1$
+		cache.put("d", "d"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(3, cache.size());
+		assertNull("'b' should have been evicted", cache.get("b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("'a' should still be cached", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that an eviction frees room for a tenth of the size in one batch
+	 * and that entries are only evicted again once the overflow is used up
+	 */
+	@Test
+	public void testBatchEviction() throws Exception {
+		ConcurrentOverflowingLRUCache<Integer, Integer> cache = new ConcurrentOverflowingLRUCache<>(20, 5);
+		for (int i = 0; i < 25; i++) {
+			cache.put(i, i);
+			Thread.sleep(1);
+		}
+		assertEquals(25, cache.size());
+		cache.put(25, 25);
+		assertEquals(18, cache.size());
+		for (int i = 0; i < 8; i++) {
+			assertNull("The oldest entries should have been evicted", cache.get(i)); //$NON-NLS-1$
+		}
+		for (int i = 8; i <= 25; i++) {
+			assertNotNull("The most recent entries should still be cached", cache.get(i)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tests that entries that cannot be closed stay in the cache
+	 */
+	@Test
+	public void testCloseVeto() throws Exception {
+		ConcurrentOverflowingLRUCache<String, String> cache = new ConcurrentOverflowingLRUCache<>(2, 0) {
+			@Override
+			protected boolean close(String key, String value) {
+				return !"pinned".equals(value); //$NON-NLS-1$
+			}
+		};
+		cache.put("a", "pinned"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "pinned"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("c", "pinned"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getOverflow());
+		cache.flush();
+		assertTrue(cache.isEmpty());
+		assertEquals(0, cache.getOverflow());
+	}
+
+	/**
+	 * Tests that concurrent computations of the same key only compute the
+	 * value once and that the size bound holds under contention
+	 */
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		ConcurrentOverflowingLRUCache<Integer, Integer> cache = new ConcurrentOverflowingLRUCache<>(100, 10);
+		AtomicInteger computations = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10_000; i++) {
+						cache.computeIfAbsent(-1, k -> {
+							computations.incrementAndGet();
+							return k;
+						});
+						cache.put(i % 500, i);
+						cache.get(i % 500);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		// evictions skipped while another thread was evicting catch up on the next put
+		cache.put(-2, -2);
+		assertTrue("The cache should not exceed its size plus overflow: " + cache.size(), cache.size() <= 110); //$NON-NLS-1$
+		assertTrue("The value should only be recomputed after being evicted", computations.get() >= 1); //$NON-NLS-1$
+	}
+}
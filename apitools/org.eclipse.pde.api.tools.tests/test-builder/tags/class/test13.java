@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package a.b.c;
+
+/**
+ * Tests that tags on local and anonymous classes are not validated
+ */
+public class test13 {
+
+	public Object method() {
+		/**
+		 * @noreference
+		 * @noimplement
+		 */
+		class local {
+
+		}
+		return new Object() {
+			/**
+			 * @noreference
+			 */
+			class inner {
+
+			}
+		};
+	}
+}
@@ -17,12 +17,28 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IBuildConfiguration;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -39,10 +55,13 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisMarkersJob;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -55,22 +74,54 @@ import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.Bundle;
 
+/**
+ * Headless application that runs the API analysis on projects and prints the
+ * problems found.
+ * <p>
+ * A single project is analyzed with <code>-project</code>. Several projects can
+ * be given by repeating <code>-project</code> or listing one project directory
+ * per line in the file given with <code>-projects</code>; they are imported
+ * together and built with up to <code>-threads</code> concurrent builds. With
+ * <code>-requestDirectory</code> the application keeps running and analyzes
+ * the projects listed in each <code>*.request</code> file that appears in the
+ * directory, writing the exit code of each project to a <code>*.result</code>
+ * file next to it, until a file named <code>shutdown</code> appears. The target
+ * platform and baseline are only loaded once in both modes. If
+ * <code>-reportDirectory</code> is given, the problems of each project are also
+ * written to a report file named after the project.
+ * </p>
+ * <p>
+ * A request file lists one project directory per line. Clients must write it
+ * under another name, for example <code>name.request.tmp</code>, and then
+ * rename it to <code>name.request</code>, so that the application never reads
+ * a request that is still being written. The result is written the same way:
+ * once <code>name.result</code> exists, it is complete and the request file
+ * has been deleted. Each line of the result holds the exit code and the
+ * directory of a project, or <code>error</code> followed by a message if the
+ * request could not be analyzed at all.
+ * </p>
+ */
 public class ApiAnalysisApplication implements IApplication {
 
 	private static class Request {
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
+		private static final String PROJECTS_ARG = "projects"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String REQUEST_DIRECTORY_ARG = "requestDirectory"; //$NON-NLS-1$
+		private static final String REPORT_DIRECTORY_ARG = "reportDirectory"; //$NON-NLS-1$
+		private static final String THREADS_ARG = "threads"; //$NON-NLS-1$
 
 		private Request() {
 		}
 
-		public static Request readFromArgs(String[] params) {
+		public static Request readFromArgs(String[] params) throws IOException {
 			Request res = new Request();
 			String currentKey = null;
 			for (String param : params) {
@@ -80,13 +131,21 @@ public class ApiAnalysisApplication implements IApplication {
 					}
 					currentKey = param.substring(1);
 				} else if (PROJECT_ARG.equals(currentKey)) {
-					res.project = new File(param);
+					res.projects.add(new File(param));
+				} else if (PROJECTS_ARG.equals(currentKey)) {
+					res.projects.addAll(readProjectList(new File(param)));
 				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
 					res.baselinePath = new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 					res.failOnError = Boolean.parseBoolean(param);
 				} else if (DEPENDENCY_LIST_ARG.equals(currentKey)) {
 					res.tpFile = new File(param);
+				} else if (REQUEST_DIRECTORY_ARG.equals(currentKey)) {
+					res.requestDirectory = new File(param);
+				} else if (REPORT_DIRECTORY_ARG.equals(currentKey)) {
+					res.reportDirectory = new File(param);
+				} else if (THREADS_ARG.equals(currentKey)) {
+					res.threads = Integer.parseInt(param);
 				}
 			}
 			if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -95,29 +154,47 @@ public class ApiAnalysisApplication implements IApplication {
 			return res;
 		}
 
-		public File project;
+		public List<File> projects = new ArrayList<>();
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		public File requestDirectory;
+		public File reportDirectory;
+		public int threads = Runtime.getRuntime().availableProcessors();
 	}
 
-	private ICoreRunnable restoreOriginalProjectState = null;
+	private static final String REQUEST_EXTENSION = ".request"; //$NON-NLS-1$
+	private static final String RESULT_EXTENSION = ".result"; //$NON-NLS-1$
+	private static final String SHUTDOWN_FILE = "shutdown"; //$NON-NLS-1$
+
+	/**
+	 * Families of the jobs that may be scheduled by loading the target or by a
+	 * build and have to finish before the markers can be read
+	 */
+	private static final Object[] JOB_FAMILIES = { PluginModelManager.class, ResourcesPlugin.FAMILY_MANUAL_BUILD,
+			ResourcesPlugin.FAMILY_AUTO_BUILD, ApiBaselineManager.class, ApiBaseline.class, ApiAnalysisJob.class,
+			ApiAnalysisMarkersJob.class };
+
+	private final List<ICoreRunnable> restoreOriginalProjectStates = new ArrayList<>();
+
+	private volatile boolean stopped;
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
-		restoreOriginalProjectState = null;
+		restoreOriginalProjectStates.clear();
+		stopped = false;
 		try {
 			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
 			desc.setAutoBuilding(false);
+			Request args = Request
+					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+			desc.setMaxConcurrentBuilds(Math.max(1, args.threads));
 			ResourcesPlugin.getWorkspace().setDescription(desc);
 			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
 			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
 
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
-			IProject project = importProject(args.project);
-			if (project == null) {
-				System.err.println("Project not loaded."); //$NON-NLS-1$
+			if (args.requestDirectory == null && args.projects.isEmpty()) {
+				System.err.println("No project given."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
 			IApiBaseline baseline = setBaseline(args.baselinePath);
@@ -127,57 +204,12 @@ public class ApiAnalysisApplication implements IApplication {
 			}
 			setTargetPlatform(args.tpFile);
 
-			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
-			// wait untill all jobs has finished that might be sceduled as part of the
-			// build...
-			while (!Job.getJobManager().isIdle()) {
-				Thread.yield();
-			}
-			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
-			Predicate<IMarker> isAPIMarker = marker -> {
-				try {
-					return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-					return false;
-				}
-			};
-			IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker) //
-					.toArray(IMarker[]::new);
-			IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker.negate()) //
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
-					.toArray(IMarker[]::new);
-			if (allNonAPIErrors.length > 0) {
-				System.err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
-				for (IMarker marker : allNonAPIErrors) {
-					printMarker(marker, "FATAL"); //$NON-NLS-1$
-				}
-				System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
-				return 10;
-			}
-			// errors
-			IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
-					.toArray(IMarker[]::new);
-			System.err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
-			for (IMarker marker : errorMarkers) {
-				printMarker(marker, "API ERROR"); //$NON-NLS-1$
-			}
-			// warnings
-			IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
-					.toArray(IMarker[]::new);
-			System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
-			for (IMarker marker : warningMarkers) {
-				printMarker(marker, "API WARNING"); //$NON-NLS-1$
-			}
-			// fail
-			if (args.failOnError && errorMarkers.length > 0) {
-				return IStatus.ERROR;
+			if (args.requestDirectory != null) {
+				serveRequests(args);
+				return IStatus.OK;
 			}
-			return IStatus.OK;
+			Map<File, Integer> results = analyze(args.projects, args);
+			return results.values().stream().max(Integer::compare).orElse(IStatus.OK);
 		} catch (CoreException e) {
 			System.err.println(e.getStatus());
 			return IStatus.ERROR;
@@ -185,13 +217,204 @@ public class ApiAnalysisApplication implements IApplication {
 			e.printStackTrace();
 			return IStatus.ERROR;
 		} finally {
-			if (restoreOriginalProjectState != null) {
-				restoreOriginalProjectState.run(new NullProgressMonitor());
+			restoreOriginalProjectStates();
+		}
+	}
+
+	/**
+	 * Analyzes the projects listed in the request files appearing in the
+	 * request directory until the shutdown file appears or the application is
+	 * stopped.
+	 */
+	private void serveRequests(Request args) throws IOException, InterruptedException {
+		Path directory = args.requestDirectory.toPath();
+		Files.createDirectories(directory);
+		try (WatchService watcher = directory.getFileSystem().newWatchService()) {
+			directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+			System.out.println("Waiting for requests in " + directory); //$NON-NLS-1$
+			// answered requests that could not be deleted
+			Set<Path> undeletable = new HashSet<>();
+			while (!stopped && !Files.exists(directory.resolve(SHUTDOWN_FILE))) {
+				List<Path> requests;
+				try (Stream<Path> files = Files.list(directory)) {
+					requests = files.filter(file -> file.getFileName().toString().endsWith(REQUEST_EXTENSION))
+							.filter(file -> !undeletable.contains(file)).sorted().toList();
+				}
+				for (Path request : requests) {
+					String name = request.getFileName().toString();
+					Path result = directory.resolve(name.substring(0, name.length() - REQUEST_EXTENSION.length())
+							+ RESULT_EXTENSION);
+					List<String> lines;
+					try {
+						try {
+							Map<File, Integer> results = analyze(readProjectList(request.toFile()), args);
+							lines = results.entrySet().stream()
+									.map(entry -> entry.getValue() + " " + entry.getKey().getAbsolutePath()).toList(); //$NON-NLS-1$
+						} finally {
+							restoreOriginalProjectStates();
+						}
+					} catch (IOException | CoreException | RuntimeException e) {
+						// a failed request must not stop serving the others
+						System.err.println("Request failed: " + request); //$NON-NLS-1$
+						e.printStackTrace();
+						lines = List.of("error " + e); //$NON-NLS-1$
+					}
+					try {
+						Path tmp = directory.resolve(result.getFileName() + ".tmp"); //$NON-NLS-1$
+						Files.write(tmp, lines);
+						// the request is gone before the result appears, so a
+						// client may submit the next one as soon as it sees it
+						Files.delete(request);
+						Files.move(tmp, result, StandardCopyOption.REPLACE_EXISTING);
+					} catch (IOException e) {
+						System.err.println("Result not written: " + result); //$NON-NLS-1$
+						e.printStackTrace();
+						if (Files.exists(request)) {
+							// do not analyze it again and again
+							undeletable.add(request);
+						}
+					}
+				}
+				// also wake up regularly to notice the application being stopped
+				WatchKey key = watcher.poll(1, TimeUnit.SECONDS);
+				if (key != null) {
+					key.pollEvents();
+					key.reset();
+				}
 			}
 		}
 	}
 
-	private static void printMarker(IMarker marker, String type) {
+	/**
+	 * Imports and builds the given projects and prints their problems.
+	 *
+	 * @return the exit code of each project
+	 */
+	private Map<File, Integer> analyze(List<File> projectPaths, Request args) throws CoreException, IOException,
+			InterruptedException {
+		Map<File, Integer> results = new LinkedHashMap<>();
+		Map<File, IProject> projects = new LinkedHashMap<>();
+		for (File projectPath : projectPaths) {
+			IProject project = importProject(projectPath);
+			if (project == null) {
+				System.err.println("Project not loaded: " + projectPath); //$NON-NLS-1$
+				results.put(projectPath, IStatus.ERROR);
+			} else {
+				projects.put(projectPath, project);
+			}
+		}
+		if (projects.isEmpty()) {
+			return results;
+		}
+		IBuildConfiguration[] configs = projects.values().stream().map(project -> {
+			try {
+				return project.getActiveBuildConfig();
+			} catch (CoreException e) {
+				throw new IllegalStateException(e);
+			}
+		}).toArray(IBuildConfiguration[]::new);
+		// independent projects are built concurrently, up to the maximum
+		// number of concurrent builds of the workspace
+		ResourcesPlugin.getWorkspace().build(configs, IncrementalProjectBuilder.FULL_BUILD, false,
+				new NullProgressMonitor());
+		// wait until all jobs have finished that might be scheduled as part of
+		// the build...
+		joinJobs();
+		for (Entry<File, IProject> entry : projects.entrySet()) {
+			IProject project = entry.getValue();
+			if (projects.size() > 1) {
+				System.out.println("Project " + project.getName()); //$NON-NLS-1$
+			}
+			int result = report(project, args.failOnError, System.out, System.err);
+			if (args.reportDirectory != null) {
+				Files.createDirectories(args.reportDirectory.toPath());
+				File reportFile = new File(args.reportDirectory, project.getName() + ".txt"); //$NON-NLS-1$
+				try (PrintStream reportStream = new PrintStream(reportFile, StandardCharsets.UTF_8)) {
+					report(project, args.failOnError, reportStream, reportStream);
+				}
+			}
+			results.put(entry.getKey(), result);
+		}
+		return results;
+	}
+
+	private static void joinJobs() throws InterruptedException {
+		IJobManager jobManager = Job.getJobManager();
+		// jobs of one family may schedule jobs of another family
+		while (Arrays.stream(JOB_FAMILIES).anyMatch(family -> jobManager.find(family).length > 0)) {
+			for (Object family : JOB_FAMILIES) {
+				jobManager.join(family, new NullProgressMonitor());
+			}
+		}
+	}
+
+	/**
+	 * Prints the problems of the given project.
+	 *
+	 * @return the exit code for the project
+	 */
+	private static int report(IProject project, boolean failOnError, PrintStream out, PrintStream err)
+			throws CoreException {
+		IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		Predicate<IMarker> isAPIMarker = marker -> {
+			try {
+				return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+				return false;
+			}
+		};
+		IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker) //
+				.toArray(IMarker[]::new);
+		IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker.negate()) //
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
+				.toArray(IMarker[]::new);
+		if (allNonAPIErrors.length > 0) {
+			err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
+			for (IMarker marker : allNonAPIErrors) {
+				printMarker(marker, "FATAL", out); //$NON-NLS-1$
+			}
+			err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
+			return 10;
+		}
+		// errors
+		IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
+				.toArray(IMarker[]::new);
+		err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
+		for (IMarker marker : errorMarkers) {
+			printMarker(marker, "API ERROR", out); //$NON-NLS-1$
+		}
+		// warnings
+		IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
+				.toArray(IMarker[]::new);
+		out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
+		for (IMarker marker : warningMarkers) {
+			printMarker(marker, "API WARNING", out); //$NON-NLS-1$
+		}
+		// fail
+		if (failOnError && errorMarkers.length > 0) {
+			return IStatus.ERROR;
+		}
+		return IStatus.OK;
+	}
+
+	private void restoreOriginalProjectStates() throws CoreException {
+		for (ICoreRunnable restore : restoreOriginalProjectStates) {
+			restore.run(new NullProgressMonitor());
+		}
+		restoreOriginalProjectStates.clear();
+	}
+
+	private static List<File> readProjectList(File file) throws IOException {
+		return Files.readAllLines(file.toPath()).stream().map(String::trim).filter(line -> !line.isEmpty())
+				.map(File::new).toList();
+	}
+
+	private static void printMarker(IMarker marker, String type, PrintStream out) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
 		int lineNumber = marker.getAttribute(IMarker.LINE_NUMBER, -1);
@@ -200,7 +423,7 @@ public class ApiAnalysisApplication implements IApplication {
 		if (!description.isEmpty()) {
 			message = String.format("%s %s", message, description); //$NON-NLS-1$
 		}
-		System.out.println(String.format("[%s] File %s at line %d: %s (location: %s)", type, file, lineNumber, //$NON-NLS-1$
+		out.println(String.format("[%s] File %s at line %d: %s (location: %s)", type, file, lineNumber, //$NON-NLS-1$
 				message, path));
 	}
 
@@ -240,6 +463,7 @@ public class ApiAnalysisApplication implements IApplication {
 			Job job = new LoadTargetDefinitionJob(target);
 			job.schedule();
 			job.join();
+			joinJobs();
 		}
 	}
 
@@ -367,12 +591,12 @@ public class ApiAnalysisApplication implements IApplication {
 			projectDescription.setBuildSpec(newBuilders);
 			project.setDescription(projectDescription, IResource.NONE, new NullProgressMonitor());
 
-			restoreOriginalProjectState = m -> {
+			restoreOriginalProjectStates.add(m -> {
 				projectFile.setContents(new ByteArrayInputStream(originalContent), IResource.FORCE, m);
 				projectRemover.run(m);
-			};
+			});
 		} else {
-			restoreOriginalProjectState = projectRemover;
+			restoreOriginalProjectStates.add(projectRemover);
 		}
 		return project;
 	}
@@ -389,7 +613,7 @@ public class ApiAnalysisApplication implements IApplication {
 
 	@Override
 	public void stop() {
-		// Nothing to do
+		stopped = true;
 	}
 
 }
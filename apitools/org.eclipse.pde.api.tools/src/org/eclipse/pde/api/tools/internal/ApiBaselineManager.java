@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
@@ -29,6 +30,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
@@ -55,6 +57,7 @@ import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJobRule;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineIndex;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
@@ -219,6 +222,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			try {
+				Files.deleteIfExists(ApiBaselineIndex.getIndexFile(file.toPath()));
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -348,36 +356,39 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	}
 
 	/**
-	 * Writes the current state of the {@link IApiBaseline} as XML to the given file
+	 * Writes the current state of the {@link IApiBaseline} as XML to the given
+	 * file, followed by the binary index next to it that is used to restore
+	 * the baseline without parsing the XML and opening every bundle
 	 */
 	private void writeBaselineDescription(IApiBaseline baseline, Path file) throws CoreException {
-		Document xml = getProfileXML(baseline);
+		List<IApiComponent> components = getPersistedComponents(baseline);
+		Document xml = getProfileXML(baseline, components);
 		try {
 			Util.writeDocumentToFile(xml, file);
 		} catch (IOException e) {
 			throw new CoreException(Status.error("Error writing profile descrition", e)); //$NON-NLS-1$
 		}
+		long time = System.currentTimeMillis();
+		try {
+			ApiBaselineIndex.write(ApiBaselineIndex.getIndexFile(file), getChecksum(Files.readAllBytes(file)), baseline.getLocation(), components);
+		} catch (IOException e) {
+			// the baseline is restored from the XML description instead
+			ApiPlugin.log(Status.warning("Error writing API baseline index for " + baseline.getName(), e)); //$NON-NLS-1$
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to write the index of baseline " + baseline.getName() + ": " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
 	}
 
 	/**
-	 * Returns an XML description of the given baseline.
+	 * Returns the components of the given baseline that are persisted, that is
+	 * all versions of all components except the system components.
 	 *
 	 * @param baseline the given API baseline
-	 * @return XML string representation of the given baseline
-	 * @throws CoreException if an exception occurs while retrieving the xml
-	 *             string representation
+	 * @return the persisted components
 	 */
-	private Document getProfileXML(IApiBaseline baseline) throws CoreException {
-		Document document = Util.newDocument();
-		Element root = document.createElement(IApiXmlConstants.ELEMENT_APIPROFILE);
-		document.appendChild(root);
-		root.setAttribute(IApiXmlConstants.ATTR_NAME, baseline.getName());
-		root.setAttribute(IApiXmlConstants.ATTR_VERSION, IApiXmlConstants.API_PROFILE_CURRENT_VERSION);
-		String location = baseline.getLocation();
-		if (location != null) {
-			root.setAttribute(IApiXmlConstants.ATTR_LOCATION, location);
-		}
-		Element celement = null;
+	private static List<IApiComponent> getPersistedComponents(IApiBaseline baseline) {
+		List<IApiComponent> persisted = new ArrayList<>();
 		IApiComponent[] components = baseline.getApiComponents();
 		for (IApiComponent component : components) {
 			Set<IApiComponent> allComponentSet;
@@ -391,19 +402,57 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 			}
 			for (IApiComponent iApiComponent : allComponentSet) {
 				if (!iApiComponent.isSystemComponent()) {
-					celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					celement.setAttribute(IApiXmlConstants.ATTR_ID, iApiComponent.getSymbolicName());
-					celement.setAttribute(IApiXmlConstants.ATTR_VERSION, iApiComponent.getVersion());
-					celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, IPath.fromOSString(iApiComponent.getLocation()).toPortableString());
-					root.appendChild(celement);
+					persisted.add(iApiComponent);
 				}
 			}
 		}
+		return persisted;
+	}
+
+	private static long getChecksum(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		return crc.getValue();
+	}
+
+	/**
+	 * Returns an XML description of the given baseline.
+	 *
+	 * @param baseline the given API baseline
+	 * @param components the persisted components of the baseline
+	 * @return XML string representation of the given baseline
+	 * @throws CoreException if an exception occurs while retrieving the xml
+	 *             string representation
+	 */
+	private Document getProfileXML(IApiBaseline baseline, List<IApiComponent> components) throws CoreException {
+		Document document = Util.newDocument();
+		Element root = document.createElement(IApiXmlConstants.ELEMENT_APIPROFILE);
+		document.appendChild(root);
+		root.setAttribute(IApiXmlConstants.ATTR_NAME, baseline.getName());
+		root.setAttribute(IApiXmlConstants.ATTR_VERSION, IApiXmlConstants.API_PROFILE_CURRENT_VERSION);
+		String location = baseline.getLocation();
+		if (location != null) {
+			root.setAttribute(IApiXmlConstants.ATTR_LOCATION, location);
+		}
+		Element celement = null;
+		for (IApiComponent component : components) {
+			celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
+			celement.setAttribute(IApiXmlConstants.ATTR_ID, component.getSymbolicName());
+			celement.setAttribute(IApiXmlConstants.ATTR_VERSION, component.getVersion());
+			celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, IPath.fromOSString(component.getLocation()).toPortableString());
+			root.appendChild(celement);
+		}
 		return document;
 	}
 
 	/**
 	 * Restore a baseline from the given input stream (persisted baseline).
+	 * <p>
+	 * If the binary index written next to the persisted baseline matches the
+	 * given description, the components are restored from the index without
+	 * parsing the XML. Otherwise the XML is parsed and the index is only
+	 * consulted for the bundles that did not change since it was written.
+	 * </p>
 	 *
 	 * @param baseline the given baseline to restore
 	 * @param stream   the given input stream
@@ -412,10 +461,23 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public IApiComponent[] readBaselineComponents(ApiBaseline baseline, InputStream stream) throws CoreException {
 		long start = System.currentTimeMillis();
-		DocumentBuilder parser = getConfiguredParser();
 		IApiComponent[] restored = null;
 		try {
-			Document document = parser.parse(stream);
+			byte[] bytes = stream.readAllBytes();
+			ApiBaselineIndex index = getBaselineIndex(baseline);
+			if (index != null && index.getChecksum() == getChecksum(bytes)) {
+				if (index.getLocation() != null) {
+					baseline.setLocation(index.getLocation());
+				}
+				restored = index.createComponents(baseline);
+				Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+				if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+					System.out.println("Time to restore a persisted baseline from its index : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return restored;
+			}
+			DocumentBuilder parser = getConfiguredParser();
+			Document document = parser.parse(new ByteArrayInputStream(bytes));
 			Element root = document.getDocumentElement();
 			if (root.getNodeName().equals(IApiXmlConstants.ELEMENT_APIPROFILE)) {
 				String baselineLocation = root.getAttribute(IApiXmlConstants.ATTR_LOCATION);
@@ -431,7 +493,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					// them
 					if (componentNode.getParentNode().equals(root)) {
 						String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, IPath.fromPortableString(location).toOSString());
+						IApiComponent component = ApiModelFactory.newApiComponent(baseline, IPath.fromPortableString(location).toOSString(), index);
 						if (component != null) {
 							components.add(component);
 						}
@@ -477,6 +539,21 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		return restored;
 	}
 
+	/**
+	 * Returns the binary index persisted for the given baseline.
+	 *
+	 * @param baseline the given baseline
+	 * @return the index or <code>null</code> if there is none or it cannot be
+	 *         read
+	 */
+	private ApiBaselineIndex getBaselineIndex(IApiBaseline baseline) {
+		String filename = handlecache == null ? null : handlecache.get(baseline.getName());
+		if (filename == null) {
+			return null;
+		}
+		return ApiBaselineIndex.read(ApiBaselineIndex.getIndexFile(Path.of(filename)));
+	}
+
 	private static DocumentBuilder getConfiguredParser() throws CoreException {
 		try {
 			@SuppressWarnings("restriction")
@@ -40,6 +40,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
 import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -187,9 +188,14 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	}
 
 	/**
-	 * Flushes the changed element from the model cache
+	 * Flushes the changed element from the model cache and the references
+	 * resolved into or from its project
 	 */
 	void flushElementCache(IJavaElement element) {
+		IJavaProject project = element.getJavaProject();
+		if (project != null) {
+			ReferenceResolver.projectChanged(project);
+		}
 		switch (element.getElementType()) {
 			case IJavaElement.COMPILATION_UNIT -> {
 				ICompilationUnit unit = (ICompilationUnit) element;
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A thread safe, approximately least recently used cache that does not lock on
+ * lookups.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap} and stamped with the time
+ * of their last access. Once the cache holds more than
+ * <code>size + overflow</code> entries, a single thread evicts the least
+ * recently accessed entries in one batch until the cache is a tenth below
+ * <code>size</code>, other threads never wait for the eviction. The entries to
+ * evict are picked without sorting the whole cache, and as each eviction frees
+ * room for the overflow plus a tenth of the size, evictions run rarely once the
+ * cache is full. Like in an overflowing LRU cache,
+ * {@link #close(Object, Object)} is consulted before an entry is evicted,
+ * entries that cannot be closed stay in the cache and are reported by
+ * {@link #getOverflow()}.
+ * </p>
+ */
+public class ConcurrentOverflowingLRUCache<K, V> {
+
+	/**
+	 * A cached value and the time of its last access
+	 */
+	private static final class Entry<V> {
+		final V value;
+		volatile long lastAccess;
+
+		Entry(V value) {
+			this.value = value;
+			this.lastAccess = System.nanoTime();
+		}
+
+		V touch() {
+			lastAccess = System.nanoTime();
+			return value;
+		}
+	}
+
+	/**
+	 * An entry considered for eviction
+	 */
+	private record Candidate<K, V>(K key, Entry<V> entry, long lastAccess) {
+	}
+
+	private final ConcurrentHashMap<K, Entry<V>> fEntries;
+	private final ReentrantLock fEvictionLock = new ReentrantLock();
+	private volatile int fSpaceLimit;
+	private final int fAllowedOverflow;
+	private volatile int fOverflow = 0;
+
+	/**
+	 * Creates a cache holding up to <code>size</code> entries, an additional
+	 * tenth of the size is tolerated before entries are evicted.
+	 *
+	 * @param size the maximum number of entries
+	 */
+	public ConcurrentOverflowingLRUCache(int size) {
+		this(size, Math.max(1, size / 10));
+	}
+
+	/**
+	 * Creates a cache holding up to <code>size</code> entries.
+	 *
+	 * @param size the maximum number of entries
+	 * @param overflow the number of entries tolerated above the size before
+	 *            entries are evicted, a higher value reduces how often
+	 *            evictions run
+	 */
+	public ConcurrentOverflowingLRUCache(int size, int overflow) {
+		fSpaceLimit = Math.max(1, size);
+		fAllowedOverflow = Math.max(0, overflow);
+		fEntries = new ConcurrentHashMap<>(Math.min(fSpaceLimit + fAllowedOverflow, 1 << 12));
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as recently
+	 * used.
+	 *
+	 * @param key the key
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		Entry<V> entry = fEntries.get(key);
+		return entry == null ? null : entry.touch();
+	}
+
+	/**
+	 * Caches the given value.
+	 *
+	 * @param key the key
+	 * @param value the value, not <code>null</code>
+	 * @return the previously cached value or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Entry<V> previous = fEntries.put(key, new Entry<>(value));
+		makeSpace();
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * Returns the value cached for the given key, computing and caching it
+	 * with the given function if there is none. The function is called at most
+	 * once per missing key even if several threads ask for it concurrently.
+	 *
+	 * @param key the key
+	 * @param function computes the value, must not access this cache
+	 * @return the cached or computed value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+		Entry<V> entry = fEntries.get(key);
+		if (entry != null) {
+			return entry.touch();
+		}
+		boolean[] added = new boolean[1];
+		entry = fEntries.computeIfAbsent(key, k -> {
+			V value = function.apply(key);
+			if (value == null) {
+				return null;
+			}
+			added[0] = true;
+			return new Entry<>(value);
+		});
+		if (entry == null) {
+			return null;
+		}
+		if (added[0]) {
+			makeSpace();
+		}
+		return entry.touch();
+	}
+
+	/**
+	 * Removes the value cached for the given key.
+	 * {@link #close(Object, Object)} is not called.
+	 *
+	 * @param key the key
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Entry<V> entry = fEntries.remove(key);
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * Removes all entries. {@link #close(Object, Object)} is not called.
+	 */
+	public void flush() {
+		fEntries.clear();
+		fOverflow = 0;
+	}
+
+	/**
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	/**
+	 * @return the number of cached entries
+	 */
+	public int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return a snapshot of the keys in the cache
+	 */
+	public List<K> keysSnapshot() {
+		return new ArrayList<>(fEntries.keySet());
+	}
+
+	/**
+	 * @return a snapshot of the values in the cache
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> values = new ArrayList<>(fEntries.size());
+		for (Entry<V> entry : fEntries.values()) {
+			values.add(entry.value);
+		}
+		return values;
+	}
+
+	/**
+	 * @return the maximum number of entries
+	 */
+	public int getSpaceLimit() {
+		return fSpaceLimit;
+	}
+
+	/**
+	 * Sets the maximum number of entries, evicting entries if the cache
+	 * currently holds more than the new limit plus the allowed overflow.
+	 *
+	 * @param limit the maximum number of entries
+	 */
+	public void setSpaceLimit(int limit) {
+		fSpaceLimit = Math.max(1, limit);
+		makeSpace();
+	}
+
+	/**
+	 * @return the number of entries that could not be closed during the last
+	 *         eviction
+	 */
+	public int getOverflow() {
+		return fOverflow;
+	}
+
+	/**
+	 * Called before the given entry is evicted to make space. Returns whether
+	 * the entry could be closed and may be evicted, subclasses can veto the
+	 * eviction of entries still in use or release resources held by the value.
+	 *
+	 * @param key the key of the entry
+	 * @param value the value of the entry
+	 * @return <code>true</code> if the entry may be evicted
+	 */
+	protected boolean close(K key, V value) {
+		return true;
+	}
+
+	/**
+	 * Evicts the least recently used entries down to the low-water mark if the
+	 * cache exceeds its limit plus the allowed overflow. Entries that could not
+	 * be closed are not counted against the limit until the next eviction, so
+	 * they do not cause an eviction on every insert. Only one thread evicts at
+	 * a time, others continue without waiting.
+	 */
+	private void makeSpace() {
+		int limit = fSpaceLimit;
+		if (fEntries.size() <= limit + fAllowedOverflow + fOverflow || !fEvictionLock.tryLock()) {
+			return;
+		}
+		try {
+			int lowWater = limit - limit / 10;
+			int count = fEntries.size() - lowWater;
+			if (count <= 0) {
+				return;
+			}
+			// keep the oldest entries in a heap with the most recent one on top,
+			// the access times are snapshot as they may change meanwhile
+			PriorityQueue<Candidate<K, V>> oldest = new PriorityQueue<>(count,
+					Comparator.comparingLong((Candidate<K, V> c) -> c.lastAccess()).reversed());
+			fEntries.forEach((key, entry) -> {
+				long lastAccess = entry.lastAccess;
+				if (oldest.size() < count) {
+					oldest.add(new Candidate<>(key, entry, lastAccess));
+				} else if (lastAccess < oldest.peek().lastAccess()) {
+					oldest.poll();
+					oldest.add(new Candidate<>(key, entry, lastAccess));
+				}
+			});
+			int overflow = 0;
+			for (Candidate<K, V> candidate : oldest) {
+				if (close(candidate.key(), candidate.entry().value)) {
+					fEntries.remove(candidate.key(), candidate.entry());
+				} else {
+					overflow++;
+				}
+			}
+			fOverflow = overflow;
+		} finally {
+			fEvictionLock.unlock();
+		}
+	}
+}
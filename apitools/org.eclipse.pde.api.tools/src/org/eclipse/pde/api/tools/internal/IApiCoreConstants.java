@@ -74,6 +74,12 @@ public interface IApiCoreConstants {
 	 */
 	public static final String API_USE_SCAN_LOCATION = "API_USE_SCAN_LOCATION"; //$NON-NLS-1$
 
+	/**
+	 * Preference to store the size of the shared class file cache in
+	 * megabytes, <code>0</code> disables the cache
+	 */
+	public static final String CLASS_FILE_CACHE_SIZE = "CLASS_FILE_CACHE_SIZE"; //$NON-NLS-1$
+
 	/**
 	 * Constant representing <code>XML</code>
 	 */
@@ -38,7 +38,6 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
 import org.eclipse.jdt.core.dom.ITypeBinding;
@@ -141,6 +140,12 @@ public abstract class AbstractProblemDetector implements IApiProblemDetector {
 	 */
 	private final List<IReference> fPotentialProblems = new LinkedList<>();
 
+	/**
+	 * The ASTs of the compilation units enclosing methods are looked up in
+	 * while creating problems
+	 */
+	private final CompilationUnitAsts fAsts = new CompilationUnitAsts();
+
 	/**
 	 * Retains the reference for further analysis.
 	 *
@@ -495,31 +500,35 @@ public abstract class AbstractProblemDetector implements IApiProblemDetector {
 		List<IApiProblem> problems = new LinkedList<>();
 		Iterator<IReference> iterator = references.iterator();
 		SubMonitor loopMonitor = SubMonitor.convert(monitor, references.size());
-		while (iterator.hasNext() && !monitor.isCanceled()) {
-			loopMonitor.split(1);
-			IReference reference = iterator.next();
-			if (reference.getResolvedReference() == null) {
-				// unresolved reference ignore it
-			} else {
-				if (isProblem(reference, monitor)) {
-					IApiComponent component = reference.getMember().getApiComponent();
-					try {
-						IApiProblem problem = null;
-						if (component instanceof ProjectComponent ppac) {
-							IJavaProject project = ppac.getJavaProject();
-							problem = createProblem(reference, project);
-						} else {
-							problem = createProblem(reference);
-						}
-						if (problem != null) {
-							problems.add(problem);
+		try {
+			while (iterator.hasNext() && !monitor.isCanceled()) {
+				loopMonitor.split(1);
+				IReference reference = iterator.next();
+				if (reference.getResolvedReference() == null) {
+					// unresolved reference ignore it
+				} else {
+					if (isProblem(reference, monitor)) {
+						IApiComponent component = reference.getMember().getApiComponent();
+						try {
+							IApiProblem problem = null;
+							if (component instanceof ProjectComponent ppac) {
+								IJavaProject project = ppac.getJavaProject();
+								problem = createProblem(reference, project);
+							} else {
+								problem = createProblem(reference);
+							}
+							if (problem != null) {
+								problems.add(problem);
+							}
+						} catch (CoreException e) {
+							ApiPlugin.log(e.getStatus());
+							checkIfDisposed(component, monitor);
 						}
-					} catch (CoreException e) {
-						ApiPlugin.log(e.getStatus());
-						checkIfDisposed(component, monitor);
 					}
 				}
 			}
+		} finally {
+			fAsts.clear();
 		}
 		return problems;
 	}
@@ -727,12 +736,7 @@ public abstract class AbstractProblemDetector implements IApiProblemDetector {
 				}
 				if (method == null) {
 					// look it up the hard way
-					ISourceRange range = jtype.getCompilationUnit().getSourceRange();
-					ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-					parser.setSource(jtype.getCompilationUnit());
-					parser.setSourceRange(range.getOffset(), range.getLength());
-					parser.setResolveBindings(true);
-					ASTNode ptype = parser.createAST(null);
+					ASTNode ptype = fAsts.getResolved(jtype.getCompilationUnit());
 					MethodFinder finder = new MethodFinder(type, jtype);
 					ptype.accept(finder);
 					method = finder.method;
@@ -915,7 +915,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * Creates or removes markers, uses the current project rule.
 	 * The tasks to do are maintained by markersQueue and executed in the submission order
 	 */
-	class ApiAnalysisMarkersJob extends WorkspaceJob {
+	public class ApiAnalysisMarkersJob extends WorkspaceJob {
 
 		public ApiAnalysisMarkersJob(Runnable task) {
 			super("Updating API analysis markers on " + currentproject.getName()); //$NON-NLS-1$
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -47,7 +48,6 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
@@ -61,12 +61,8 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IParent;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeRoot;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.CharOperation;
-import org.eclipse.jdt.core.dom.AST;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.BinaryType;
 import org.eclipse.jface.text.BadLocationException;
@@ -149,6 +145,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private ArrayList<IApiProblem> fProblems = new ArrayList<>(25);
 
+	/**
+	 * The ASTs of the compilation units problems are reported for during an
+	 * analysis
+	 */
+	private final CompilationUnitAsts fAsts = new CompilationUnitAsts();
+
 	/**
 	 * List of pending deltas for which the @since tags should be checked
 	 */
@@ -310,6 +312,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Trapped OperationCanceledException"); //$NON-NLS-1$
 			}
+		} finally {
+			fAsts.clear();
 		}
 	}
 
@@ -889,20 +893,32 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Creates and AST for the given {@link ITypeRoot} at the given offset
+	 * Returns the AST of the declarations of the given
+	 * {@link ICompilationUnit}, parsed at most once per analysis
 	 */
-	private CompilationUnit createAST(ITypeRoot root, int offset) {
+	private CompilationUnit createAST(ICompilationUnit unit) {
 		if (fJavaProject == null) {
 			return null;
 		}
-		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-		parser.setFocalPosition(offset);
-		parser.setResolveBindings(false);
-		parser.setSource(root);
-		Map<String, String> options = fJavaProject.getOptions(true);
-		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-		parser.setCompilerOptions(options);
-		return (CompilationUnit) parser.createAST(new NullProgressMonitor());
+		return fAsts.getDeclarations(unit);
+	}
+
+	/**
+	 * Parses the compilation units of the pending deltas in one batch before
+	 * their since tags are checked one by one
+	 */
+	private void prepareSinceTagChecks() {
+		if (fJavaProject == null || ignoreSinceTagCheck(null)) {
+			return;
+		}
+		Set<ICompilationUnit> units = new LinkedHashSet<>();
+		for (IDelta d : fPendingDeltaInfos) {
+			IMember member = Util.getIMember(d, fJavaProject);
+			if (member != null && !member.isBinary() && member.getCompilationUnit() != null) {
+				units.add(member.getCompilationUnit());
+			}
+		}
+		fAsts.prepare(units);
 	}
 
 	/**
@@ -981,6 +997,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		if (fBuildState != null) {
 			fBuildState = null;
 		}
+		fAsts.clear();
 	}
 
 	/**
@@ -1126,40 +1143,47 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		if (tags && annotations) {
 			return;
 		}
-		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_validating_javadoc_tags, 1);
+		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_validating_javadoc_tags, 2);
+		// collect the compilation units first to parse them in batches
+		Set<ICompilationUnit> units = new LinkedHashSet<>();
 		if (context.hasTypes()) {
 			String[] typenames = context.getStructurallyChangedTypes();
-			localMonitor.setWorkRemaining(typenames.length);
+			SubMonitor typeMonitor = localMonitor.split(1).setWorkRemaining(typenames.length);
 			for (String typename : typenames) {
 				if (typename == null) {
 					continue;
 				}
-				localMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, typename));
-				processType(typename, !tags, !annotations);
-				localMonitor.split(1);
+				typeMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, typename));
+				collectType(typename, units);
+				typeMonitor.split(1);
 			}
 		} else {
 			try {
 				IPackageFragmentRoot[] roots = fJavaProject.getPackageFragmentRoots();
 
-				localMonitor.setWorkRemaining(roots.length);
+				SubMonitor rootMonitor = localMonitor.split(1).setWorkRemaining(roots.length);
 				for (IPackageFragmentRoot root : roots) {
 					if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
-						localMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, root.getPath().toOSString()));
-						scanSource(root, !tags, !annotations, localMonitor.split(1));
+						rootMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, root.getPath().toOSString()));
+						scanSource(root, units, rootMonitor.split(1));
 					}
 				}
 			} catch (JavaModelException jme) {
 				ApiPlugin.log(jme);
 			}
 		}
+		SubMonitor unitMonitor = localMonitor.split(1).setWorkRemaining(units.size());
+		fAsts.forEachDeclarations(units, (unit, comp) -> {
+			processType(unit, comp, !tags, !annotations);
+			unitMonitor.split(1);
+		});
 	}
 
 	/**
-	 * Recursively finds all source in the given project and scans it for
-	 * invalid tags
+	 * Recursively finds all source in the given project to scan it for invalid
+	 * tags
 	 */
-	private void scanSource(IJavaElement element, boolean tags, boolean annotations, IProgressMonitor monitor) throws JavaModelException {
+	private void scanSource(IJavaElement element, Set<ICompilationUnit> units, IProgressMonitor monitor) throws JavaModelException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor);
 		switch (element.getElementType()) {
 			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
@@ -1168,13 +1192,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				IJavaElement[] children = parent.getChildren();
 				subMonitor.setWorkRemaining(children.length);
 				for (IJavaElement javaElement : children) {
-					scanSource(javaElement, tags, annotations, subMonitor.split(1));
+					scanSource(javaElement, units, subMonitor.split(1));
 				}
 				break;
 			}
 			case IJavaElement.COMPILATION_UNIT: {
-				ICompilationUnit unit = (ICompilationUnit) element;
-				processType(unit, tags, annotations);
+				units.add((ICompilationUnit) element);
 				break;
 			}
 			default:
@@ -1183,9 +1206,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Processes the given type name for invalid Javadoc tags
+	 * Collects the compilation unit of the given type name to scan it for
+	 * invalid Javadoc tags
 	 */
-	private void processType(String typename, boolean tags, boolean annotations) {
+	private void collectType(String typename, Set<ICompilationUnit> units) {
 		try {
 			IType type = fJavaProject.findType(typename);
 			IType typeInProject = Util.getTypeInSameJavaProject(type, typename, fJavaProject);
@@ -1197,7 +1221,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				// unit
 				ICompilationUnit cunit = type.getCompilationUnit();
 				if (cunit != null) {
-					processType(cunit, tags, annotations);
+					units.add(cunit);
 				}
 			}
 		} catch (JavaModelException e) {
@@ -1208,11 +1232,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	/**
 	 * Processes the given {@link ICompilationUnit} for invalid tags
 	 */
-	private void processType(ICompilationUnit cunit, boolean tags, boolean annotations) {
-		CompilationUnit comp = createAST(cunit, 0);
-		if (comp == null) {
-			return;
-		}
+	private void processType(ICompilationUnit cunit, CompilationUnit comp, boolean tags, boolean annotations) {
 		TagValidator tv = new TagValidator(cunit, tags, annotations);
 		comp.accept(tv);
 		IApiProblem[] tagProblems = tv.getProblems();
@@ -1234,6 +1254,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Ignoring API usage scan"); //$NON-NLS-1$
 			}
+			if (fBuildState != null) {
+				// references of changed types are not recorded anymore
+				fBuildState.discardTypeReferences();
+			}
 			return;
 		}
 		IApiTypeContainer scope = null;
@@ -1245,9 +1269,16 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			scope = getSearchScope(component, typenames);
 		} else {
 			scope = getSearchScope(component, null); // entire component
+			if (fBuildState != null) {
+				// all types are scanned, index their references from scratch
+				fBuildState.resetTypeReferences();
+			}
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, MessageFormat.format(BuilderMessages.checking_api_usage, component.getSymbolicName()), 2);
 		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		if (fBuildState != null && fBuildState.hasTypeReferences()) {
+			analyzer.setBuildState(fBuildState);
+		}
 		try {
 			long start = System.currentTimeMillis();
 			IApiProblem[] illegal = analyzer.analyze(component, scope, localMonitor.split(2));
@@ -1431,6 +1462,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (!fPendingDeltaInfos.isEmpty()) {
 				SubMonitor checkLoopMonitor = subMonitor.split(1).setWorkRemaining(fPendingDeltaInfos.size());
 				subMonitor.subTask(BuilderMessages.BaseApiAnalyzer_checking_since_tags);
+				prepareSinceTagChecks();
 				for (IDelta d : fPendingDeltaInfos) {
 					checkLoopMonitor.split(1);
 					checkSinceTags((Delta) d, component);
@@ -1474,6 +1506,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				localmonitor.subTask(BuilderMessages.BaseApiAnalyzer_checking_since_tags);
 				SubMonitor checkLoopMonitor = localmonitor.split(1).setWorkRemaining(fPendingDeltaInfos.size());
 				if (!fPendingDeltaInfos.isEmpty()) {
+					prepareSinceTagChecks();
 					for (IDelta d : fPendingDeltaInfos) {
 						checkLoopMonitor.split(1);
 						checkSinceTags((Delta) d, component);
@@ -1574,7 +1607,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 		try {
 			int offset = nameRange.getOffset();
-			CompilationUnit comp = createAST(cunit, offset);
+			CompilationUnit comp = createAST(cunit);
 			if (comp == null) {
 				return;
 			}
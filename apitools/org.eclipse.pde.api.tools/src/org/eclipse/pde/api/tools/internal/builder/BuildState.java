@@ -59,7 +59,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 34;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,6 +78,18 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Map of the top-level types of the project to the top-level types they
+	 * reference, or <code>null</code> if the references of the project have
+	 * not been indexed
+	 *
+	 * @since 1.3.800
+	 */
+	private Map<String, Set<String>> typeReferences;
+	/**
+	 * Reverse of {@link #typeReferences}, computed on demand and not persisted
+	 */
+	private Map<String, Set<String>> typeReferrers;
 
 	/**
 	 * Constructor
@@ -155,6 +167,9 @@ public class BuildState {
 					}
 					state.setBuildPropertiesState(map);
 				}
+				if (in.readBoolean()) {
+					readTypeReferences(state, in);
+				}
 			}
 			return state;
 		}
@@ -210,6 +225,59 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		out.writeBoolean(state.typeReferences != null);
+		if (state.typeReferences != null) {
+			writeTypeReferences(state, out);
+		}
+	}
+
+	/**
+	 * Reads the indexed type references. Type names are written once to a
+	 * table and referred to by their position in the table.
+	 */
+	private static void readTypeReferences(BuildState state, DataInputStream in) throws IOException {
+		String[] names = new String[in.readInt()];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = in.readUTF();
+		}
+		int count = in.readInt();
+		Map<String, Set<String>> references = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			String referrer = names[in.readInt()];
+			int length = in.readInt();
+			Set<String> referenced = new HashSet<>(length * 2);
+			for (int j = 0; j < length; j++) {
+				referenced.add(names[in.readInt()]);
+			}
+			references.put(referrer, referenced);
+		}
+		state.typeReferences = references;
+	}
+
+	/**
+	 * Writes the indexed type references, see
+	 * {@link #readTypeReferences(BuildState, DataInputStream)}
+	 */
+	private static void writeTypeReferences(BuildState state, DataOutputStream out) throws IOException {
+		Map<String, Integer> names = new LinkedHashMap<>();
+		for (Entry<String, Set<String>> entry : state.typeReferences.entrySet()) {
+			names.putIfAbsent(entry.getKey(), names.size());
+			for (String referenced : entry.getValue()) {
+				names.putIfAbsent(referenced, names.size());
+			}
+		}
+		out.writeInt(names.size());
+		for (String name : names.keySet()) {
+			out.writeUTF(name);
+		}
+		out.writeInt(state.typeReferences.size());
+		for (Entry<String, Set<String>> entry : state.typeReferences.entrySet()) {
+			out.writeInt(names.get(entry.getKey()));
+			out.writeInt(entry.getValue().size());
+			for (String referenced : entry.getValue()) {
+				out.writeInt(names.get(referenced));
+			}
+		}
 	}
 
 	/**
@@ -371,6 +439,105 @@ public class BuildState {
 		this.breakingChanges.remove(typeName);
 		this.compatibleChanges.remove(typeName);
 		this.reexportedComponents = null;
+		if (this.typeReferences != null && this.typeReferences.remove(getTopLevelTypeName(typeName)) != null) {
+			this.typeReferrers = null;
+		}
+	}
+
+	/**
+	 * Starts a new index of the type references of the project, discarding
+	 * the current one. Called before the references of all types of the
+	 * project are recorded.
+	 *
+	 * @since 1.3.800
+	 */
+	public void resetTypeReferences() {
+		this.typeReferences = new HashMap<>();
+		this.typeReferrers = null;
+	}
+
+	/**
+	 * Discards the index of the type references of the project, for example
+	 * when the references of changed types could not be recorded.
+	 *
+	 * @since 1.3.800
+	 */
+	public void discardTypeReferences() {
+		this.typeReferences = null;
+		this.typeReferrers = null;
+	}
+
+	/**
+	 * @return <code>true</code> if the references of all types of the project
+	 *         are indexed
+	 * @since 1.3.800
+	 */
+	public boolean hasTypeReferences() {
+		return this.typeReferences != null;
+	}
+
+	/**
+	 * Records the types referenced by the given type of the project, replacing
+	 * the ones previously recorded for it. Does nothing if the references of
+	 * the project are not indexed.
+	 *
+	 * @param typeName the qualified name of a type of the project
+	 * @param referencedTypes the qualified names of the types it references
+	 * @since 1.3.800
+	 */
+	public void setTypeReferences(String typeName, Set<String> referencedTypes) {
+		if (this.typeReferences == null) {
+			return;
+		}
+		String referrer = getTopLevelTypeName(typeName);
+		Set<String> referenced = new HashSet<>(referencedTypes.size() * 2);
+		for (String type : referencedTypes) {
+			String name = getTopLevelTypeName(type);
+			if (!name.equals(referrer)) {
+				referenced.add(name);
+			}
+		}
+		this.typeReferences.put(referrer, referenced);
+		this.typeReferrers = null;
+	}
+
+	/**
+	 * Returns the types of the project that reference the given type, or
+	 * <code>null</code> if the references of the project are not indexed.
+	 *
+	 * @param typeName the qualified name of a type, separated by dots or
+	 *            slashes
+	 * @return the qualified names of the top-level types referencing the type,
+	 *         or <code>null</code>
+	 * @since 1.3.800
+	 */
+	public Set<String> getTypeReferrers(String typeName) {
+		if (this.typeReferences == null) {
+			return null;
+		}
+		if (this.typeReferrers == null) {
+			Map<String, Set<String>> referrers = new HashMap<>();
+			for (Entry<String, Set<String>> entry : this.typeReferences.entrySet()) {
+				for (String referenced : entry.getValue()) {
+					referrers.computeIfAbsent(referenced, k -> new HashSet<>(4)).add(entry.getKey());
+				}
+			}
+			this.typeReferrers = referrers;
+		}
+		return this.typeReferrers.getOrDefault(getTopLevelTypeName(typeName), Collections.emptySet());
+	}
+
+	/**
+	 * Returns the dot qualified name of the top-level type of the given type
+	 *
+	 * @param typeName a type name qualified by dots or slashes, possibly the
+	 *            name of a member type
+	 * @return the dot qualified top-level type name
+	 */
+	private static String getTopLevelTypeName(String typeName) {
+		String name = typeName.replace('/', '.');
+		int index = name.indexOf('$');
+		return index > 0 ? name.substring(0, index) : name;
 	}
 
 	/**
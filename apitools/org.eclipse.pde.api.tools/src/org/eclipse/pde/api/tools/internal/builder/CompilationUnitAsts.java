@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * The ASTs of the compilation units that problems are reported for during
+ * one analysis, used to compute the source positions of the problems.
+ * <p>
+ * A compilation unit is parsed at most once per analysis no matter how many
+ * problems are reported for it. The units of all known problems can be parsed
+ * in one batch by {@link #prepare(Collection)} before the problems are
+ * created. Declaration ASTs carry Javadoc but no bindings and skip method
+ * bodies, which the tag checks do not need.
+ * </p>
+ * <p>
+ * Resolved ASTs are large, so only those of the last few units asked for are
+ * kept. The problems of a unit are created one after the other, so this is
+ * enough to build each of them once.
+ * </p>
+ */
+final class CompilationUnitAsts {
+
+	/**
+	 * Number of compilation units parsed in one batch when they are not
+	 * retained
+	 */
+	private static final int BATCH_SIZE = 100;
+
+	/**
+	 * Number of resolved ASTs retained
+	 */
+	private static final int RESOLVED_RETAINED = 2;
+
+	private final Map<ICompilationUnit, CompilationUnit> fDeclarations = new HashMap<>();
+	private final Map<ICompilationUnit, CompilationUnit> fResolved = new LinkedHashMap<>(4, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<ICompilationUnit, CompilationUnit> eldest) {
+			return size() > RESOLVED_RETAINED;
+		}
+	};
+
+	/**
+	 * Parses the declarations of the given compilation units that were not
+	 * parsed yet and retains them for
+	 * {@link #getDeclarations(ICompilationUnit)}.
+	 *
+	 * @param units the compilation units to parse
+	 */
+	void prepare(Collection<ICompilationUnit> units) {
+		List<ICompilationUnit> missing = new ArrayList<>(units.size());
+		for (ICompilationUnit unit : units) {
+			if (!fDeclarations.containsKey(unit)) {
+				missing.add(unit);
+			}
+		}
+		parseDeclarations(missing, fDeclarations::put);
+	}
+
+	/**
+	 * Passes the declaration ASTs of the given compilation units to the given
+	 * consumer. Prepared ASTs are reused, the other units are parsed in
+	 * batches and not retained.
+	 *
+	 * @param units the compilation units to parse
+	 * @param consumer receives each unit and its AST
+	 */
+	void forEachDeclarations(Collection<ICompilationUnit> units, BiConsumer<ICompilationUnit, CompilationUnit> consumer) {
+		List<ICompilationUnit> batch = new ArrayList<>(BATCH_SIZE);
+		for (ICompilationUnit unit : units) {
+			CompilationUnit prepared = fDeclarations.get(unit);
+			if (prepared != null) {
+				consumer.accept(unit, prepared);
+				continue;
+			}
+			batch.add(unit);
+			if (batch.size() == BATCH_SIZE) {
+				parseDeclarations(batch, consumer);
+				batch.clear();
+			}
+		}
+		parseDeclarations(batch, consumer);
+	}
+
+	/**
+	 * Returns the declaration AST of the given compilation unit, parsing it if
+	 * it was not prepared.
+	 *
+	 * @param unit the compilation unit
+	 * @return the AST or <code>null</code> if the unit could not be parsed
+	 */
+	CompilationUnit getDeclarations(ICompilationUnit unit) {
+		if (!fDeclarations.containsKey(unit)) {
+			prepare(List.of(unit));
+		}
+		return fDeclarations.get(unit);
+	}
+
+	/**
+	 * Returns the complete AST of the given compilation unit with bindings.
+	 * Only the ASTs of the last units asked for are retained.
+	 *
+	 * @param unit the compilation unit
+	 * @return the AST
+	 * @throws JavaModelException if the source range of the unit is not
+	 *             available
+	 */
+	CompilationUnit getResolved(ICompilationUnit unit) throws JavaModelException {
+		CompilationUnit ast = fResolved.get(unit);
+		if (ast == null) {
+			ISourceRange range = unit.getSourceRange();
+			ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+			parser.setSource(unit);
+			parser.setSourceRange(range.getOffset(), range.getLength());
+			parser.setResolveBindings(true);
+			ast = (CompilationUnit) parser.createAST(null);
+			fResolved.put(unit, ast);
+		}
+		return ast;
+	}
+
+	/**
+	 * Releases all ASTs.
+	 */
+	void clear() {
+		fDeclarations.clear();
+		fResolved.clear();
+	}
+
+	private static void parseDeclarations(List<ICompilationUnit> units,
+			BiConsumer<ICompilationUnit, CompilationUnit> consumer) {
+		if (units.isEmpty()) {
+			return;
+		}
+		// the compiler options are those of the project, so parse each
+		// project's units together
+		Map<IJavaProject, List<ICompilationUnit>> byProject = new LinkedHashMap<>();
+		for (ICompilationUnit unit : units) {
+			byProject.computeIfAbsent(unit.getJavaProject(), p -> new ArrayList<>()).add(unit);
+		}
+		byProject.forEach((project, projectUnits) -> {
+			ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+			parser.setResolveBindings(false);
+			parser.setIgnoreMethodBodies(true);
+			if (project != null) {
+				Map<String, String> options = project.getOptions(true);
+				options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+				parser.setCompilerOptions(options);
+			}
+			parser.createASTs(projectUnits.toArray(new ICompilationUnit[projectUnits.size()]), new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					consumer.accept(source, ast);
+				}
+			}, new NullProgressMonitor());
+		});
+	}
+}
@@ -234,7 +234,7 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
-			buildContext(project, state, visitor.changes, depprojects);
+			buildContext(project, state, buildstate, visitor.changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
 			// do nothing, but don't forward it
@@ -361,9 +361,10 @@ public class IncrementalApiBuilder {
 	 *
 	 * @param project the current project being built
 	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
 	 * @param list of changes
 	 */
-	void buildContext(final IProject project, State state, List<Change> changes, HashSet<IProject> depprojects) {
+	void buildContext(final IProject project, State state, BuildState buildstate, List<Change> changes, HashSet<IProject> depprojects) {
 		StringSet structural = null;
 		StringSet description = null;
 		for (Change change : changes) {
@@ -419,19 +420,19 @@ public class IncrementalApiBuilder {
 		if (changes.size() == 1 && structural != null && description != null) {
 			String[] types = structural.values;
 			if (types.length > 0) {
-				addDependents(project, state, types, STRUCTURAL | DESCRIPTION);
+				addDependents(project, state, buildstate, types, STRUCTURAL | DESCRIPTION);
 			}
 		} else {
 			if (structural != null) {
 				String[] types = structural.values;
 				if (types.length > 0) {
-					addDependents(project, state, types, STRUCTURAL);
+					addDependents(project, state, buildstate, types, STRUCTURAL);
 				}
 			}
 			if (description != null) {
 				String[] types = description.values;
 				if (types.length > 0) {
-					addDependents(project, state, types, DESCRIPTION);
+					addDependents(project, state, buildstate, types, DESCRIPTION);
 				}
 			}
 		}
@@ -439,15 +440,21 @@ public class IncrementalApiBuilder {
 
 	/**
 	 * Adds the dependent files from the current build context based on the
-	 * current JDT build state to either the structural or description
-	 * dependents.
+	 * type references recorded in the API tools build state, or on the
+	 * current JDT build state if the references of the project are not
+	 * indexed, to either the structural or description dependents.
 	 *
 	 * @param project the current project being built
 	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
 	 * @param types dot and $ qualified names of base types that changed
 	 * @param kind mask of STRUCTURAL or DESCRIPTION
 	 */
-	private void addDependents(final IProject project, State state, String[] types, int kind) {
+	private void addDependents(final IProject project, State state, BuildState buildstate, String[] types, int kind) {
+		if (buildstate != null && buildstate.hasTypeReferences()) {
+			addIndexedDependents(project, state, buildstate, types, kind);
+			return;
+		}
 		StringSet packages = new StringSet(16);
 		StringSet typenames = new StringSet(16);
 		for (String type : types) {
@@ -484,6 +491,40 @@ public class IncrementalApiBuilder {
 		}
 	}
 
+	/**
+	 * Adds the source files of the types of the project that reference one of
+	 * the given types according to the API tools build state.
+	 *
+	 * @param project the current project being built
+	 * @param state the current JDT build state
+	 * @param buildstate the current API tools build state
+	 * @param types dot and $ qualified names of base types that changed
+	 * @param kind mask of STRUCTURAL or DESCRIPTION
+	 */
+	private void addIndexedDependents(final IProject project, State state, BuildState buildstate, String[] types, int kind) {
+		Set<String> locators = new HashSet<>();
+		for (String type : types) {
+			if (type == null) {
+				continue;
+			}
+			for (String referrer : buildstate.getTypeReferrers(type)) {
+				String locator = state.typeLocators.get(referrer.replace('.', '/'));
+				if (locator != null && locators.add(locator)) {
+					if (ApiPlugin.DEBUG_BUILDER) {
+						System.out.println("ApiAnalysisBuilder:   " + referrer + " references " + type); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				}
+			}
+		}
+		for (String locator : locators) {
+			IFile file = project.getFile(locator);
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisBuilder:   adding affected source file " + file.getName()); //$NON-NLS-1$
+			}
+			addDependentTypeToContext(file, kind);
+		}
+	}
+
 	/**
 	 * Adds a type to search for dependents of in considered projects for an
 	 * incremental build
@@ -641,6 +641,24 @@ public class Reference implements IReference {
 		fResolved = resolution;
 	}
 
+	/**
+	 * Sets a resolution that was found for an equal reference before, as if
+	 * it was found by {@link #resolve()}.
+	 *
+	 * @param resolution the resolved member
+	 * @return whether the resolution was set, <code>false</code> if this
+	 *         reference must not be resolved
+	 */
+	boolean setCachedResolution(IApiMember resolution) throws CoreException {
+		if (!this.fStatus) {
+			return false;
+		}
+		if (!(resolution instanceof IApiMethod method) || !setResolvedMethod(method)) {
+			fResolved = resolution;
+		}
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder buf = new StringBuilder();
@@ -14,8 +14,10 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -94,7 +96,16 @@ public class ReferenceAnalyzer {
 					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
 						return;
 					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
+					// the index of type references needs all kinds of references,
+					// detectors for other kinds may be built on the next build
+					List<IReference> references = type.extractReferences(fBuildState != null ? IReference.MASK_REF_ALL : fAllReferenceKinds, null);
+					if (fBuildState != null) {
+						Set<String> referencedTypes = new HashSet<>();
+						for (IReference ref : references) {
+							referencedTypes.add(ref.getReferencedTypeName());
+						}
+						fBuildState.setTypeReferences(type.getName(), referencedTypes);
+					}
 					// keep potential matches
 					for (IReference ref : references) {
 						if (fMonitor.isCanceled()) {
@@ -148,6 +159,23 @@ public class ReferenceAnalyzer {
 	 */
 	private IApiProblemDetector[][] fIndexedDetectors;
 
+	/**
+	 * The build state recording the types referenced by the analyzed types, or
+	 * <code>null</code> if references are not recorded
+	 */
+	private BuildState fBuildState;
+
+	/**
+	 * Sets the build state to record the types referenced by the analyzed
+	 * types in, see {@link BuildState#setTypeReferences(String, Set)}.
+	 *
+	 * @param state the build state or <code>null</code> to not record
+	 *            references
+	 */
+	void setBuildState(BuildState state) {
+		fBuildState = state;
+	}
+
 	/**
 	 * Indexes the problem detectors by the reference kinds they are interested
 	 * in. For example, a detector interested in a
@@ -235,6 +263,10 @@ public class ReferenceAnalyzer {
 			IApiProblemDetector[] detectors = buildProblemDetectors(component, ProblemDetectorBuilder.K_ALL,
 					localMonitor.split(1));
 			if (detectors.length == 0) {
+				if (fBuildState != null) {
+					// the scope is not scanned, its references are unknown
+					fBuildState.discardTypeReferences();
+				}
 				return EMPTY_RESULT;
 			}
 			// analyze
@@ -261,6 +293,10 @@ public class ReferenceAnalyzer {
 		} catch (OperationCanceledException e) {
 			return EMPTY_RESULT;
 		} finally {
+			if (fBuildState != null && localMonitor.isCanceled()) {
+				// the references of the scope have not all been recorded
+				fBuildState.discardTypeReferences();
+			}
 			// clean up
 			fIndexedDetectors = null;
 			fReferences.clear();
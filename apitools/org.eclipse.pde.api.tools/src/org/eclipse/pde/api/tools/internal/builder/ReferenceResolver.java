@@ -14,23 +14,149 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 
 /**
  * Utility class used to resolve {@link IReference}s
+ * <p>
+ * References are resolved once per distinct referenced type or member and
+ * referencing component. The resolutions are remembered per
+ * {@link IApiBaseline} for later analyses against the same baseline, up to
+ * {@link #MAX_RESOLUTIONS} of the most recently used ones. Only the names of
+ * the resolved members are remembered, they are looked up again in their
+ * component, so the type structures stay subject to the limits of the
+ * {@link org.eclipse.pde.api.tools.internal.model.ApiModelCache}. The
+ * resolutions are forgotten for a component as soon as it or the component
+ * providing the resolved member is disposed, and for a workspace project when
+ * its sources change, see {@link #projectChanged(IJavaProject)}.
+ * </p>
  *
  * @since 1.0.0
  * @noinstantiate This class is not intended to be instantiated by clients.
  */
 public final class ReferenceResolver {
 
+	/**
+	 * Minimum number of distinct references that are resolved in parallel
+	 */
+	private static final int PARALLEL_THRESHOLD = 64;
+
+	/**
+	 * Maximum number of resolutions remembered per baseline
+	 */
+	private static final int MAX_RESOLUTIONS = 50000;
+
+	/**
+	 * A distinct referenced type or member of a referencing component
+	 *
+	 * @param component the referencing component
+	 * @param typeName the referenced type name
+	 * @param memberName the referenced member name or <code>null</code> for a
+	 *            type reference
+	 * @param signature the referenced method signature or <code>null</code>
+	 * @param kind the reference kind of a method reference, which decides how
+	 *            the method is looked up, or <code>0</code>
+	 */
+	private record Key(IApiComponent component, String typeName, String memberName, String signature, int kind) {
+
+		static Key of(IReference reference) {
+			IApiComponent component = reference.getMember().getApiComponent();
+			return switch (reference.getReferenceType())
+				{
+				case IReference.T_FIELD_REFERENCE -> new Key(component, reference.getReferencedTypeName(),
+						reference.getReferencedMemberName(), null, 0);
+				case IReference.T_METHOD_REFERENCE -> new Key(component, reference.getReferencedTypeName(),
+						reference.getReferencedMemberName(), reference.getReferencedSignature(),
+						reference.getReferenceKind());
+				default -> new Key(component, reference.getReferencedTypeName(), null, null, 0);
+				};
+		}
+	}
+
+	/**
+	 * A remembered resolution
+	 *
+	 * @param component the component providing the resolved type or member
+	 * @param typeName the name of the resolved type or of the type declaring
+	 *            the resolved member
+	 * @param memberName the name of the resolved member or <code>null</code>
+	 *            for a type
+	 * @param signature the signature of the resolved method or
+	 *            <code>null</code>
+	 * @param elementType the {@link IApiElement} type of the resolved type or
+	 *            member
+	 * @param inherited whether the member was found in a super type of the
+	 *            referenced type, so that a change to any type of the
+	 *            hierarchy may resolve it differently
+	 */
+	private record Resolution(IApiComponent component, String typeName, String memberName, String signature,
+			int elementType, boolean inherited) {
+
+		static Resolution of(IApiMember member, boolean inherited) throws CoreException {
+			return switch (member.getType())
+				{
+				case IApiElement.FIELD -> new Resolution(member.getApiComponent(), member.getEnclosingType().getName(),
+						member.getName(), null, IApiElement.FIELD, inherited);
+				case IApiElement.METHOD -> new Resolution(member.getApiComponent(),
+						member.getEnclosingType().getName(), member.getName(), member.getSignature(),
+						IApiElement.METHOD, inherited);
+				default -> new Resolution(member.getApiComponent(), member.getName(), null, null, IApiElement.TYPE,
+						inherited);
+				};
+		}
+
+		/**
+		 * Looks up the resolved type or member again
+		 *
+		 * @return the type or member or <code>null</code> if it is no longer
+		 *         found
+		 */
+		IApiMember lookup() throws CoreException {
+			IApiTypeRoot root = component.findTypeRoot(typeName);
+			IApiType type = root != null ? root.getStructure() : null;
+			if (type == null) {
+				return null;
+			}
+			return switch (elementType)
+				{
+				case IApiElement.FIELD -> type.getField(memberName);
+				case IApiElement.METHOD -> type.getMethod(memberName, signature);
+				default -> type;
+				};
+		}
+	}
+
+	/**
+	 * A group of references to the same type or member and the resolutions
+	 * of the baseline of its referencing component, or <code>null</code>
+	 */
+	private record Group(Key key, List<IReference> references, Map<Key, Resolution> resolutions) {
+	}
+
+	/**
+	 * Resolutions remembered for a baseline. The resolutions refer to their
+	 * baseline, so the baselines are removed when they are disposed rather
+	 * than weakly referenced.
+	 */
+	private static final Map<IApiBaseline, Map<Key, Resolution>> RESOLUTIONS = new IdentityHashMap<>();
+
 	/**
 	 * Constructor Private constructor, no instantiate
 	 */
@@ -46,23 +172,15 @@ public final class ReferenceResolver {
 	public static void resolveReferences(List<IReference> references) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
-		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
+		Map<Key, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
 
-		List<IReference> refs = null;
-		String key = null;
 		List<Reference> methodDecls = new ArrayList<>(refcount);
 		long start = System.currentTimeMillis();
 		for (IReference ref : references) {
 			if (ref.getReferenceKind() == IReference.REF_OVERRIDE) {
 				methodDecls.add((Reference) ref);
 			} else {
-				key = createSignatureKey(ref);
-				refs = sigtoref.get(key);
-				if (refs == null) {
-					refs = new ArrayList<>(20);
-					sigtoref.put(key, refs);
-				}
-				refs.add(ref);
+				sigtoref.computeIfAbsent(Key.of(ref), k -> new ArrayList<>(20)).add(ref);
 			}
 		}
 
@@ -94,46 +212,194 @@ public final class ReferenceResolver {
 	 * @param map the mapping of keys to sets of {@link IReference}s
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
+	private static void resolveReferenceSets(Map<Key, List<IReference>> map) throws CoreException {
+		// the resolutions are looked up once per referencing component rather
+		// than once per group
+		Map<IApiComponent, Map<Key, Resolution>> resolutionsByComponent = new IdentityHashMap<>();
+		List<Group> unresolved = new ArrayList<>();
+		int cached = 0;
+		for (Map.Entry<Key, List<IReference>> entry : map.entrySet()) {
+			IApiComponent component = entry.getKey().component();
+			Map<Key, Resolution> resolutions;
+			if (resolutionsByComponent.containsKey(component)) {
+				resolutions = resolutionsByComponent.get(component);
+			} else {
+				resolutions = getResolutions(component);
+				resolutionsByComponent.put(component, resolutions);
+			}
+			Resolution resolution = resolutions != null ? resolutions.get(entry.getKey()) : null;
+			IApiMember resolved = null;
+			if (resolution != null) {
+				if (resolution.component().isDisposed()) {
+					forget(resolutions, resolution.component());
+				} else {
+					resolved = resolution.lookup();
+					if (resolved == null) {
+						resolutions.remove(entry.getKey());
+					}
 				}
 			}
+			List<IReference> refs = entry.getValue();
+			if (resolved == null || !((Reference) refs.get(0)).setCachedResolution(resolved)) {
+				unresolved.add(new Group(entry.getKey(), refs, resolutions));
+				continue;
+			}
+			cached++;
+			for (int i = 1; i < refs.size(); i++) {
+				((Reference) refs.get(i)).setResolution(resolved);
+			}
+		}
+		AtomicInteger resolvedCount = new AtomicInteger();
+		if (unresolved.size() >= PARALLEL_THRESHOLD) {
+			try {
+				unresolved.parallelStream().forEach(group -> {
+					try {
+						if (resolveReferenceSet(group)) {
+							resolvedCount.incrementAndGet();
+						}
+					} catch (CoreException e) {
+						throw new ResolutionException(e);
+					}
+				});
+			} catch (ResolutionException e) {
+				throw e.getCause();
+			}
+		} else {
+			for (Group group : unresolved) {
+				if (resolveReferenceSet(group)) {
+					resolvedCount.incrementAndGet();
+				}
+			}
+		}
+		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
+			System.out.println("Reference resolver: " + cached + " unique references cached, " + resolvedCount.get() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " resolved, " + (unresolved.size() - resolvedCount.get()) + " unresolved"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Resolves the first of the given references and shares its resolution
+	 * with the others.
+	 *
+	 * @return whether the references could be resolved
+	 */
+	private static boolean resolveReferenceSet(Group group) throws CoreException {
+		List<IReference> refs = group.references();
+		IReference ref = refs.get(0);
+		((Reference) ref).resolve();
+		IApiMember resolved = ref.getResolvedReference();
+		if (resolved == null) {
+			return false;
+		}
+		for (IReference ref2 : refs) {
+			((Reference) ref2).setResolution(resolved);
+		}
+		if (group.resolutions() != null) {
+			Key key = group.key();
+			boolean inherited = key.memberName() != null && !key.typeName().equals(resolved.getEnclosingType().getName());
+			group.resolutions().put(key, Resolution.of(resolved, inherited));
+		}
+		return true;
+	}
+
+	/**
+	 * Resolutions of a baseline in access order, which drop the least
+	 * recently used resolution beyond {@link #MAX_RESOLUTIONS}
+	 */
+	private static final class LruResolutions extends LinkedHashMap<Key, Resolution> {
+		private static final long serialVersionUID = 1L;
+
+		LruResolutions() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Resolution> eldest) {
+			return size() > MAX_RESOLUTIONS;
+		}
+	}
+
+	/**
+	 * Returns the resolutions remembered for the baseline of the given
+	 * component or <code>null</code> if it has no baseline.
+	 */
+	private static Map<Key, Resolution> getResolutions(IApiComponent component) throws CoreException {
+		if (component == null || component.isDisposed()) {
+			return null;
+		}
+		IApiBaseline baseline = component.getBaseline();
+		if (baseline == null) {
+			return null;
+		}
+		synchronized (RESOLUTIONS) {
+			RESOLUTIONS.keySet().removeIf(IApiBaseline::isDisposed);
+			if (baseline.isDisposed()) {
+				return null;
+			}
+			return RESOLUTIONS.computeIfAbsent(baseline, b -> Collections.synchronizedMap(new LruResolutions()));
 		}
 	}
 
 	/**
-	 * Creates a unique string key for a given reference. The key is of the form
-	 * "component X references type/member"
+	 * Returns the number of resolutions remembered for the given baseline.
 	 *
-	 * <pre>
-	 * [component_id]#[type_name](#[member_name]#[member_signature])
-	 * </pre>
+	 * @param baseline the baseline
+	 * @return the number of remembered resolutions, <code>0</code> once the
+	 *         baseline is disposed
+	 */
+	public static int getResolutionCount(IApiBaseline baseline) {
+		synchronized (RESOLUTIONS) {
+			RESOLUTIONS.keySet().removeIf(IApiBaseline::isDisposed);
+			Map<Key, Resolution> resolutions = RESOLUTIONS.get(baseline);
+			return resolutions != null ? resolutions.size() : 0;
+		}
+	}
+
+	/**
+	 * Forgets the resolutions into or from the given component.
+	 */
+	private static void forget(Map<Key, Resolution> resolutions, IApiComponent component) {
+		synchronized (resolutions) {
+			resolutions.entrySet().removeIf(entry -> entry.getKey().component() == component
+					|| entry.getValue().component() == component);
+		}
+	}
+
+	/**
+	 * Forgets the resolutions into or from the components of the given
+	 * project, whose types changed without disposing its components, and the
+	 * resolutions that were found through a type hierarchy, which may span
+	 * the changed project.
 	 *
-	 * @param reference reference
-	 * @return a string key for the given reference.
+	 * @param project the changed project
 	 */
-	private static String createSignatureKey(IReference reference) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
-		buffer.append(reference.getReferencedTypeName());
-		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-
-		} else if (reference.getReferenceType() == IReference.T_METHOD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedSignature());
-		}
-		return buffer.toString();
+	public static void projectChanged(IJavaProject project) {
+		synchronized (RESOLUTIONS) {
+			for (Map<Key, Resolution> resolutions : RESOLUTIONS.values()) {
+				synchronized (resolutions) {
+					resolutions.entrySet().removeIf(entry -> entry.getValue().inherited()
+							|| isComponentOf(entry.getKey().component(), project)
+							|| isComponentOf(entry.getValue().component(), project));
+				}
+			}
+		}
+	}
+
+	private static boolean isComponentOf(IApiComponent component, IJavaProject project) {
+		return component instanceof ProjectComponent projectComponent
+				&& project.equals(projectComponent.getJavaProject());
+	}
+
+	private static final class ResolutionException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		ResolutionException(CoreException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized CoreException getCause() {
+			return (CoreException) super.getCause();
+		}
 	}
 }
@@ -0,0 +1,495 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.osgi.framework.util.CaseInsensitiveDictionaryMap;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * A binary index of a persisted {@link IApiBaseline}, written next to the XML
+ * description of the baseline.
+ * <p>
+ * For every component the index records its location, a stamp of the bundle
+ * on disk, its manifest headers (including the package exports), the names of
+ * its packages and the contents of its <code>.api_description</code> file.
+ * Components restored from the index build their bundle description and API
+ * description from this data instead of opening their archive again.
+ * </p>
+ * <p>
+ * The whole file is read into a heap buffer when the index is opened and is
+ * not kept open, so that it can be replaced while components restored from
+ * it are still in use. Only the header and the locations and stamps of
+ * the components are decoded when the index is opened, everything else is
+ * decoded on first access. The layout (big-endian) is:
+ * </p>
+ *
+ * <pre>
+ * int    magic
+ * int    version
+ * long   checksum of the XML baseline description
+ * string baseline location, or -1
+ * int    number of components
+ * int[]  offset of every component entry
+ * component entry:
+ *   string location
+ *   long   stamp, -1 if the entry has no cached data
+ *   int    offset of the manifest headers, relative to the entry
+ *   int    offset of the package names, relative to the entry
+ *   int    offset of the API description, relative to the entry
+ *   manifest headers: int count, (string key, string value)*
+ *   package names: int count, string*
+ *   API description: string, or -1 if the bundle has none
+ * string: int length of the UTF-8 bytes, bytes
+ * </pre>
+ *
+ * @since 1.3.800
+ */
+public final class ApiBaselineIndex {
+
+	/**
+	 * File extension of baseline index files
+	 */
+	public static final String INDEX_FILE_EXTENSION = ".index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41504958; // "APIX"
+
+	/**
+	 * Version of the index layout, increment whenever the layout changes
+	 */
+	private static final int VERSION = 1;
+
+	private static final long NO_STAMP = -1;
+
+	/**
+	 * A component recorded in the index
+	 */
+	public static final class Entry {
+		private final ByteBuffer buffer;
+		private final int offset;
+		private final String location;
+		private final long stamp;
+		private final int dataOffset;
+		private volatile Map<String, String> manifest;
+		private volatile Set<String> packageNames;
+
+		Entry(ByteBuffer buffer, int offset) {
+			this.buffer = buffer;
+			this.offset = offset;
+			int position = offset;
+			int length = buffer.getInt(position);
+			this.location = getString(buffer, position);
+			position += 4 + Math.max(0, length);
+			this.stamp = buffer.getLong(position);
+			this.dataOffset = position + 8;
+		}
+
+		/**
+		 * @return the location of the component in the file system
+		 */
+		public String getLocation() {
+			return location;
+		}
+
+		/**
+		 * @return whether the entry has cached data that is still valid for
+		 *         the bundle on disk
+		 */
+		public boolean isCurrent() {
+			return stamp != NO_STAMP && stamp == computeStamp(new File(location));
+		}
+
+		/**
+		 * @return a copy of the manifest headers of the component, with case
+		 *         insensitive keys like the headers read from a manifest
+		 */
+		public Map<String, String> getManifest() {
+			Map<String, String> headers = manifest;
+			if (headers == null) {
+				int position = offset + buffer.getInt(dataOffset);
+				int count = buffer.getInt(position);
+				position += 4;
+				headers = new CaseInsensitiveDictionaryMap<>(count);
+				for (int i = 0; i < count; i++) {
+					String key = getString(buffer, position);
+					position += 4 + buffer.getInt(position);
+					String value = getString(buffer, position);
+					position += 4 + Math.max(0, buffer.getInt(position));
+					headers.put(key, value);
+				}
+				manifest = headers;
+			}
+			return new CaseInsensitiveDictionaryMap<>(headers);
+		}
+
+		/**
+		 * @return the names of the packages that originate from the component
+		 */
+		public Set<String> getPackageNames() {
+			Set<String> names = packageNames;
+			if (names == null) {
+				int position = offset + buffer.getInt(dataOffset + 4);
+				int count = buffer.getInt(position);
+				position += 4;
+				names = new LinkedHashSet<>(count * 2);
+				for (int i = 0; i < count; i++) {
+					names.add(getString(buffer, position));
+					position += 4 + buffer.getInt(position);
+				}
+				names = Collections.unmodifiableSet(names);
+				packageNames = names;
+			}
+			return names;
+		}
+
+		/**
+		 * @return the contents of the <code>.api_description</code> file of
+		 *         the component or <code>null</code> if it has none
+		 */
+		public String getApiDescription() {
+			return getString(buffer, offset + buffer.getInt(dataOffset + 8));
+		}
+
+		/**
+		 * @return the raw bytes of this entry
+		 */
+		byte[] getBytes(int end) {
+			byte[] bytes = new byte[end - offset];
+			buffer.get(offset, bytes);
+			return bytes;
+		}
+	}
+
+	private final ByteBuffer fBuffer;
+	private final long fChecksum;
+	private final String fLocation;
+	private final Entry[] fEntries;
+	private final int[] fEntryEnds;
+	private Map<String, Entry> fEntriesByLocation;
+
+	private ApiBaselineIndex(ByteBuffer buffer) {
+		fBuffer = buffer;
+		if (buffer.getInt(0) != MAGIC) {
+			throw new IllegalArgumentException("Not a baseline index"); //$NON-NLS-1$
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IllegalArgumentException("Unsupported baseline index version " + buffer.getInt(4)); //$NON-NLS-1$
+		}
+		fChecksum = buffer.getLong(8);
+		int position = 16;
+		fLocation = getString(buffer, position);
+		position += 4 + Math.max(0, buffer.getInt(position));
+		int count = buffer.getInt(position);
+		position += 4;
+		fEntries = new Entry[count];
+		fEntryEnds = new int[count];
+		for (int i = 0; i < count; i++) {
+			int offset = buffer.getInt(position + i * 4);
+			fEntries[i] = new Entry(buffer, offset);
+			fEntryEnds[i] = i + 1 < count ? buffer.getInt(position + (i + 1) * 4) : buffer.limit();
+		}
+	}
+
+	/**
+	 * Opens the index in the given file.
+	 *
+	 * @param file the index file
+	 * @return the index or <code>null</code> if the file does not exist, is
+	 *         corrupt or was written with another version of the layout
+	 */
+	public static ApiBaselineIndex read(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			return new ApiBaselineIndex(ByteBuffer.wrap(Files.readAllBytes(file)));
+		} catch (IOException | IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+			if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Ignoring baseline index " + file + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * @return the checksum of the XML baseline description this index was
+	 *         written with
+	 */
+	public long getChecksum() {
+		return fChecksum;
+	}
+
+	/**
+	 * Returns whether this index was written for the XML baseline description
+	 * with the given checksum and none of its bundles changed since.
+	 *
+	 * @param checksum the checksum of the XML baseline description
+	 * @return whether the index is up to date
+	 */
+	public boolean isCurrent(long checksum) {
+		if (fChecksum != checksum) {
+			return false;
+		}
+		for (Entry entry : fEntries) {
+			if (entry.stamp != NO_STAMP && !entry.isCurrent()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the location of the baseline or <code>null</code>
+	 */
+	public String getLocation() {
+		return fLocation;
+	}
+
+	/**
+	 * @return the components recorded in the index, in the order they were
+	 *         written
+	 */
+	public Entry[] getEntries() {
+		return fEntries.clone();
+	}
+
+	/**
+	 * Returns the entry of the component at the given location.
+	 *
+	 * @param location the location of the component
+	 * @return the entry or <code>null</code>
+	 */
+	public synchronized Entry getEntry(String location) {
+		if (fEntriesByLocation == null) {
+			fEntriesByLocation = new HashMap<>(fEntries.length * 2);
+			for (Entry entry : fEntries) {
+				fEntriesByLocation.put(entry.getLocation(), entry);
+			}
+		}
+		return fEntriesByLocation.get(location);
+	}
+
+	/**
+	 * Creates the components recorded in this index for the given baseline.
+	 * Components whose bundle changed on disk since the index was written are
+	 * created from their bundle.
+	 *
+	 * @param baseline the baseline to create the components for
+	 * @return the components
+	 * @throws CoreException if a component cannot be created
+	 */
+	public IApiComponent[] createComponents(IApiBaseline baseline) throws CoreException {
+		List<IApiComponent> components = new ArrayList<>(fEntries.length);
+		for (Entry entry : fEntries) {
+			IApiComponent component = ApiModelFactory.newApiComponent(baseline, entry.getLocation(), this);
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		return components.toArray(new IApiComponent[components.size()]);
+	}
+
+	/**
+	 * Writes an index of the given components to the given file. Entries of
+	 * the index currently in the file are reused for bundles that did not
+	 * change on disk, the file is not written at all if the index is up to
+	 * date.
+	 *
+	 * @param file the file to write to, replaced atomically
+	 * @param checksum the checksum of the XML baseline description written
+	 *            for the same components
+	 * @param location the location of the baseline or <code>null</code>
+	 * @param components the components to index
+	 * @throws IOException if the index cannot be written
+	 */
+	public static void write(Path file, long checksum, String location, List<IApiComponent> components) throws IOException {
+		ApiBaselineIndex previous = read(file);
+		if (previous != null && previous.isCurrent(checksum)) {
+			return;
+		}
+		List<byte[]> entries = new ArrayList<>(components.size());
+		for (IApiComponent component : components) {
+			entries.add(writeEntry(component, previous));
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(checksum);
+		writeString(out, location);
+		out.writeInt(entries.size());
+		int offset = out.size() + entries.size() * 4;
+		for (byte[] entry : entries) {
+			out.writeInt(offset);
+			offset += entry.length;
+		}
+		for (byte[] entry : entries) {
+			out.write(entry);
+		}
+		out.flush();
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+		Files.write(tmp, bytes.toByteArray());
+		try {
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			Files.deleteIfExists(tmp);
+			throw e;
+		}
+	}
+
+	private static byte[] writeEntry(IApiComponent component, ApiBaselineIndex previous) throws IOException {
+		String location = component.getLocation();
+		File bundle = new File(location);
+		long stamp = computeStamp(bundle);
+		if (previous != null) {
+			Entry entry = previous.getEntry(location);
+			if (entry != null && entry.stamp != NO_STAMP && entry.stamp == stamp) {
+				for (int i = 0; i < previous.fEntries.length; i++) {
+					if (previous.fEntries[i] == entry) {
+						return entry.getBytes(previous.fEntryEnds[i]);
+					}
+				}
+			}
+		}
+		Map<String, String> manifest = null;
+		Set<String> packageNames = null;
+		String apiDescription = null;
+		// only plain bundles can be restored from the index
+		if (component.getClass() == BundleComponent.class) {
+			try {
+				manifest = ManifestUtils.loadManifest(bundle);
+				packageNames = ((BundleComponent) component).getLocalPackageNames();
+				apiDescription = BundleComponent.loadApiDescription(bundle);
+			} catch (CoreException | IOException e) {
+				if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+					System.out.println("Not indexing " + location + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				manifest = null;
+			}
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		writeString(out, location);
+		if (manifest == null) {
+			out.writeLong(NO_STAMP);
+			manifest = Map.of();
+			packageNames = Set.of();
+		} else {
+			out.writeLong(stamp);
+		}
+		// offsets are relative to the entry so entries can be copied as is
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		DataOutputStream dataOut = new DataOutputStream(data);
+		int manifestOffset = dataOut.size();
+		dataOut.writeInt(manifest.size());
+		for (Map.Entry<String, String> header : manifest.entrySet()) {
+			writeString(dataOut, header.getKey());
+			writeString(dataOut, header.getValue());
+		}
+		int packagesOffset = dataOut.size();
+		dataOut.writeInt(packageNames.size());
+		for (String name : packageNames) {
+			writeString(dataOut, name);
+		}
+		int descriptionOffset = dataOut.size();
+		writeString(dataOut, apiDescription);
+		dataOut.flush();
+		int base = out.size() + 12;
+		out.writeInt(base + manifestOffset);
+		out.writeInt(base + packagesOffset);
+		out.writeInt(base + descriptionOffset);
+		out.write(data.toByteArray());
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Computes the stamp of the bundle at the given location. For directories
+	 * the manifest and <code>.api_description</code> files are considered in
+	 * addition to the directory itself.
+	 *
+	 * @param bundle the bundle location
+	 * @return the stamp or <code>-1</code> if the bundle does not exist
+	 */
+	static long computeStamp(File bundle) {
+		if (!bundle.exists()) {
+			return NO_STAMP;
+		}
+		long stamp = bundle.lastModified() ^ (bundle.length() << 32);
+		if (bundle.isDirectory()) {
+			stamp = stamp * 31 + new File(bundle, "META-INF/MANIFEST.MF").lastModified(); //$NON-NLS-1$
+			stamp = stamp * 31 + new File(bundle, IApiCoreConstants.API_DESCRIPTION_XML_NAME).lastModified();
+		}
+		return stamp == NO_STAMP ? 0 : stamp;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String getString(ByteBuffer buffer, int position) {
+		int length = buffer.getInt(position);
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(position + 4, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the index file for the given XML baseline description file.
+	 *
+	 * @param profile the XML baseline description file
+	 * @return the index file
+	 */
+	public static Path getIndexFile(Path profile) {
+		String name = IPath.fromOSString(profile.getFileName().toString()).removeFileExtension().toString();
+		return profile.resolveSibling(name + INDEX_FILE_EXTENSION);
+	}
+
+	@Override
+	public String toString() {
+		return "API baseline index: " + fEntries.length + " components, " + fBuffer.limit() + " bytes"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -16,8 +16,7 @@ package org.eclipse.pde.api.tools.internal.model;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -33,7 +32,7 @@ public final class ApiModelCache {
 	/**
 	 * Cache used for {@link IApiElement}s
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	static class Cache<K, V> extends ConcurrentOverflowingLRUCache<K, V> {
 
 		/**
 		 * Constructor
@@ -42,29 +41,21 @@ public final class ApiModelCache {
 			super(size, overflow);
 		}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
-		}
-
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
-		}
-
 	}
 
 	static final int DEFAULT_CACHE_SIZE = 1000;
 	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	final Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
+	final Cache<String, Cache<String, ApiType>> fMemberTypeCache;
 
 	/**
 	 * Constructor - no instantiation
 	 */
 	private ApiModelCache() {
+		fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
+		fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
 	}
 
 	/**
@@ -103,9 +94,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,16 +101,10 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.computeIfAbsent(baseline.getName(),
+							b -> new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2));
+					Cache<String, IApiElement> typecache = compcache.computeIfAbsent(id,
+							c -> new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW));
 					ApiType type = (ApiType) element;
 					if (type.isMemberType() || isMemberType(type.getName()) /*
 																			 * cache
@@ -140,15 +122,9 @@ public final class ApiModelCache {
 																			 * as
 																			 * well
 																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
 						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.computeIfAbsent(key,
+								k -> new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW));
 						mcache.put(type.getName(), type);
 					} else {
 						typecache.put(element.getName(), element);
@@ -206,25 +182,21 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
+					Cache<String, ApiType> mcache = this.fMemberTypeCache
+							.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (mcache != null) {
+						return mcache.get(identifier);
 					}
 				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.get(componentid);
+						if (typecache != null && identifier != null) {
+							IApiElement ele = typecache.get(identifier);
+							if (ele != null) {
+								return ele;
 							}
+
 						}
 					}
 				}
@@ -233,7 +205,7 @@ public final class ApiModelCache {
 			default:
 				break;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		if (componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
 			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
@@ -284,41 +256,35 @@ public final class ApiModelCache {
 				if (componentid != null && identifier != null) {
 					boolean removed = true;
 					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (isMemberType(identifier)) {
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
+						if (mcache != null) {
+							return mcache.remove(identifier) != null;
 						}
+					} else {
+						this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
 					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.get(componentid);
+						if (typecache != null) {
+							removed &= typecache.remove(identifier) != null;
+							if (typecache.isEmpty()) {
+								removed &= compcache.remove(componentid) != null;
 							}
-
+							if (compcache.isEmpty()) {
+								removed &= fRootCache.remove(baselineid) != null;
+							}
+							return removed;
 						}
-					} else {
-						return false;
+
 					}
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
 				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
+				if (componentid != null) {
 					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
 					if (compcache != null) {
 						boolean removed = compcache.remove(componentid) != null;
@@ -332,10 +298,7 @@ public final class ApiModelCache {
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				return fRootCache.remove(baselineid) != null;
 			}
 			default:
 				break;
@@ -356,26 +319,21 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return fRootCache.remove(baseline.getName()) != null;
 			}
 			default:
 				break;
@@ -387,9 +345,7 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
+		fRootCache.flush();
 		flushMemberCache();
 	}
 
@@ -397,9 +353,7 @@ public final class ApiModelCache {
 	 * Flushes the cache of member types
 	 */
 	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
-		}
+		this.fMemberTypeCache.flush();
 	}
 
 	/**
@@ -408,13 +362,6 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
-		}
-		return empty;
+		return fRootCache.isEmpty() && this.fMemberTypeCache.isEmpty();
 	}
 }
@@ -98,6 +98,32 @@ public class ApiModelFactory {
 		return null;
 	}
 
+	/**
+	 * Creates and returns a new API component for the given baseline at the
+	 * specified location or <code>null</code> if no component exists at the
+	 * location. If the given index has a current entry for the location, the
+	 * component is initialized from the index rather than from the bundle on
+	 * disk. The component is not added to the baseline.
+	 *
+	 * @param baseline the baseline the component is created for
+	 * @param location file system path to the component
+	 * @param index the index of the baseline or <code>null</code>
+	 * @return API component or <code>null</code> if none
+	 * @throws CoreException if unable to create the component
+	 * @since 1.3.800
+	 */
+	public static IApiComponent newApiComponent(IApiBaseline baseline, String location, ApiBaselineIndex index) throws CoreException {
+		ApiBaselineIndex.Entry entry = index != null ? index.getEntry(location) : null;
+		if (entry == null || !entry.isCurrent()) {
+			return newApiComponent(baseline, location);
+		}
+		BundleComponent component = new BundleComponent(baseline, location, getBundleID(), entry);
+		if (component.isValidBundle()) {
+			return component;
+		}
+		return null;
+	}
+
 	/**
 	 * Creates and returns a new API component for this baseline based on the
 	 * given model or <code>null</code> if the given model cannot be resolved or
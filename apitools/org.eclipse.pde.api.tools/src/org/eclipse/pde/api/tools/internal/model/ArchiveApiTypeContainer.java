@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -44,7 +45,6 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	static class ArchiveApiTypeRoot extends AbstractApiTypeRoot implements Comparable<Object> {
 
 		private final String fTypeName;
-		private byte[] fContents = null;
 
 		/**
 		 * Constructs a new handle to an {@link IApiTypeRoot} in the archive.
@@ -82,18 +82,17 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			if (fContents != null) {
-				return fContents;
-			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
-			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
-			} catch (IOException e) {
-				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return fContents;
+			return ClassFileCache.getCache().getContents(archive.fLocation + '!' + getName(), archive.getLastModified(), archive.getLength(), () -> {
+				try {
+					Path location = archive.getLocation();
+					Path classLocation = location.resolve(getName());
+					return Files.readAllBytes(classLocation);
+				} catch (IOException e) {
+					abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+					return null;
+				}
+			});
 		}
 
 		@Override
@@ -118,6 +117,13 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Modification time and length of the archive used to validate cached
+	 * class file contents, <code>-1</code> until the archive is first read
+	 */
+	private long fLastModified = -1;
+	private long fLength = -1;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -147,6 +153,36 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		}
 	}
 
+	/**
+	 * Returns the modification time of the archive, class file contents cached
+	 * for a different time are stale.
+	 *
+	 * @return the archive modification time
+	 */
+	synchronized long getLastModified() {
+		initStamp();
+		return fLastModified;
+	}
+
+	/**
+	 * Returns the length of the archive, class file contents cached for a
+	 * different length are stale.
+	 *
+	 * @return the archive length
+	 */
+	synchronized long getLength() {
+		initStamp();
+		return fLength;
+	}
+
+	private void initStamp() {
+		if (fLastModified == -1) {
+			File file = new File(fLocation);
+			fLastModified = file.lastModified();
+			fLength = file.length();
+		}
+	}
+
 	/**
 	 * @see AbstractApiTypeContainer#accept(ApiTypeContainerVisitor)
 	 */
@@ -185,7 +221,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		// the archive may change before it is opened again
+		fLastModified = -1;
+		fLength = -1;
 	}
 
 	/**
@@ -161,6 +161,12 @@ public class BundleComponent extends Component {
 	 */
 	private volatile List<String> fdeclaredRequiredEE;
 
+	/**
+	 * The entry of this component in the index of a restored baseline or
+	 * <code>null</code> if the component is initialized from its location
+	 */
+	private volatile ApiBaselineIndex.Entry fIndexEntry;
+
 	/**
 	 * Constructs a new API component from the specified location in the file
 	 * system in the given baseline.
@@ -184,6 +190,22 @@ public class BundleComponent extends Component {
 				&& !new File(location).isFile();
 	}
 
+	/**
+	 * Constructs a new API component in the given baseline whose manifest,
+	 * packages and API description are read from the given baseline index
+	 * entry rather than from the bundle at the given location.
+	 *
+	 * @param baseline owning API baseline
+	 * @param location directory or jar file
+	 * @param entry the index entry of the bundle
+	 * @exception CoreException if unable to create a component from the
+	 *                specified location
+	 */
+	BundleComponent(IApiBaseline baseline, String location, long bundleid, ApiBaselineIndex.Entry entry) throws CoreException {
+		this(baseline, location, bundleid);
+		fIndexEntry = entry;
+	}
+
 	@Override
 	public void dispose() {
 		if (isDisposed()) {
@@ -195,6 +217,7 @@ public class BundleComponent extends Component {
 			synchronized (this) {
 				fManifest = null;
 				fBundleDescription = null;
+				fIndexEntry = null;
 				String message = String.format("Component was disposed here [%s]", Thread.currentThread().getName()); //$NON-NLS-1$
 				disposeSource = new RuntimeException(message);
 			}
@@ -212,7 +235,18 @@ public class BundleComponent extends Component {
 		if (fManifest != null) {
 			return fManifest;
 		}
-		Map<String, String> manifest = loadManifest(new File(fLocation), isWorkspaceBinary());
+		ApiBaselineIndex.Entry entry = fIndexEntry;
+		Map<String, String> manifest;
+		if (entry != null) {
+			// the index holds the manifest as found on disk, weave it like a
+			// manifest loaded from the bundle
+			manifest = entry.getManifest();
+			if (isWorkspaceBinary()) {
+				TargetWeaver.weaveManifest(manifest, new File(fLocation));
+			}
+		} else {
+			manifest = loadManifest(new File(fLocation), isWorkspaceBinary());
+		}
 		synchronized (this) {
 			if (fManifest == null) {
 				fManifest = manifest;
@@ -429,10 +463,11 @@ public class BundleComponent extends Component {
 	 */
 	protected IApiDescription createLocalApiDescription() throws CoreException {
 		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
+		ApiBaselineIndex.Entry entry = fIndexEntry;
 		// first mark all packages as internal
-		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
+		initializeApiDescription(apiDesc, getBundleDescription(), entry != null ? entry.getPackageNames() : getLocalPackageNames());
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			String xml = entry != null ? entry.getApiDescription() : loadApiDescription(new File(fLocation));
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
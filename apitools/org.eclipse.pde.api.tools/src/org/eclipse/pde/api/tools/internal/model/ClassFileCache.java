@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
+
+/**
+ * Cache of class file contents shared by all {@link IApiTypeContainer}s.
+ * <p>
+ * The cache is bounded by the total number of bytes it holds rather than by
+ * the number of entries, the least recently used class files are evicted
+ * first. Contents are only softly referenced so the garbage collector can
+ * reclaim them before the bound is reached if memory gets tight. Every entry
+ * carries the modification time and length supplied by the container (e.g.
+ * those of the archive or class file), a mismatch of either is treated as a
+ * miss.
+ * </p>
+ * <p>
+ * The size is configured in megabytes with the
+ * {@link IApiCoreConstants#CLASS_FILE_CACHE_SIZE} preference, a size of
+ * <code>0</code> disables caching.
+ * </p>
+ */
+public final class ClassFileCache {
+
+	/**
+	 * Reads the contents of a class file on a cache miss
+	 */
+	@FunctionalInterface
+	public interface ContentReader {
+		/**
+		 * @return the class file contents, never <code>null</code>
+		 * @throws CoreException if the class file cannot be read
+		 */
+		byte[] read() throws CoreException;
+	}
+
+	/**
+	 * Soft reference to the contents of a cached class file
+	 */
+	private static final class Entry extends SoftReference<byte[]> {
+		final String key;
+		final long lastModified;
+		final long length;
+		final int weight;
+
+		Entry(String key, long lastModified, long length, byte[] contents, ReferenceQueue<byte[]> queue) {
+			super(contents, queue);
+			this.key = key;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.weight = contents.length;
+		}
+	}
+
+	/**
+	 * Default size of the cache in megabytes
+	 */
+	public static final int DEFAULT_CACHE_SIZE_MB = 64;
+
+	private static final long MB = 1024 * 1024;
+
+	private static ClassFileCache fInstance = null;
+
+	private final LinkedHashMap<String, Entry> fEntries = new LinkedHashMap<>(256, 0.75f, true);
+	private final ReferenceQueue<byte[]> fCollected = new ReferenceQueue<>();
+	private long fMaxSize;
+	private long fSize = 0;
+	private long fHits = 0;
+	private long fMisses = 0;
+	private long fEvictions = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxSize the maximum number of bytes to cache
+	 */
+	ClassFileCache(long maxSize) {
+		fMaxSize = Math.max(0, maxSize);
+	}
+
+	/**
+	 * Returns the shared cache, sized from the preferences when running in a
+	 * framework.
+	 *
+	 * @return the cache
+	 */
+	public static synchronized ClassFileCache getCache() {
+		if (fInstance == null) {
+			int size = DEFAULT_CACHE_SIZE_MB;
+			if (ApiPlugin.isRunningInFramework()) {
+				size = Platform.getPreferencesService().getInt(ApiPlugin.PLUGIN_ID, IApiCoreConstants.CLASS_FILE_CACHE_SIZE, DEFAULT_CACHE_SIZE_MB, null);
+				IEclipsePreferences node = InstanceScope.INSTANCE.getNode(ApiPlugin.PLUGIN_ID);
+				ClassFileCache cache = new ClassFileCache(size * MB);
+				node.addPreferenceChangeListener(event -> {
+					if (IApiCoreConstants.CLASS_FILE_CACHE_SIZE.equals(event.getKey())) {
+						cache.setMaxSize(Platform.getPreferencesService().getInt(ApiPlugin.PLUGIN_ID, IApiCoreConstants.CLASS_FILE_CACHE_SIZE, DEFAULT_CACHE_SIZE_MB, null) * MB);
+					}
+				});
+				fInstance = cache;
+			} else {
+				fInstance = new ClassFileCache(size * MB);
+			}
+		}
+		return fInstance;
+	}
+
+	/**
+	 * Returns the contents of the class file with the given key, reading and
+	 * caching them with the given reader if they are not cached or the cached
+	 * contents have a different modification time or length.
+	 * <p>
+	 * Callers must not modify the returned array.
+	 * </p>
+	 *
+	 * @param key unique key of the class file, e.g. its location
+	 * @param lastModified modification time or stamp of the class file, used
+	 *            to detect stale contents
+	 * @param length length of the class file, used to detect stale contents,
+	 *            or <code>0</code> if the modification stamp alone identifies
+	 *            the contents
+	 * @param reader reads the contents on a miss
+	 * @return the class file contents
+	 * @throws CoreException if the reader fails
+	 */
+	public byte[] getContents(String key, long lastModified, long length, ContentReader reader) throws CoreException {
+		synchronized (this) {
+			expungeCollected();
+			Entry entry = fEntries.get(key);
+			if (entry != null) {
+				byte[] contents = entry.get();
+				if (contents != null && entry.lastModified == lastModified && entry.length == length) {
+					fHits++;
+					return contents;
+				}
+				removeEntry(entry);
+			}
+			fMisses++;
+		}
+		// read outside of the lock, concurrent misses on the same key are harmless
+		byte[] contents = reader.read();
+		if (contents != null) {
+			put(key, lastModified, length, contents);
+		}
+		return contents;
+	}
+
+	private synchronized void put(String key, long lastModified, long length, byte[] contents) {
+		if (contents.length > fMaxSize) {
+			return;
+		}
+		Entry previous = fEntries.put(key, new Entry(key, lastModified, length, contents, fCollected));
+		if (previous != null) {
+			fSize -= previous.weight;
+		}
+		fSize += contents.length;
+		shrink(fMaxSize);
+	}
+
+	/**
+	 * Removes the cached contents of the given class file, if any.
+	 *
+	 * @param key unique key of the class file
+	 */
+	public synchronized void remove(String key) {
+		Entry entry = fEntries.get(key);
+		if (entry != null) {
+			removeEntry(entry);
+		}
+	}
+
+	/**
+	 * Flushes the shared cache if it was created, without creating it.
+	 */
+	public static void flushIfCreated() {
+		ClassFileCache cache;
+		synchronized (ClassFileCache.class) {
+			cache = fInstance;
+		}
+		if (cache != null) {
+			cache.flush();
+		}
+	}
+
+	/**
+	 * Removes all cached contents and resets the statistics.
+	 */
+	public synchronized void flush() {
+		fEntries.clear();
+		while (fCollected.poll() != null) {
+			// drain
+		}
+		fSize = 0;
+		fHits = 0;
+		fMisses = 0;
+		fEvictions = 0;
+	}
+
+	/**
+	 * Sets the maximum number of bytes to cache, evicting entries if the
+	 * cache currently holds more.
+	 *
+	 * @param maxSize the new maximum size in bytes, <code>0</code> disables
+	 *            caching
+	 */
+	public synchronized void setMaxSize(long maxSize) {
+		fMaxSize = Math.max(0, maxSize);
+		shrink(fMaxSize);
+	}
+
+	/**
+	 * @return the maximum number of bytes to cache
+	 */
+	public synchronized long getMaxSize() {
+		return fMaxSize;
+	}
+
+	/**
+	 * @return the number of bytes currently cached
+	 */
+	public synchronized long getSize() {
+		expungeCollected();
+		return fSize;
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache
+	 */
+	public synchronized long getHits() {
+		return fHits;
+	}
+
+	/**
+	 * @return the number of lookups that had to read the class file
+	 */
+	public synchronized long getMisses() {
+		return fMisses;
+	}
+
+	/**
+	 * @return the number of entries evicted to respect the size bound or
+	 *         reclaimed by the garbage collector
+	 */
+	public synchronized long getEvictions() {
+		return fEvictions;
+	}
+
+	private void shrink(long limit) {
+		Iterator<Entry> iterator = fEntries.values().iterator();
+		while (fSize > limit && iterator.hasNext()) {
+			Entry eldest = iterator.next();
+			iterator.remove();
+			fSize -= eldest.weight;
+			fEvictions++;
+		}
+	}
+
+	/**
+	 * Drops the entries whose contents were reclaimed by the garbage collector
+	 */
+	private void expungeCollected() {
+		Entry collected;
+		while ((collected = (Entry) fCollected.poll()) != null) {
+			// the key may have been re-cached since
+			if (fEntries.get(collected.key) == collected) {
+				fEntries.remove(collected.key);
+				fSize -= collected.weight;
+				fEvictions++;
+			}
+		}
+	}
+
+	private void removeEntry(Entry entry) {
+		if (fEntries.remove(entry.key) != null) {
+			fSize -= entry.weight;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Class file cache: ").append(fEntries.size()).append(" entries, "); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append(fSize).append('/').append(fMaxSize).append(" bytes, "); //$NON-NLS-1$
+		buffer.append(fHits).append(" hits, ").append(fMisses).append(" misses, "); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append(fEvictions).append(" evictions"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
@@ -82,15 +82,18 @@ public class DirectoryApiTypeContainer extends ApiElement implements IApiTypeCon
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			try {
-				return Files.readAllBytes(new File(fLocation).toPath());
-			} catch (FileNotFoundException e) {
-				abort("File not found", e); //$NON-NLS-1$
-				return null;
-			} catch (IOException ioe) {
-				abort("Unable to read class file: " + getTypeName(), ioe); //$NON-NLS-1$
-				return null;
-			}
+			File file = new File(fLocation);
+			return ClassFileCache.getCache().getContents(fLocation, file.lastModified(), file.length(), () -> {
+				try {
+					return Files.readAllBytes(file.toPath());
+				} catch (FileNotFoundException e) {
+					abort("File not found", e); //$NON-NLS-1$
+					return null;
+				} catch (IOException ioe) {
+					abort("Unable to read class file: " + getTypeName(), ioe); //$NON-NLS-1$
+					return null;
+				}
+			});
 		}
 	}
 
@@ -31,12 +31,6 @@ public class ResourceApiTypeRoot extends AbstractApiTypeRoot {
 	 */
 	private final IFile fFile;
 
-	// when class file is changed, the object is changed too
-	// can store the contents in the class field for optimisation.
-	byte[] fContents = null;
-
-	private long modifiedTimeStamp = IResource.NULL_STAMP;
-
 	/**
 	 * Constructs an {@link IApiTypeRoot} on the underlying file.
 	 *
@@ -50,11 +44,12 @@ public class ResourceApiTypeRoot extends AbstractApiTypeRoot {
 
 	@Override
 	public byte[] getContents() throws CoreException {
-		if (fContents != null && fFile.getModificationStamp() == modifiedTimeStamp && modifiedTimeStamp != IResource.NULL_STAMP) {
-			return fContents;
+		long stamp = fFile.getModificationStamp();
+		if (stamp == IResource.NULL_STAMP) {
+			// the file does not exist, let the workspace report it
+			return fFile.readAllBytes();
 		}
-		modifiedTimeStamp = fFile.getModificationStamp();
-		return fFile.readAllBytes();
+		return ClassFileCache.getCache().getContents(fFile.getFullPath().toString(), stamp, 0, fFile::readAllBytes);
 	}
 
 	@Override
@@ -46,6 +46,7 @@ import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
 import org.eclipse.pde.api.tools.internal.JavadocTagManager;
 import org.eclipse.pde.api.tools.internal.SessionManager;
 import org.eclipse.pde.api.tools.internal.WorkspaceDeltaProcessor;
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemTypes;
 import org.eclipse.pde.api.tools.internal.util.FileManager;
 import org.eclipse.pde.api.tools.internal.util.Util;
@@ -690,6 +691,7 @@ public class ApiPlugin extends Plugin implements ISaveParticipant, DebugOptionsL
 		try {
 			ApiDescriptionManager.shutdown();
 			ApiBaselineManager.getManager().stop();
+			ClassFileCache.flushIfCreated();
 			ResourcesPlugin.getWorkspace().removeSaveParticipant(PLUGIN_ID);
 			FileManager.getManager().deleteFiles();
 			fBundleContext = null;
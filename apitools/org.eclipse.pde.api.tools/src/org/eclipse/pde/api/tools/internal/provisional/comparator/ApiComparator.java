@@ -13,12 +13,22 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -99,6 +109,59 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference, comparing up to <code>parallelism</code>
+	 * API components concurrently.
+	 * <p>
+	 * The components are compared independently of each other and their
+	 * deltas are merged in the order of the components in the reference
+	 * baseline, so the returned delta is the same as the one of a sequential
+	 * comparison.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the number of API components to compare
+	 *            concurrently, values less than 2 compare sequentially
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @since 1.3.800
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
+		if (parallelism < 2) {
+			return compare(referenceBaseline, baseline, visibilityModifiers, force, (ForkJoinPool) null, monitor);
+		}
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return compare(referenceBaseline, baseline, visibilityModifiers, force, pool, monitor);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference, comparing the API components in the given
+	 * pool.
+	 *
+	 * @param pool the pool to compare the components in or <code>null</code>
+	 *            to compare them sequentially
+	 * @see #compare(IApiBaseline, IApiBaseline, int, boolean, int,
+	 *      IProgressMonitor)
+	 */
+	static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final ForkJoinPool pool, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -108,41 +171,48 @@ public class ApiComparator {
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
+		if (pool != null && apiComponents.length > 1) {
+			// the comparisons in the pool only see whether the monitor of this
+			// thread was canceled
+			IProgressMonitor taskMonitor = new NullProgressMonitor();
+			List<ForkJoinTask<IDelta[]>> tasks = new ArrayList<>(apiComponents.length);
+			try {
+				for (IApiComponent apiComponent : apiComponents) {
+					if (apiComponent.isSystemComponent()) {
+						continue;
 					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
-						}
+					IApiComponent apiComponentBaseline = baseline.getApiComponent(apiComponent.getSymbolicName());
+					if (apiComponentBaseline != null) {
+						apiComponentsIds.add(apiComponent.getSymbolicName());
+					}
+					tasks.add(pool.submit(() -> compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, force, taskMonitor)));
+				}
+				// merge in the order of the reference components
+				apiLoopMonitor.setWorkRemaining(tasks.size());
+				for (ForkJoinTask<IDelta[]> task : tasks) {
+					apiLoopMonitor.split(1);
+					for (IDelta delta : join(task, apiLoopMonitor, taskMonitor)) {
+						globalDelta.add(delta);
 					}
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
+			} finally {
+				// stops the comparisons left behind by a failure or cancellation
+				taskMonitor.setCanceled(true);
+				for (ForkJoinTask<IDelta[]> task : tasks) {
+					task.cancel(false);
+				}
+			}
+		} else {
+			for (IApiComponent apiComponent : apiComponents) {
+				apiLoopMonitor.split(1);
+				if (!apiComponent.isSystemComponent()) {
+					IApiComponent apiComponentBaseline = baseline.getApiComponent(apiComponent.getSymbolicName());
+					if (apiComponentBaseline != null) {
+						apiComponentsIds.add(apiComponent.getSymbolicName());
+					}
+					for (IDelta delta : compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, force, localmonitor.split(1))) {
+						globalDelta.add(delta);
+					}
 				}
 			}
 		}
@@ -162,6 +232,87 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Waits for a comparison running in a pool. The given monitor of the
+	 * waiting thread is polled meanwhile, and its cancellation is passed on to
+	 * the comparisons through their task monitor.
+	 *
+	 * @param task the comparison to wait for
+	 * @param monitor the monitor of the waiting thread
+	 * @param taskMonitor the monitor given to the comparisons in the pool
+	 * @return the result of the comparison
+	 * @throws OperationCanceledException if the monitor was canceled or the
+	 *             waiting thread interrupted
+	 */
+	static <T> T join(ForkJoinTask<T> task, IProgressMonitor monitor, IProgressMonitor taskMonitor) {
+		while (true) {
+			if (monitor != null && monitor.isCanceled()) {
+				taskMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return task.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// poll the monitor again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				taskMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Compares a component of the reference baseline with the component of
+	 * the same name in the baseline.
+	 *
+	 * @param apiComponent the component of the reference baseline
+	 * @param apiComponentBaseline the component of the baseline or
+	 *            <code>null</code> if it was removed
+	 * @return the deltas to add to the baseline delta, in order
+	 */
+	private static IDelta[] compareComponent(final IApiComponent apiComponent, final IApiComponent apiComponentBaseline, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new IDelta[] { new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED,
+					IDelta.API_COMPONENT, null, id, id) };
+		}
+		List<IDelta> deltas = new ArrayList<>(2);
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
+				versionString, versionString2);
+		if (bundleVersionChangesDelta != null) {
+			deltas.add(bundleVersionChangesDelta);
+		}
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			IDelta delta = null;
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
+						visibilityModifiers, monitor);
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+			if (delta != null && delta != NO_DELTA) {
+				deltas.add(delta);
+			}
+		}
+		return deltas.toArray(new IDelta[deltas.size()]);
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -529,15 +680,59 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the given scope
+	 * with the given API baseline, comparing up to <code>parallelism</code>
+	 * elements of the scope concurrently.
+	 * <p>
+	 * The deltas of the scope elements are merged in the order the elements
+	 * are visited, so the returned delta is the same as the one of a
+	 * sequential comparison.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the number of scope elements to compare concurrently,
+	 *            values less than 2 compare sequentially
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 * @since 1.3.800
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
 		}
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
-		final Set<IDelta> deltas = new HashSet<>();
+		final Set<IDelta> deltas = new LinkedHashSet<>();
+		// a single pool serves the components, type roots and baselines of the
+		// scope
+		ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
+				continueOnResolverError, pool, localmonitor.split(1));
+		try {
+			scope.accept(visitor);
+			visitor.joinPendingComparisons();
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+			}
+		}
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -13,9 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
@@ -30,6 +39,13 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 /**
  * ApiScope visitor implementation to run the comparison on all elements of the
  * scope.
+ * <p>
+ * If a {@link ForkJoinPool} is given, the components and type roots of the
+ * scope are compared in the pool and their deltas are only added once
+ * {@link #joinPendingComparisons()} is called, in the order the elements were
+ * visited. Canceling the monitor while waiting for them stops the comparisons
+ * still running.
+ * </p>
  */
 public class CompareApiScopeVisitor extends ApiScopeVisitor {
 
@@ -38,31 +54,44 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	int visibilityModifiers;
 	boolean force;
 	boolean continueOnResolverError = false;
-	boolean containsErrors = false;
+	volatile boolean containsErrors = false;
 	SubMonitor monitor;
+	ForkJoinPool pool;
+	List<ForkJoinTask<List<IDelta>>> pending = new ArrayList<>();
+	/**
+	 * The monitor given to the comparisons, canceled once the comparisons in
+	 * the pool have to stop
+	 */
+	IProgressMonitor taskMonitor = new NullProgressMonitor();
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, null, monitor);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param pool the pool to run the comparisons in or <code>null</code> to
+	 *            compare the elements while visiting them
+	 * @since 1.3.800
+	 */
+	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final ForkJoinPool pool, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
+		this.pool = pool;
 		this.monitor = monitor;
 	}
 
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
-		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		SubMonitor localMonitor = this.monitor.setWorkRemaining(100).split(1);
+		// the baseline comparison forks per component in the same pool
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.pool, localMonitor);
 		if (delta != null) {
-			delta.accept(new DeltaVisitor() {
-				@Override
-				public void endVisit(IDelta localDelta) {
-					if (localDelta.getChildren().length == 0) {
-						CompareApiScopeVisitor.this.deltas.add(localDelta);
-					}
-				}
-			});
+			collect(() -> getLeafDeltas(delta));
 		} else {
 			this.containsErrors = true;
 		}
@@ -109,23 +138,18 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
-		final Delta globalDelta = new Delta();
-		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
-		if (referenceComponent != null) {
-			String versionString = referenceComponent.getVersion();
-			String versionString2 = component.getVersion();
-			IDelta bundleVersionChangesDelta = ApiComparator.checkBundleVersionChanges(component, referenceComponent.getSymbolicName(), versionString, versionString2);
-			if (bundleVersionChangesDelta != null) {
-				globalDelta.add(bundleVersionChangesDelta);
-			}
-		}
-		globalDelta.accept(new DeltaVisitor() {
-			@Override
-			public void endVisit(IDelta localDelta) {
-				if (localDelta.getChildren().length == 0) {
-					CompareApiScopeVisitor.this.deltas.add(localDelta);
+		collect(() -> {
+			final Delta globalDelta = new Delta();
+			globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, this.taskMonitor));
+			if (referenceComponent != null) {
+				String versionString = referenceComponent.getVersion();
+				String versionString2 = component.getVersion();
+				IDelta bundleVersionChangesDelta = ApiComparator.checkBundleVersionChanges(component, referenceComponent.getSymbolicName(), versionString, versionString2);
+				if (bundleVersionChangesDelta != null) {
+					globalDelta.add(bundleVersionChangesDelta);
 				}
 			}
+			return getLeafDeltas(globalDelta);
 		});
 		return false;
 	}
@@ -158,21 +182,66 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 			}
 		}
 		IApiBaseline baseline = referenceComponent.getBaseline();
-		IDelta delta = ApiComparator.compare(root, referenceComponent, apiComponent, null, this.referenceBaseline, baseline, this.visibilityModifiers, null);
-		if (delta != null) {
-			delta.accept(new DeltaVisitor() {
-				@Override
-				public void endVisit(IDelta localDelta) {
-					if (localDelta.getChildren().length == 0) {
-						CompareApiScopeVisitor.this.deltas.add(localDelta);
-					}
-				}
-			});
+		collect(() -> {
+			IDelta delta = ApiComparator.compare(root, referenceComponent, apiComponent, null, this.referenceBaseline, baseline, this.visibilityModifiers, this.taskMonitor);
+			if (delta == null) {
+				this.containsErrors = true;
+				return Collections.emptyList();
+			}
+			return getLeafDeltas(delta);
+		});
+	}
+
+	/**
+	 * Adds the deltas of the given comparison, right away if there is no pool
+	 * or once the comparison completed in the pool otherwise
+	 */
+	private void collect(Supplier<List<IDelta>> comparison) {
+		if (this.pool == null) {
+			this.deltas.addAll(comparison.get());
 		} else {
-			this.containsErrors = true;
+			this.pending.add(this.pool.submit(comparison::get));
+		}
+	}
+
+	/**
+	 * Waits for the comparisons running in the pool and adds their deltas in
+	 * the order the elements were visited. Does nothing if no pool was given.
+	 *
+	 * @throws OperationCanceledException if the monitor was canceled meanwhile
+	 * @since 1.3.800
+	 */
+	public void joinPendingComparisons() {
+		boolean joined = false;
+		try {
+			for (ForkJoinTask<List<IDelta>> task : this.pending) {
+				this.deltas.addAll(ApiComparator.join(task, this.monitor, this.taskMonitor));
+			}
+			joined = true;
+		} finally {
+			if (!joined) {
+				this.taskMonitor.setCanceled(true);
+				for (ForkJoinTask<List<IDelta>> task : this.pending) {
+					task.cancel(false);
+				}
+			}
+			this.pending.clear();
 		}
 	}
 
+	static List<IDelta> getLeafDeltas(IDelta delta) {
+		List<IDelta> leaves = new ArrayList<>();
+		delta.accept(new DeltaVisitor() {
+			@Override
+			public void endVisit(IDelta localDelta) {
+				if (localDelta.getChildren().length == 0) {
+					leaves.add(localDelta);
+				}
+			}
+		});
+		return leaves;
+	}
+
 	public boolean containsError() {
 		return this.containsErrors;
 	}
@@ -17,14 +17,19 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
 import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -123,6 +128,35 @@ public final class ApiSearchEngine {
 	 */
 	private String fRequestorContext = null;
 
+	/**
+	 * The number of components searched concurrently
+	 */
+	private int fParallelism = 1;
+
+	/**
+	 * Sets the number of API components to search concurrently. With more than
+	 * one worker the elements of each component are still searched in order by
+	 * a single worker, but different components are searched at the same time.
+	 * The {@link IApiSearchRequestor} and {@link IApiSearchReporter} passed to
+	 * {@link #search(IApiBaseline, IApiSearchRequestor, IApiSearchReporter, IProgressMonitor)}
+	 * must then be thread safe.
+	 *
+	 * @param workers the number of workers, values less than 2 search
+	 *            sequentially
+	 * @since 1.3.800
+	 */
+	public void setParallelism(int workers) {
+		fParallelism = Math.max(1, workers);
+	}
+
+	/**
+	 * @return the number of API components searched concurrently
+	 * @since 1.3.800
+	 */
+	public int getParallelism() {
+		return fParallelism;
+	}
+
 	/**
 	 * Returns the set of resolved references for the given {@link IApiType}
 	 *
@@ -247,6 +281,26 @@ public final class ApiSearchEngine {
 		IApiElement[] scopeelements = scope.getApiElements();
 		SubMonitor localmonitor = SubMonitor.convert(monitor, MessageFormat.format(SearchMessages.ApiSearchEngine_searching_projects, fRequestorContext), scopeelements.length * 2 + 1);
 		long start = System.currentTimeMillis();
+		MultiStatus mstatus = null;
+		if (fParallelism > 1 && scopeelements.length > 1) {
+			mstatus = searchConcurrently(requestor, scopeelements, reporter, localmonitor);
+		} else {
+			mstatus = searchSequentially(requestor, scopeelements, reporter, localmonitor);
+		}
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		}
+		if (mstatus != null) {
+			throw new CoreException(mstatus);
+		}
+	}
+
+	/**
+	 * Searches the given elements one after the other
+	 *
+	 * @return the status of failed searches or <code>null</code>
+	 */
+	private MultiStatus searchSequentially(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
@@ -263,7 +317,7 @@ public final class ApiSearchEngine {
 				localmonitor.setTaskName(taskname);
 				if (localmonitor.isCanceled()) {
 					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
+					return null;
 				}
 				localmonitor.worked(1);
 				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -277,11 +331,87 @@ public final class ApiSearchEngine {
 				mstatus.add(Status.error(ce.getMessage(), ce));
 			}
 		}
-		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		return mstatus;
+	}
+
+	/**
+	 * Searches the given elements with up to {@link #fParallelism} concurrent
+	 * jobs. Elements are grouped by their API component and each group is
+	 * searched in scope order by a single job, so the results of one component
+	 * are reported in the same order as in a sequential search.
+	 *
+	 * @return the status of failed searches in scope order or <code>null</code>
+	 */
+	private MultiStatus searchConcurrently(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
+		Map<IApiComponent, List<IApiElement>> groups = new LinkedHashMap<>();
+		for (IApiElement element : scopeelements) {
+			groups.computeIfAbsent(element.getApiComponent(), c -> new ArrayList<>()).add(element);
 		}
-		if (mstatus != null) {
-			throw new CoreException(mstatus);
+		List<List<IApiElement>> work = new ArrayList<>(groups.values());
+		IStatus[][] failures = new IStatus[work.size()][];
+		JobGroup group = new JobGroup(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_projects, fRequestorContext),
+				Math.min(fParallelism, work.size()), work.size());
+		for (int i = 0; i < work.size(); i++) {
+			int index = i;
+			List<IApiElement> elements = work.get(i);
+			String componentid = elements.get(0).getApiComponent().getSymbolicName();
+			Job job = Job.create(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project, componentid, fRequestorContext), monitor -> {
+				SubMonitor jobmonitor = SubMonitor.convert(monitor, elements.size());
+				List<IStatus> errors = new ArrayList<>();
+				long loopstart = System.currentTimeMillis();
+				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+					System.out.println("Searching " + componentid + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				for (IApiElement element : elements) {
+					if (jobmonitor.isCanceled()) {
+						reporter.reportResults(element, NO_REFERENCES);
+						break;
+					}
+					try {
+						searchReferences(requestor, element, reporter, jobmonitor.split(1));
+					} catch (CoreException ce) {
+						errors.add(Status.error(ce.getMessage(), ce));
+					}
+				}
+				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+					System.out.println("Searched " + componentid + " in " + (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+				failures[index] = errors.toArray(new IStatus[errors.size()]);
+				return jobmonitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			});
+			job.setSystem(true);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		try {
+			group.join(0, localmonitor.split(scopeelements.length * 2));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelAndWait(group);
+		} catch (OperationCanceledException e) {
+			cancelAndWait(group);
+		}
+		MultiStatus mstatus = null;
+		for (IStatus[] errors : failures) {
+			if (errors == null) {
+				continue;
+			}
+			for (IStatus error : errors) {
+				if (mstatus == null) {
+					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+				}
+				mstatus.add(error);
+			}
+		}
+		return mstatus;
+	}
+
+	private static void cancelAndWait(JobGroup group) {
+		group.cancel();
+		try {
+			group.join(0, null);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -25,7 +25,13 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 public interface IApiSearchReporter {
 
 	/**
-	 * Reports the given results to the user (implementation independent)
+	 * Reports the given results to the user (implementation independent).
+	 * <p>
+	 * May be called concurrently for elements of different API components if
+	 * the {@link ApiSearchEngine} searches in parallel, results for the
+	 * elements of one component are always reported in order from a single
+	 * thread.
+	 * </p>
 	 *
 	 * @param element the element that was searched
 	 * @param references the raw list of references from the
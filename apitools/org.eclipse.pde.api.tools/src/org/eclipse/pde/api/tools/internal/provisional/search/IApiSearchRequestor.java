@@ -22,6 +22,12 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 
 /**
  * A default search requestor to use for API tools
+ * <p>
+ * When the {@link ApiSearchEngine} searches components concurrently (see
+ * {@link ApiSearchEngine#setParallelism(int)}), the requestor is called from
+ * several threads. The calls for one component, starting with
+ * {@link #acceptComponent(IApiComponent)}, are all made from the same thread.
+ * </p>
  *
  * @since 1.0.0
  */
@@ -32,8 +32,8 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.ConcurrentOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.FileManager;
@@ -63,28 +63,18 @@ public class UseScanManager {
 	 * Cache to maintain the list of least recently used
 	 * <code>UseScanReferences</code>
 	 */
-	private static class UseScanCache extends SynchronizedOverflowingLRUCache<IApiComponent, IReferenceCollection> {
+	private static class UseScanCache extends ConcurrentOverflowingLRUCache<IApiComponent, IReferenceCollection> {
 
 		public UseScanCache(int size) {
 			super(size);
 		}
 
-		public UseScanCache(int size, int overflow) {
-			super(size, overflow);
-		}
-
 		@Override
-		protected boolean close(LRUCacheEntry<IApiComponent, IReferenceCollection> entry) {
-			IReferenceCollection references = entry.value;
+		protected boolean close(IApiComponent component, IReferenceCollection references) {
 			references.clear();
 			return true;
 		}
 
-		@Override
-		protected UseScanCache newInstance(int size, int newOverflow) {
-			return new UseScanCache(size, newOverflow);
-		}
-
 	}
 
 	private String[] fLocations = null;
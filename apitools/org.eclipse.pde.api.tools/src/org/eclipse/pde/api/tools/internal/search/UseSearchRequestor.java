@@ -62,18 +62,26 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	private Set<String> fComponentIds = null;
 
 	/**
-	 * The current {@link IApiFilterStore} from the current
-	 * {@link IApiComponent} context we are visiting.
+	 * The state of the {@link IApiComponent} currently visited by a search
+	 * thread.
+	 *
+	 * @param analyzer the {@link ReferenceAnalyzer} for detecting illegal API
+	 *            use, with the problem detectors built for the component
+	 * @param currentStore the {@link IApiFilterStore} of the component or
+	 *            <code>null</code>
+	 * @param antStore the {@link IApiFilterStore} created by finding the
+	 *            component's filter file in the root filter location
+	 *            {@link #antFilterRoot} or <code>null</code>
 	 */
-	private IApiFilterStore currentStore = null;
+	private record ComponentContext(ReferenceAnalyzer analyzer, IApiFilterStore currentStore, IApiFilterStore antStore) {
+	}
 
 	/**
-	 * The current {@link IApiFilterStore} for the current {@link IApiComponent}
-	 * context that we are visiting. The filter store will be created by finding
-	 * each component's filter file in the root filter location
-	 * {@link #antFilterRoot}.
+	 * The context of the {@link IApiComponent} we are visiting. Thread local
+	 * as the {@link ApiSearchEngine} may visit several components concurrently,
+	 * each one from a single thread.
 	 */
-	private IApiFilterStore antStore = null;
+	private final ThreadLocal<ComponentContext> fContext = new ThreadLocal<>();
 
 	/**
 	 * The root directory of the .api_filters files that should be used to
@@ -111,13 +119,6 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 */
 	private String[] jarPatterns = null;
 
-	/**
-	 * The default {@link ReferenceAnalyzer} for detecting illegal API use
-	 *
-	 * @see #includesIllegalUse()
-	 */
-	ReferenceAnalyzer fAnalyzer = null;
-
 	/**
 	 * Constructor
 	 *
@@ -135,7 +136,6 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	public UseSearchRequestor(Set<String> elementnames, IApiElement[] scope, int searchkinds) {
 		fSearchMask = searchkinds;
 		fComponentIds = elementnames;
-		fAnalyzer = new ReferenceAnalyzer();
 		prepareScope(scope);
 	}
 
@@ -143,17 +143,18 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	public boolean acceptComponent(IApiComponent component) {
 		try {
 			if (!component.isSystemComponent() && getScope().encloses(component)) {
+				ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
 				if (includesIllegalUse()) {
-					fAnalyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
+					analyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
 				}
-				currentStore = component.getFilterStore();
-				antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
+				IApiFilterStore antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
+				fContext.set(new ComponentContext(analyzer, component.getFilterStore(), antStore));
 				return true;
 			}
 		} catch (CoreException ce) {
 			// do nothing, return false
 		}
-		currentStore = null;
+		fContext.remove();
 		return false;
 	}
 
@@ -233,7 +234,11 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 * @since 1.1
 	 */
 	boolean isIllegalUse(IReference reference, IProgressMonitor monitor) {
-		IApiProblemDetector[] detectors = fAnalyzer.getProblemDetectors(reference.getReferenceKind());
+		ComponentContext context = fContext.get();
+		if (context == null) {
+			return false;
+		}
+		IApiProblemDetector[] detectors = context.analyzer().getProblemDetectors(reference.getReferenceKind());
 		for (IApiProblemDetector detector : detectors) {
 			if (monitor.isCanceled()) {
 				break;
@@ -243,7 +248,7 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 				ref.setFlags(IReference.F_ILLEGAL);
 				try {
 					IApiProblem pb = ((AbstractProblemDetector) detector).checkAndCreateProblem(reference, monitor);
-					if (pb != null && !isFiltered(pb)) {
+					if (pb != null && !isFiltered(context, pb)) {
 						ref.addProblems(pb);
 					} else {
 						return false;
@@ -263,8 +268,9 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 *
 	 * @return <code>true</code> is filtered, false otherwise
 	 */
-	boolean isFiltered(IApiProblem problem) {
-		return (currentStore != null && currentStore.isFiltered(problem)) || (antStore != null && antStore.isFiltered(problem));
+	private boolean isFiltered(ComponentContext context, IApiProblem problem) {
+		return (context.currentStore() != null && context.currentStore().isFiltered(problem))
+				|| (context.antStore() != null && context.antStore().isFiltered(problem));
 	}
 
 	@Override
@@ -84,6 +84,9 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
 		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
+		int written = 0;
+		int illegal = 0;
+		int internal = 0;
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
 			try {
@@ -91,18 +94,17 @@ public class XmlSearchReporter implements IApiSearchReporter {
 				descriptors.add(descriptor);
 
 				// Update counters
-				if (!writtenReferences.contains(descriptor)) {
-					referenceCount++;
+				if (writtenReferences.add(descriptor)) {
+					written++;
 					if ((referenceInterface.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
-						illegalCount++;
+						illegal++;
 					}
 					// Though visibility is a bit flag, we want to match the xml
 					// output exactly, which separates into folders by
 					// visibility equality
 					if (descriptor.getVisibility() == VisibilityModifiers.PRIVATE) {
-						internalCount++;
+						internal++;
 					}
-					writtenReferences.add(descriptor);
 				}
 
 			} catch (CoreException e) {
@@ -110,6 +112,13 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			}
 		}
 
+		synchronized (this) {
+			referenceCount += written;
+			illegalCount += illegal;
+			internalCount += internal;
+		}
+		// results of one component are only written by one thread, the files
+		// written for different components do not overlap
 		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
 	}
 
@@ -174,7 +183,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportCounts() {
+	public synchronized void reportCounts() {
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
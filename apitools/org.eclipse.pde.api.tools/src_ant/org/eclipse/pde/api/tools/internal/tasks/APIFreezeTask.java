@@ -66,6 +66,10 @@ public class APIFreezeTask extends CommonUtilsTask {
 	 * array of ResolverErrors.
 	 */
 	private final Map<String, ResolverError[]> resolverErrors = new HashMap<>();
+	/**
+	 * Number of bundles to compare concurrently
+	 */
+	private int threads = 1;
 
 	@Override
 	public void execute() throws BuildException {
@@ -138,7 +142,7 @@ public class APIFreezeTask extends CommonUtilsTask {
 			time = System.currentTimeMillis();
 		}
 		try {
-			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, null);
+			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, threads, null);
 		} catch (CoreException e) {
 			// ignore
 		} finally {
@@ -374,6 +378,19 @@ public class APIFreezeTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Sets the number of bundles to compare concurrently. The report is the
+	 * same as with a sequential comparison.
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the number of bundles to compare concurrently
+	 */
+	public void setThreads(String threads) {
+		this.threads = parseThreadCount(threads);
+	}
+
 	/**
 	 * Modifies the given doc to add a new element under the root element that
 	 * lists all the components that had resolver errors which could affect the
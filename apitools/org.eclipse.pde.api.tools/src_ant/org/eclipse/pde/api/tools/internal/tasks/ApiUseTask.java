@@ -118,6 +118,11 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Number of components to search concurrently
+	 */
+	private int threads = 1;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -319,6 +324,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
+			engine.setParallelism(this.threads);
 			engine.search(baseline, requestor, reporter, null);
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
@@ -623,4 +629,18 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Sets the number of components to search concurrently. Each component is
+	 * still searched by a single thread, so the reports are the same as with a
+	 * sequential search.
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the number of components to search concurrently
+	 */
+	public void setThreads(String threads) {
+		this.threads = parseThreadCount(threads);
+	}
 }
@@ -204,6 +204,21 @@ public abstract class CommonUtilsTask extends Task {
 		return list.toArray(new String[list.size()]);
 	}
 
+	/**
+	 * Parses the value of a <code>threads</code> attribute.
+	 *
+	 * @param threads the attribute value
+	 * @return the number of threads, at least <code>1</code>
+	 * @throws BuildException if the value is not a number
+	 */
+	protected static int parseThreadCount(String threads) throws BuildException {
+		try {
+			return Math.max(1, Integer.parseInt(threads.trim()));
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.invalidThreadCount, threads));
+		}
+	}
+
 	public static String convertToHtml(String s) {
 		char[] contents = s.toCharArray();
 		StringBuilder buffer = new StringBuilder();
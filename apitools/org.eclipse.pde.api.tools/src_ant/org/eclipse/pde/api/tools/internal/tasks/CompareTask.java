@@ -49,6 +49,7 @@ public class CompareTask extends CommonUtilsTask {
 	private String componentsList;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private int threads = 1;
 
 	@Override
 	public void execute() throws BuildException {
@@ -140,7 +141,7 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false, this.threads, null);
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -367,4 +368,17 @@ public class CompareTask extends CommonUtilsTask {
 	public void setincludeList(String includeListLocation) {
 		this.includeListLocation = includeListLocation;
 	}
+
+	/**
+	 * Sets the number of bundles to compare concurrently. The report is the
+	 * same as with a sequential comparison.
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the number of bundles to compare concurrently
+	 */
+	public void setThreads(String threads) {
+		this.threads = parseThreadCount(threads);
+	}
 }
@@ -84,6 +84,7 @@ public class Messages extends NLS {
 	public static String couldNotUnzip;
 	public static String couldNotUntar;
 	public static String reportLocationHasToBeAFile;
+	public static String invalidThreadCount;
 
 	public static String ApiMigrationTask_missing_scan_location;
 	public static String ApiMigrationTask_scan_location_not_dir;
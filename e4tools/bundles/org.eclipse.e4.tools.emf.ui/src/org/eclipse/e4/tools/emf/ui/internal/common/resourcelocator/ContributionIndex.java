@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+
+/**
+ * An immutable index of the entries found by a
+ * {@link TargetPlatformContributionCollector}.
+ * <p>
+ * Entries are grouped in {@link Unit}s, one per workspace project or target
+ * bundle, and numbered in the order they were found. The index maps bundles
+ * and packages to their entries and the lower case trigrams of the entry
+ * names to the entries containing them, so a search only has to match the
+ * entries that can satisfy its filters.
+ * </p>
+ * <p>
+ * Units of jar bundles are persisted together with the size and modification
+ * time of the jar, so they need not be read again in the next session while
+ * the jar is unchanged.
+ * </p>
+ */
+final class ContributionIndex {
+
+	/**
+	 * Bumped whenever the binary layout changes, older files are discarded.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int MAGIC = 0x45344349; // "E4CI"
+
+	private static final int[] NONE = new int[0];
+
+	/**
+	 * The entries found at an install location. Units of directories have no
+	 * stamp and are not persisted.
+	 */
+	record Unit(String installLocation, long length, long lastModified, List<Entry> entries) {
+
+		static Unit ofJar(String installLocation, List<Entry> entries) {
+			final File jar = new File(installLocation);
+			return new Unit(installLocation, jar.length(), jar.lastModified(), entries);
+		}
+
+		static Unit ofDirectory(String installLocation, List<Entry> entries) {
+			return new Unit(installLocation, -1, -1, entries);
+		}
+
+		boolean isJar() {
+			return length >= 0;
+		}
+
+		boolean isUpToDate(File jar) {
+			return isJar() && length == jar.length() && lastModified == jar.lastModified();
+		}
+	}
+
+	static final ContributionIndex EMPTY = new ContributionIndex(List.of());
+
+	private final List<Unit> fUnits;
+	private final Entry[] fEntries;
+	private final Map<String, int[]> fBundles;
+	private final Map<String, int[]> fPackages;
+	private final Set<String> fLocations;
+	private final Map<Integer, int[]> fTrigrams;
+
+	ContributionIndex(List<Unit> units) {
+		fUnits = units;
+		List<Entry> entries = new ArrayList<>();
+		Set<String> locations = new LinkedHashSet<>();
+		for (Unit unit : units) {
+			entries.addAll(unit.entries());
+			if (!unit.entries().isEmpty()) {
+				locations.add(unit.installLocation());
+			}
+		}
+		fEntries = entries.toArray(new Entry[entries.size()]);
+		fLocations = locations;
+
+		Map<String, IntList> bundles = new LinkedHashMap<>();
+		Map<String, IntList> packages = new LinkedHashMap<>();
+		Map<Integer, IntList> trigrams = new HashMap<>();
+		for (int i = 0; i < fEntries.length; i++) {
+			Entry e = fEntries[i];
+			if (e.bundleSymName != null) {
+				bundles.computeIfAbsent(e.bundleSymName, b -> new IntList()).add(i);
+			}
+			packages.computeIfAbsent(e.pakage, p -> new IntList()).add(i);
+			String name = e.name.toLowerCase(Locale.ROOT);
+			for (int j = 0; j + 3 <= name.length(); j++) {
+				int trigram = trigram(name, j);
+				if (trigram != -1) {
+					// entries are added in order, so a repeated trigram of the same name is the last one
+					IntList list = trigrams.computeIfAbsent(trigram, t -> new IntList());
+					if (list.size == 0 || list.values[list.size - 1] != i) {
+						list.add(i);
+					}
+				}
+			}
+		}
+		fBundles = toArrays(bundles);
+		fPackages = toArrays(packages);
+		fTrigrams = toArrays(trigrams);
+	}
+
+	List<Unit> getUnits() {
+		return fUnits;
+	}
+
+	int size() {
+		return fEntries.length;
+	}
+
+	Entry get(int index) {
+		return fEntries[index];
+	}
+
+	Collection<String> getBundleIds() {
+		return fBundles.keySet();
+	}
+
+	Collection<String> getPackages() {
+		return fPackages.keySet();
+	}
+
+	Collection<String> getLocations() {
+		return fLocations;
+	}
+
+	/**
+	 * Returns the indices of the entries that may match the given filters in
+	 * ascending order. The entries still have to be matched against the
+	 * filters, the index only rules out the others.
+	 *
+	 * @param namePattern
+	 *            a name pattern where <code>*</code> and <code>?</code> are
+	 *            wildcards, matched case insensitive anywhere in the name
+	 * @param bundles
+	 *            the bundles to match or <code>null</code> or empty for all
+	 * @param packages
+	 *            the packages to match or <code>null</code> or empty for all
+	 * @return the candidate indices or <code>null</code> if all entries are
+	 *         candidates
+	 */
+	int[] getCandidates(String namePattern, Collection<String> bundles, Collection<String> packages) {
+		List<int[]> lists = new ArrayList<>();
+		if (bundles != null && !bundles.isEmpty()) {
+			lists.add(union(fBundles, bundles));
+		}
+		if (packages != null && !packages.isEmpty()) {
+			lists.add(union(fPackages, packages));
+		}
+		if (namePattern != null) {
+			for (String literal : namePattern.toLowerCase(Locale.ROOT).split("[*?]")) { //$NON-NLS-1$
+				for (int j = 0; j + 3 <= literal.length(); j++) {
+					int trigram = trigram(literal, j);
+					if (trigram != -1) {
+						lists.add(fTrigrams.getOrDefault(trigram, NONE));
+					}
+				}
+			}
+		}
+		if (lists.isEmpty()) {
+			return null;
+		}
+		lists.sort(Comparator.comparingInt(list -> list.length));
+		int[] smallest = lists.get(0);
+		int[] candidates = new int[smallest.length];
+		int count = 0;
+		next: for (int candidate : smallest) {
+			for (int i = 1; i < lists.size(); i++) {
+				if (Arrays.binarySearch(lists.get(i), candidate) < 0) {
+					continue next;
+				}
+			}
+			candidates[count++] = candidate;
+		}
+		return Arrays.copyOf(candidates, count);
+	}
+
+	private static int[] union(Map<String, int[]> index, Collection<String> keys) {
+		BitSet union = new BitSet();
+		for (String key : keys) {
+			for (int i : index.getOrDefault(key, NONE)) {
+				union.set(i);
+			}
+		}
+		return union.stream().toArray();
+	}
+
+	/**
+	 * Returns the three characters at the given position packed into an int or
+	 * -1 if one of them is not ASCII. Names are matched with Unicode case
+	 * folding, which can not be reproduced by lower casing other characters.
+	 */
+	private static int trigram(String s, int start) {
+		char c1 = s.charAt(start);
+		char c2 = s.charAt(start + 1);
+		char c3 = s.charAt(start + 2);
+		if ((c1 | c2 | c3) >= 0x80) {
+			return -1;
+		}
+		return c1 << 14 | c2 << 7 | c3;
+	}
+
+	private static <K> Map<K, int[]> toArrays(Map<K, IntList> lists) {
+		Map<K, int[]> arrays = new LinkedHashMap<>(lists.size() * 4 / 3 + 1);
+		lists.forEach((key, list) -> arrays.put(key, Arrays.copyOf(list.values, list.size)));
+		return arrays;
+	}
+
+	private static final class IntList {
+		int[] values = new int[4];
+		int size;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+
+	/**
+	 * Reads the persisted units of jar bundles. A missing, outdated or corrupt
+	 * file results in no units.
+	 *
+	 * @param file
+	 *            the file to read
+	 * @return the units keyed by install location
+	 */
+	static Map<String, Unit> read(File file) {
+		Map<String, Unit> units = new HashMap<>();
+		if (file == null || !file.isFile()) {
+			return units;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				return units;
+			}
+			int unitCount = in.readInt();
+			for (int i = 0; i < unitCount; i++) {
+				String installLocation = in.readUTF();
+				long length = in.readLong();
+				long lastModified = in.readLong();
+				int entryCount = in.readInt();
+				List<Entry> entries = new ArrayList<>(entryCount);
+				for (int j = 0; j < entryCount; j++) {
+					Entry e = new Entry();
+					e.installLocation = installLocation;
+					e.name = in.readUTF();
+					e.path = in.readUTF();
+					e.pakage = in.readUTF();
+					e.bundleSymName = readNullable(in);
+					e.relativePath = readNullable(in);
+					entries.add(e);
+				}
+				units.put(installLocation, new Unit(installLocation, length, lastModified, entries));
+			}
+		} catch (IOException | RuntimeException e) {
+			// corrupt or truncated index, start from scratch
+			units.clear();
+		}
+		return units;
+	}
+
+	/**
+	 * Persists the units of jar bundles.
+	 *
+	 * @param file
+	 *            the file to write
+	 * @param units
+	 *            the units to persist, units of directories are skipped
+	 */
+	static void write(File file, Collection<Unit> units) throws IOException {
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+			List<Unit> jars = units.stream().filter(Unit::isJar).toList();
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(jars.size());
+			for (Unit unit : jars) {
+				out.writeUTF(unit.installLocation());
+				out.writeLong(unit.length());
+				out.writeLong(unit.lastModified());
+				out.writeInt(unit.entries().size());
+				for (Entry e : unit.entries()) {
+					out.writeUTF(e.name);
+					out.writeUTF(e.path);
+					out.writeUTF(e.pakage);
+					writeNullable(out, e.bundleSymName);
+					writeNullable(out, e.relativePath);
+				}
+			}
+		}
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static void writeNullable(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readNullable(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
@@ -28,9 +28,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -42,10 +41,10 @@ import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
@@ -57,11 +56,13 @@ import org.eclipse.e4.tools.emf.ui.common.ResourceSearchScope;
 import org.eclipse.e4.tools.emf.ui.internal.common.ClassContributionCollector;
 import org.eclipse.e4.tools.emf.ui.internal.common.component.dialogs.FilteredContributionDialog;
 import org.eclipse.e4.tools.emf.ui.internal.common.component.tabs.empty.E;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.ContributionIndex.Unit;
 import org.eclipse.jface.dialogs.ProgressMonitorDialog;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.pde.core.plugin.IPluginBase;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
 import org.eclipse.swt.SWT;
@@ -73,6 +74,8 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
@@ -87,10 +90,29 @@ import org.w3c.dom.NodeList;
 @SuppressWarnings("restriction")
 public abstract class TargetPlatformContributionCollector extends ClassContributionCollector {
 
-	CopyOnWriteArrayList<Entry> cacheEntry = new CopyOnWriteArrayList<>();
-	HashSet<String> cacheBundleId = new HashSet<>();
-	HashSet<String> cachePackage = new HashSet<>();
-	HashSet<String> cacheLocation = new HashSet<>();
+	/**
+	 * The family of the jobs building the index
+	 */
+	public static final Object INDEX_JOB_FAMILY = TargetPlatformContributionCollector.class;
+
+	/**
+	 * Minimum time in milliseconds between two publications of the partially
+	 * built index
+	 */
+	private static final long PUBLISH_INTERVAL = 500;
+
+	private volatile ContributionIndex index = ContributionIndex.EMPTY;
+	/**
+	 * The PDE state the index was built for, <code>null</code> if it must be
+	 * built
+	 */
+	private volatile PDEState indexedState;
+	/**
+	 * The time stamp of the resolver state when the index was built, the PDE
+	 * state is updated in place when only the target bundles changed
+	 */
+	private volatile long indexedTimeStamp;
+	private Map<String, Unit> persistedUnits;
 	private Pattern patternFile;
 	protected String cacheName;
 	protected boolean stopFiltering;
@@ -130,8 +152,25 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				int found = 0;
 				boolean more = false;
 
+				// only entries with the bundles, packages and name trigrams of
+				// the filter need to be matched
+				final ContributionIndex index = TargetPlatformContributionCollector.this.index;
+				final int[] candidates = index.getCandidates(filter.namePattern, filter.getBundles(),
+						filter.getPackages());
+				final int count = candidates == null ? index.size() : candidates.length;
+
+				String[] projectNames = null;
+				if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE) && filter.project != null) {
+					final IProject[] projects = filter.project.getWorkspace().getRoot().getProjects();
+					projectNames = new String[projects.length];
+					for (int i = 0; i < projects.length; i++) {
+						projectNames[i] = projects[i].getName();
+					}
+				}
+
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
+				for (int i = 0; i < count; i++) {
+					final Entry e = index.get(candidates == null ? i : candidates[i]);
 					if (stopFiltering) {
 						break;
 					}
@@ -172,23 +211,17 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							continue;
 						}
 					}
-					if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE)) {
-						if (filter.project != null) {
-							final IWorkspace workspace = filter.project.getWorkspace();
-							boolean fnd = false;
-							for (final IProject project : workspace.getRoot().getProjects()) {
-								// String path =
-								// project.getLocationURI().getPath();
-								final String path = project.getName();
-								if (e.installLocation.contains(path)) {
-									fnd = true;
-									break;
-								}
-							}
-							if (!fnd) {
-								continue;
+					if (projectNames != null) {
+						boolean fnd = false;
+						for (final String path : projectNames) {
+							if (e.installLocation.contains(path)) {
+								fnd = true;
+								break;
 							}
 						}
+						if (!fnd) {
+							continue;
+						}
 					}
 
 					final Matcher m = patternName.matcher(e.name);
@@ -224,10 +257,8 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
-				cacheEntry.clear();
-				cacheBundleId.clear();
-				cachePackage.clear();
-				cacheLocation.clear();
+				index = ContributionIndex.EMPTY;
+				indexedState = null;
 				outputDirectories.clear();
 			}
 		});
@@ -253,7 +284,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getBundleIds() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheBundleId);
+		return new ArrayList<>(index.getBundleIds());
 	}
 
 	/**
@@ -262,7 +293,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getPackages() {
 		reloadCache(false, null);
-		return new ArrayList<>(cachePackage);
+		return new ArrayList<>(index.getPackages());
 	}
 
 	/**
@@ -271,34 +302,60 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getLocations() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheLocation);
+		return new ArrayList<>(index.getLocations());
 	}
 
 	/**
-	 * Ensures the cache is loaded. By default it is loaded on first access, and
-	 * kept static until forced to reloaded.
+	 * Ensures the cache is loaded. By default it is loaded on first access and
+	 * when the target platform or the workspace bundles changed. Bundles that
+	 * did not change since the last build of the index, also in previous
+	 * sessions, are not read again. While loading, the entries found so far
+	 * are published every {@link #PUBLISH_INTERVAL} milliseconds.
 	 *
 	 * @param force
 	 *            true to force reload the cache
 	 */
 	private void reloadCache(boolean force, final IProviderStatusCallback providerStatusCallback) {
-		if (cacheEntry.isEmpty() || force) {
+		final PDEState state = TargetPlatformHelper.getPDEState();
+		final long timeStamp = state.getState().getTimeStamp();
+		if (indexedState != state || indexedTimeStamp != timeStamp || force) {
+			indexedState = state;
+			indexedTimeStamp = timeStamp;
 			if (providerStatusCallback != null) {
 				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 			}
-			cacheEntry.clear();
-			cacheBundleId.clear();
-			cachePackage.clear();
-			cacheLocation.clear();
 			outputDirectories.clear();
 
 			final Job job = new Job(Messages.TargetPlatformContributionCollector_BuildTargetPlatformIndex) {
 
+				private long lastPublished;
+
+				@Override
+				public boolean belongsTo(Object family) {
+					return family == INDEX_JOB_FAMILY;
+				}
+
+				/**
+				 * Makes the units found so far available to searches if the
+				 * last publication is long enough ago
+				 */
+				private void publish(List<Unit> units) {
+					final long now = System.currentTimeMillis();
+					if (now - lastPublished >= PUBLISH_INTERVAL) {
+						lastPublished = now;
+						index = new ContributionIndex(new ArrayList<>(units));
+					}
+				}
+
 				@Override
 				protected IStatus run(IProgressMonitor monitor) {
+					final Map<String, Unit> previousUnits = getPreviousUnits();
+					final List<Unit> units = new ArrayList<>();
+					lastPublished = System.currentTimeMillis();
+
 					// load workspace projects
 					final IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
-					final IPluginModelBase[] models = TargetPlatformHelper.getPDEState().getTargetModels();
+					final IPluginModelBase[] models = state.getTargetModels();
 					final int total = projects.length + models.length;
 					monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
 							+ cacheName + ")", total); //$NON-NLS-1$
@@ -310,9 +367,12 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						final String rootDirectory = pj.getLocation().toOSString();
 						monitor.subTask(rootDirectory);
 						monitor.worked(1);
+						final List<Entry> entries = new ArrayList<>();
 						TargetPlatformContributionCollector.this
 						.visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
-								new File(rootDirectory));
+								new File(rootDirectory), entries);
+						units.add(Unit.ofDirectory(rootDirectory, entries));
+						publish(units);
 					}
 
 					// load target platform bundles
@@ -332,6 +392,13 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						try {
 							final String installLocation = pluginModelBase.getInstallLocation();
 							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
+								final Unit previous = previousUnits.get(installLocation);
+								if (previous != null && previous.isUpToDate(new File(installLocation))) {
+									units.add(previous);
+									publish(units);
+									continue;
+								}
+								final List<Entry> entries = new ArrayList<>();
 								url = new URL("file:///" + installLocation); //$NON-NLS-1$
 								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
 									while (true) {
@@ -347,7 +414,6 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 										if (m.matches()) {
 											final Entry e = new Entry();
 											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
 											e.name = m.group(2);
 											e.path = m.group(1);
 											if (e.path != null) {
@@ -361,22 +427,25 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 											} else {
 												e.pakage = ""; //$NON-NLS-1$
 											}
-											cachePackage.add(e.pakage);
 
 											e.bundleSymName = pluginBase.getId();
 											if (e.path == null) {
 												e.path = ""; //$NON-NLS-1$
 											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
+											entries.add(e);
 										}
 									}
 								}
+								units.add(Unit.ofJar(installLocation, entries));
+								publish(units);
 							} else {
 								// not a jar file
 								final String bundle = getBundle(new File(installLocation));
 								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
+									final List<Entry> entries = new ArrayList<>();
+									visit(monitor, bundle, installLocation, new File(installLocation), entries);
+									units.add(Unit.ofDirectory(installLocation, entries));
+									publish(units);
 								}
 							}
 						} catch (final MalformedURLException e) {
@@ -387,13 +456,18 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							e.printStackTrace();
 						}
 					}
+					index = new ContributionIndex(units);
 					monitor.done();
 					if (monitor.isCanceled()) {
+						if (units.isEmpty()) {
+							indexedState = null;
+						}
 						if (providerStatusCallback != null) {
 							providerStatusCallback.onStatusChanged(ProviderStatus.CANCELLED);
 						}
 						return Status.CANCEL_STATUS;
 					}
+					saveUnits(units);
 					if (providerStatusCallback != null) {
 						providerStatusCallback.onStatusChanged(ProviderStatus.READY);
 					}
@@ -476,6 +550,41 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		}
 	}
 
+	/**
+	 * Returns the units of the current index, or of the previous session if
+	 * the index was not built yet, keyed by install location
+	 */
+	private synchronized Map<String, Unit> getPreviousUnits() {
+		final Map<String, Unit> units = new HashMap<>();
+		if (persistedUnits == null) {
+			persistedUnits = ContributionIndex.read(getIndexFile());
+			units.putAll(persistedUnits);
+		}
+		for (final Unit unit : index.getUnits()) {
+			units.put(unit.installLocation(), unit);
+		}
+		return units;
+	}
+
+	private synchronized void saveUnits(List<Unit> units) {
+		final File file = getIndexFile();
+		if (file != null) {
+			try {
+				ContributionIndex.write(file, units);
+			} catch (final IOException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private File getIndexFile() {
+		final Bundle bundle = FrameworkUtil.getBundle(TargetPlatformContributionCollector.class);
+		if (bundle == null) {
+			return null;
+		}
+		return Platform.getStateLocation(bundle).append(getClass().getSimpleName() + ".index").toFile(); //$NON-NLS-1$
+	}
+
 	// @Refactor
 	static public String getBundle(File file) {
 		if (file.isDirectory() == false) {
@@ -505,13 +614,14 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return null;
 	}
 
-	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file) {
+	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file,
+			List<Entry> entries) {
 		for (final File fChild : file.listFiles()) {
 			if (monitor.isCanceled()) {
 				break;
 			}
 			if (fChild.isDirectory()) {
-				visit(monitor, bundleName, installLocation, fChild);
+				visit(monitor, bundleName, installLocation, fChild, entries);
 			} else {
 				String name2 = fChild.getAbsolutePath().substring(installLocation.length() + 1);
 				name2 = stripOutputDirectory(name2, installLocation);
@@ -522,7 +632,6 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				if (m.matches()) {
 					final Entry e = new Entry();
 					e.installLocation = installLocation;
-					cacheLocation.add(installLocation);
 					e.name = m.group(2);
 					if (e.name.contains("$")) { //$NON-NLS-1$
 						continue;
@@ -548,11 +657,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					e.bundleSymName = bundleName;
 					// TODO we need project to strip source paths.
 					// e.pakage = e.pakage.replaceAll("^bin.", "");
-					cachePackage.add(e.pakage);
-					cacheEntry.add(e);
-					if (bundleName != null) {
-						cacheBundleId.add(bundleName);
-					}
+					entries.add(e);
 				}
 			}
 		}
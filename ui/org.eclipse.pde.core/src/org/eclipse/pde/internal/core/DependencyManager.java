@@ -15,32 +15,20 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
 
-import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
-import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
-import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
-import org.osgi.framework.namespace.HostNamespace;
-import org.osgi.framework.wiring.BundleRequirement;
-import org.osgi.framework.wiring.BundleRevision;
-import org.osgi.framework.wiring.BundleWire;
-import org.osgi.framework.wiring.BundleWiring;
-import org.osgi.resource.Resource;
 
 /**
  * Utility class to return bundle description collections for a variety of
@@ -171,89 +159,8 @@ public class DependencyManager {
 			throw new AssertionError("Cannot combine INCLUDE_ALL_FRAGMENTS and INCLUDE_NON_TEST_FRAGMENTS"); //$NON-NLS-1$
 		}
 
-		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
-		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
-
-		// initialize with given bundles
-		for (BundleDescription bundle : bundles) {
-			addNewRequiredBundle(bundle, closure, pending);
-		}
-
-		// perform exhaustive iterative bfs for required wires
-		while (!pending.isEmpty()) {
-			BundleDescription bundle = pending.remove();
-
-			BundleWiring wiring = bundle.getWiring();
-			if (wiring == null || !wiring.isInUse()) {
-				continue;
-			}
-
-			if (includeAllFragments || includeNonTestFragments) {
-				// A fragment's host is already required by a wire
-				for (BundleDescription fragment : bundle.getFragments()) {
-					if (includeAllFragments || !isTestWorkspaceProject(fragment)) {
-						addNewRequiredBundle(fragment, closure, pending);
-					}
-				}
-			}
-
-			if (isFragment(wiring.getRevision())) {
-				// Requirements of a fragment are hosted at the host, which
-				// therefore requires the corresponding wires: OSGi Core spec,
-				// chapter 6.4.1 - Hosted Requirements and Capabilities
-				for (BundleWire hostWire : wiring.getRequiredWires(HostNamespace.HOST_NAMESPACE)) {
-					// Temporarily remove this fragment's host from the closure
-					// to ensure it's added again below. In the subsequent
-					// processing this fragment's requirements will then also be
-					// considered (before it was discarded).
-					closure.remove(hostWire.getProvider());
-				}
-			}
-
-			List<BundleWire> requiredWires = wiring.getRequiredWires(null);
-			for (BundleWire wire : requiredWires) {
-				BundleRevision declaringBundle = wire.getRequirement().getRevision();
-				if (declaringBundle != bundle && !closure.contains(declaringBundle)) {
-					// Requirement is declared by an attached fragment, which is
-					// not included into the closure.
-					continue;
-				}
-				BundleRevision provider = wire.getCapability().getRevision();
-				// Use revision of required capability to support the case if
-				// fragments contribute new packages to their host's API.
-				if (provider instanceof BundleDescription requiredBundle && (includeOptional || !isOptional(wire.getRequirement()))) {
-					addNewRequiredBundle(requiredBundle, closure, pending);
-				}
-			}
-		}
-		return closure;
-	}
-
-	private static void addNewRequiredBundle(BundleDescription bundle, Set<BundleDescription> requiredBundles,
-			Queue<BundleDescription> pending) {
-		if (bundle != null && bundle.isResolved() && !bundle.isRemovalPending() && requiredBundles.add(bundle)) {
-			pending.add(bundle);
-		}
-	}
-
-	private static boolean isFragment(BundleRevision bundle) {
-		return (bundle.getTypes() & BundleRevision.TYPE_FRAGMENT) != 0;
-	}
-
-	private static boolean isOptional(BundleRequirement requirement) {
-		return Constants.RESOLUTION_OPTIONAL.equals(requirement.getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
-	}
-
-	private static boolean isTestWorkspaceProject(Resource f) {
-		// Be defensive when declaring a fragment as 'test'-fragment
-		IPluginModelBase pluginModel = PluginRegistry.findModel(f);
-		if (pluginModel != null) {
-			IResource resource = pluginModel.getUnderlyingResource();
-			if (resource != null) {
-				return ClasspathComputer.hasTestOnlyClasspath(resource.getProject());
-			} // test-fragments are usually not part of the target-platform
-		}
-		return false;
+		return RequirementsGraph.of(bundles).findClosure(bundles, includeOptional, includeAllFragments,
+				includeNonTestFragments);
 	}
 
 	/**
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+
+/**
+ * An index of the bundles in the PDE state and the packages they export, for
+ * editors that propose bundle symbolic names and package names.
+ * <p>
+ * Bundles and packages are kept in arrays sorted case insensitively by name,
+ * so all names starting with a prefix are found by a binary search. The
+ * index follows the state deltas bundle by bundle and compares the time
+ * stamp of the state on each lookup, so it is brought up to date with the
+ * changes it was not notified of before answering.
+ * </p>
+ */
+public class ExportedPackageIndex implements IStateDeltaListener {
+
+	/**
+	 * The sorted arrays of one version of the state, never modified once
+	 * created
+	 */
+	private record Snapshot(String[] bundleNames, BundleDescription[] bundles, String[] packageNames,
+			ExportPackageDescription[] packages) {
+	}
+
+	private static final Snapshot EMPTY = new Snapshot(new String[0], new BundleDescription[0], new String[0],
+			new ExportPackageDescription[0]);
+
+	/**
+	 * The indexed bundles by bundle id
+	 */
+	private final Map<Long, BundleDescription> fBundles = new HashMap<>();
+
+	private State fState;
+	private long fTimeStamp = -1;
+	private Snapshot fSnapshot = EMPTY;
+	private boolean fDirty;
+
+	public ExportedPackageIndex() {
+		PDECore.getDefault().getModelManager().addStateDeltaListener(this);
+	}
+
+	public void shutdown() {
+		PDECore.getDefault().getModelManager().removeStateDeltaListener(this);
+		synchronized (this) {
+			fBundles.clear();
+			fState = null;
+			fSnapshot = EMPTY;
+		}
+	}
+
+	/**
+	 * Returns the bundles in the state whose symbolic name starts with the
+	 * given prefix, ignoring case, sorted by symbolic name.
+	 *
+	 * @param prefix
+	 *            the prefix of the symbolic names
+	 * @param includeFragments
+	 *            whether fragments are returned too
+	 * @return the matching bundles
+	 */
+	public List<BundleDescription> getBundles(String prefix, boolean includeFragments) {
+		Snapshot snapshot = getSnapshot();
+		List<BundleDescription> result = new ArrayList<>();
+		for (int i = lowerBound(snapshot.bundleNames(), prefix); i < snapshot.bundleNames().length
+				&& snapshot.bundleNames()[i].regionMatches(true, 0, prefix, 0, prefix.length()); i++) {
+			BundleDescription bundle = snapshot.bundles()[i];
+			if (includeFragments || bundle.getHost() == null) {
+				result.add(bundle);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the packages exported by the bundles in the state whose name
+	 * starts with the given prefix, ignoring case, sorted by name. A package
+	 * exported by several bundles or in several versions is returned once for
+	 * each export.
+	 *
+	 * @param prefix
+	 *            the prefix of the package names
+	 * @return the matching exported packages
+	 */
+	public List<ExportPackageDescription> getExportedPackages(String prefix) {
+		Snapshot snapshot = getSnapshot();
+		List<ExportPackageDescription> result = new ArrayList<>();
+		for (int i = lowerBound(snapshot.packageNames(), prefix); i < snapshot.packageNames().length
+				&& snapshot.packageNames()[i].regionMatches(true, 0, prefix, 0, prefix.length()); i++) {
+			result.add(snapshot.packages()[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the exports of the package with the given name.
+	 *
+	 * @param name
+	 *            the name of the package
+	 * @return the exports of the package, in all versions and by all bundles
+	 */
+	public List<ExportPackageDescription> getExporters(String name) {
+		List<ExportPackageDescription> result = getExportedPackages(name);
+		result.removeIf(export -> !export.getName().equals(name));
+		return result;
+	}
+
+	@Override
+	public synchronized void stateResolved(StateDelta delta) {
+		if (delta == null) {
+			// the whole state changed
+			fState = null;
+			return;
+		}
+		if (fState == null || delta.getState() != fState) {
+			return;
+		}
+		for (BundleDelta bundleDelta : delta.getChanges(BundleDelta.ADDED | BundleDelta.REMOVED | BundleDelta.UPDATED, false)) {
+			BundleDescription bundle = bundleDelta.getBundle();
+			if ((bundleDelta.getType() & BundleDelta.REMOVED) != 0) {
+				fBundles.remove(bundle.getBundleId(), bundle);
+			} else {
+				fBundles.put(bundle.getBundleId(), bundle);
+			}
+			fDirty = true;
+		}
+		fTimeStamp = fState.getTimeStamp();
+	}
+
+	@Override
+	public synchronized void stateChanged(State newState) {
+		fState = null;
+	}
+
+	private Snapshot getSnapshot() {
+		// the model manager notifies this index while holding its own lock,
+		// so the state must be obtained before locking the index
+		PDEState pdeState = PDECore.getDefault().getModelManager().getState();
+		State state = pdeState != null ? pdeState.getState() : null;
+		synchronized (this) {
+			if (state == null) {
+				return EMPTY;
+			}
+			if (state != fState) {
+				fBundles.clear();
+				fState = state;
+				fTimeStamp = -1;
+			}
+			if (fTimeStamp != state.getTimeStamp()) {
+				synchronize(state);
+			}
+			if (fDirty) {
+				fSnapshot = createSnapshot();
+				fDirty = false;
+			}
+			return fSnapshot;
+		}
+	}
+
+	/**
+	 * Updates the index with the bundles of the state that were added,
+	 * removed or replaced without a delta
+	 */
+	private void synchronize(State state) {
+		long timeStamp = state.getTimeStamp();
+		BundleDescription[] bundles = state.getBundles();
+		Set<Long> ids = new HashSet<>(bundles.length * 4 / 3 + 1);
+		for (BundleDescription bundle : bundles) {
+			ids.add(bundle.getBundleId());
+			if (fBundles.put(bundle.getBundleId(), bundle) != bundle) {
+				fDirty = true;
+			}
+		}
+		if (fBundles.keySet().retainAll(ids)) {
+			fDirty = true;
+		}
+		fTimeStamp = timeStamp;
+	}
+
+	private Snapshot createSnapshot() {
+		List<BundleDescription> bundles = new ArrayList<>(fBundles.size());
+		List<ExportPackageDescription> packages = new ArrayList<>();
+		for (BundleDescription bundle : fBundles.values()) {
+			if (bundle.getSymbolicName() == null) {
+				continue;
+			}
+			bundles.add(bundle);
+			for (ExportPackageDescription export : bundle.getExportPackages()) {
+				if (export.getName() != null) {
+					packages.add(export);
+				}
+			}
+		}
+		bundles.sort(Comparator.comparing(BundleDescription::getSymbolicName, String.CASE_INSENSITIVE_ORDER)
+				.thenComparing(BundleDescription::getVersion));
+		packages.sort(Comparator.comparing(ExportPackageDescription::getName, String.CASE_INSENSITIVE_ORDER)
+				.thenComparing(ExportPackageDescription::getVersion));
+		return new Snapshot(names(bundles, BundleDescription::getSymbolicName),
+				bundles.toArray(new BundleDescription[bundles.size()]),
+				names(packages, ExportPackageDescription::getName),
+				packages.toArray(new ExportPackageDescription[packages.size()]));
+	}
+
+	private static <T> String[] names(List<T> elements, Function<T, String> name) {
+		String[] names = new String[elements.size()];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = name.apply(elements.get(i));
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the index of the first name that is not less than the given
+	 * prefix, ignoring case. Names starting with the prefix follow from there.
+	 */
+	private static int lowerBound(String[] names, String prefix) {
+		int index = Arrays.binarySearch(names, prefix, String.CASE_INSENSITIVE_ORDER);
+		if (index < 0) {
+			return -index - 1;
+		}
+		// step back to the first of several equal names
+		while (index > 0 && String.CASE_INSENSITIVE_ORDER.compare(names[index - 1], prefix) == 0) {
+			index--;
+		}
+		return index;
+	}
+}
@@ -20,4 +20,19 @@ public interface IStateDeltaListener {
 	public void stateResolved(StateDelta delta);
 
 	public void stateChanged(State newState);
+
+	/**
+	 * Notifies that the state was replaced by a new one, typically after the
+	 * target platform changed. The default implementation calls
+	 * {@link #stateChanged(State)}.
+	 *
+	 * @param newState
+	 *            the new state
+	 * @param oldState
+	 *            the replaced state or <code>null</code> if there was none,
+	 *            for example on startup
+	 */
+	default void stateChanged(State newState, State oldState) {
+		stateChanged(newState);
+	}
 }
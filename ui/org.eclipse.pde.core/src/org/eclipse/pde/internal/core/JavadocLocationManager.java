@@ -153,6 +153,7 @@ public class JavadocLocationManager {
 
 	public synchronized void reset() {
 		fLocations = null;
+		PDEClasspathContainer.resetExternalLibraries();
 	}
 
 }
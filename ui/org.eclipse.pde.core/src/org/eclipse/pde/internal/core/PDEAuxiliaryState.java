@@ -408,6 +408,14 @@ public class PDEAuxiliaryState {
 		return result;
 	}
 
+	/**
+	 * Removes the plugin info object of a bundle that left the state.
+	 * @param bundleID id of the removed bundle
+	 */
+	protected void removeAuxiliaryData(long bundleID) {
+		fPluginInfos.remove(Long.toString(bundleID));
+	}
+
 	/**
 	 * Clears the plugin info object map.
 	 */
@@ -17,9 +17,12 @@ import static org.eclipse.jdt.core.JavaCore.newClasspathAttribute;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -44,6 +47,37 @@ public class PDEClasspathContainer {
 		}
 	}
 
+	/**
+	 * A library of an external plug-in, independent of the access rules of
+	 * the plug-in depending on it
+	 */
+	private static record Library(IPath path, IPath srcPath, IClasspathAttribute[] attributes) {
+	}
+
+	/**
+	 * The libraries of an external plug-in, computed for the given bundle
+	 * description of the plug-in, generation of the source and javadoc
+	 * locations and user defined source locations
+	 */
+	private static record Libraries(BundleDescription bundle, int generation, String userSourceLocations,
+			List<Library> libraries) {
+	}
+
+	/**
+	 * Libraries of external plug-ins, shared by all containers. Entries are
+	 * only valid as long as the bundle description of their plug-in is the
+	 * same: it is replaced when the bundle changes in the state and when the
+	 * state is recreated for a new target. Their source attachments and
+	 * javadoc attributes additionally depend on the source and javadoc
+	 * locations, which are reset on a target reload, see
+	 * {@link #resetExternalLibraries()}, and on the user defined source
+	 * locations.
+	 */
+	private static final Map<IPluginModelBase, Libraries> EXTERNAL_LIBRARIES = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private static final AtomicInteger EXTERNAL_LIBRARIES_GENERATION = new AtomicInteger();
+
 	private static final Map<IPath, IAccessRule> ACCESSIBLE_RULES = new ConcurrentHashMap<>();
 	private static final Map<IPath, IAccessRule> DISCOURAGED_RULES = new ConcurrentHashMap<>();
 
@@ -78,31 +112,83 @@ public class PDEClasspathContainer {
 	}
 
 	protected static void addExternalPlugin(IPluginModelBase model, List<Rule> rules, List<IClasspathEntry> entries) {
+		for (Library library : getExternalLibraries(model)) {
+			addLibraryEntry(library.path(), library.srcPath(), rules, library.attributes(), entries);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private static List<Library> getExternalLibraries(IPluginModelBase model) {
+		BundleDescription bundle = model.getBundleDescription();
+		// read before computing, so a concurrent reset invalidates the result
+		int generation = EXTERNAL_LIBRARIES_GENERATION.get();
+		String userSourceLocations = PDECore.getDefault().getPreferencesManager()
+				.getString(ICoreConstants.P_SOURCE_LOCATIONS);
+		Libraries cached = EXTERNAL_LIBRARIES.get(model);
+		if (cached != null && cached.bundle() == bundle && cached.generation() == generation
+				&& cached.userSourceLocations().equals(userSourceLocations)) {
+			return cached.libraries();
+		}
+		List<Library> libraries = computeExternalLibraries(model);
+		if (bundle != null) {
+			EXTERNAL_LIBRARIES.put(model, new Libraries(bundle, generation, userSourceLocations, libraries));
+		}
+		return libraries;
+	}
+
+	/**
+	 * Returns whether the libraries of the given external plug-in are cached
+	 * for its current bundle description and source and javadoc locations.
+	 *
+	 * @param model the external plug-in
+	 * @return whether the libraries of the plug-in are cached
+	 */
+	@SuppressWarnings("deprecation")
+	public static boolean isExternalLibrariesCached(IPluginModelBase model) {
+		String userSourceLocations = PDECore.getDefault().getPreferencesManager()
+				.getString(ICoreConstants.P_SOURCE_LOCATIONS);
+		Libraries cached = EXTERNAL_LIBRARIES.get(model);
+		return cached != null && cached.bundle() == model.getBundleDescription()
+				&& cached.generation() == EXTERNAL_LIBRARIES_GENERATION.get()
+				&& cached.userSourceLocations().equals(userSourceLocations);
+	}
+
+	/**
+	 * Forgets the libraries of all external plug-ins, as their source and
+	 * javadoc locations may have changed.
+	 */
+	public static void resetExternalLibraries() {
+		EXTERNAL_LIBRARIES_GENERATION.incrementAndGet();
+		EXTERNAL_LIBRARIES.clear();
+	}
+
+	private static List<Library> computeExternalLibraries(IPluginModelBase model) {
+		List<Library> libraries = new ArrayList<>();
 		boolean isJarShape = new File(model.getInstallLocation()).isFile();
 		if (isJarShape) {
 			IPath srcPath = ClasspathUtilCore.getSourceAnnotation(model, ".", isJarShape); //$NON-NLS-1$
 			if (srcPath == null) {
 				srcPath = IPath.fromOSString(model.getInstallLocation());
 			}
-			addLibraryEntry(IPath.fromOSString(model.getInstallLocation()), srcPath, rules, getClasspathAttributes(model), entries);
+			libraries.add(new Library(IPath.fromOSString(model.getInstallLocation()), srcPath, getClasspathAttributes(model)));
 
 			// If the jarred plugin contains any jarred libraries they must be extracted as the compiler can't handle nested jar files
 			File[] extractedLibraries = PDECore.getDefault().getModelManager().getExternalModelManager().getExtractedLibraries(model);
 			for (File libraryFile : extractedLibraries) {
 				IPath path = IPath.fromOSString(libraryFile.getAbsolutePath());
-				addLibraryEntry(path, path, rules, getClasspathAttributes(model), entries);
+				libraries.add(new Library(path, path, getClasspathAttributes(model)));
 			}
 		} else {
-			IPluginLibrary[] libraries = model.getPluginBase().getLibraries();
-			if (libraries.length == 0) {
+			IPluginLibrary[] pluginLibraries = model.getPluginBase().getLibraries();
+			if (pluginLibraries.length == 0) {
 				// If there are no libraries, assume the root of the plug-in is the library '.'
 				IPath srcPath = ClasspathUtilCore.getSourceAnnotation(model, ".", isJarShape); //$NON-NLS-1$
 				if (srcPath == null) {
 					srcPath = IPath.fromOSString(model.getInstallLocation());
 				}
-				addLibraryEntry(IPath.fromOSString(model.getInstallLocation()), srcPath, rules, getClasspathAttributes(model), entries);
+				libraries.add(new Library(IPath.fromOSString(model.getInstallLocation()), srcPath, getClasspathAttributes(model)));
 			} else {
-				for (IPluginLibrary library : libraries) {
+				for (IPluginLibrary library : pluginLibraries) {
 					if (IPluginLibrary.RESOURCE.equals(library.getType())) {
 						continue;
 					}
@@ -117,12 +203,13 @@ public class PDEClasspathContainer {
 						}
 					}
 					if (path != null) {
-						addLibraryEntry(path, ClasspathUtilCore.getSourceAnnotation(model, expandedName, isJarShape),
-								rules, getClasspathAttributes(model), entries);
+						libraries.add(new Library(path, ClasspathUtilCore.getSourceAnnotation(model, expandedName, isJarShape),
+								getClasspathAttributes(model)));
 					}
 				}
 			}
 		}
+		return libraries;
 	}
 
 	protected static void addLibraryEntry(IPath path, IPath srcPath, List<Rule> rules, IClasspathAttribute[] attributes,
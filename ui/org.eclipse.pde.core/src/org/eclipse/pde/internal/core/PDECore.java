@@ -43,10 +43,12 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.internal.core.bnd.BndResourceChangeListener;
 import org.eclipse.pde.internal.core.bnd.BndWorkspaceServiceFactory;
+import org.eclipse.pde.internal.core.bnd.TargetRepository;
 import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.BundleContext;
@@ -80,11 +82,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public static boolean DEBUG_CLASSPATH = false;
 	public static boolean DEBUG_MODEL = false;
 	public static boolean DEBUG_TARGET_PROFILE = false;
+	public static boolean DEBUG_TARGET_RESOLUTION = false;
 	public static boolean DEBUG_VALIDATION = false;
 	private static final String DEBUG_FLAG = PLUGIN_ID + "/debug"; //$NON-NLS-1$
 	private static final String CLASSPATH_DEBUG = PLUGIN_ID + "/classpath"; //$NON-NLS-1$
 	private static final String MODEL_DEBUG = PLUGIN_ID + "/model"; //$NON-NLS-1$
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
+	private static final String TARGET_RESOLUTION_DEBUG = PLUGIN_ID + "/target/resolution"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + "/validation"; //$NON-NLS-1$
 
 	// Shared instance
@@ -178,6 +182,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private SourceLocationManager fSourceLocationManager;
 	private JavadocLocationManager fJavadocLocationManager;
 	private SearchablePluginsManager fSearchablePluginsManager;
+	private PluginSearchIndex fPluginSearchIndex;
+	private ExportedPackageIndex fExportedPackageIndex;
 	private ClasspathContainerResolverManager fClasspathContainerResolverManager;
 
 	// Tracing options manager
@@ -316,6 +322,20 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fSearchablePluginsManager;
 	}
 
+	public synchronized PluginSearchIndex getPluginSearchIndex() {
+		if (fPluginSearchIndex == null) {
+			fPluginSearchIndex = new PluginSearchIndex();
+		}
+		return fPluginSearchIndex;
+	}
+
+	public synchronized ExportedPackageIndex getExportedPackageIndex() {
+		if (fExportedPackageIndex == null) {
+			fExportedPackageIndex = new ExportedPackageIndex();
+		}
+		return fExportedPackageIndex;
+	}
+
 	public boolean areModelsInitialized() {
 		return getModelManager().isInitialized();
 	}
@@ -391,6 +411,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fSchemaRegistry.shutdown();
 			fSchemaRegistry = null;
 		}
+		TargetRepository.shutdownIfCreated();
 		if (fTargetProfileManager != null) {
 			fTargetProfileManager.shutdown();
 			fTargetProfileManager = null;
@@ -399,6 +420,14 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fSearchablePluginsManager.shutdown();
 			fSearchablePluginsManager = null;
 		}
+		if (fPluginSearchIndex != null) {
+			fPluginSearchIndex.shutdown();
+			fPluginSearchIndex = null;
+		}
+		if (fExportedPackageIndex != null) {
+			fExportedPackageIndex.shutdown();
+			fExportedPackageIndex = null;
+		}
 		if (fFeatureModelManager != null) {
 			fFeatureModelManager.shutdown();
 			fFeatureModelManager = null;
@@ -453,6 +482,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		DEBUG_CLASSPATH = DEBUG && options.getBooleanOption(CLASSPATH_DEBUG, false);
 		DEBUG_MODEL = DEBUG && options.getBooleanOption(MODEL_DEBUG, false);
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
+		DEBUG_TARGET_RESOLUTION = DEBUG && options.getBooleanOption(TARGET_RESOLUTION_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
 	}
 
@@ -366,4 +366,6 @@ public class PDECoreMessages extends NLS {
 	public static String ExportTargetJob_ConfiguringDestination;
 	public static String ExportTargetJob_ExportingTargetContents;
 
+	public static String TargetRepository_computingContentDigests;
+
 }
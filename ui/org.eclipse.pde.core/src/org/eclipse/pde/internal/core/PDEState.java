@@ -20,8 +20,15 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -46,8 +53,35 @@ import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	/**
+	 * Maximum number of threads reading target bundle manifests
+	 */
+	private static final int MAX_LOAD_THREADS = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
+	// install location -> stamp of the manifest source of each target model, for incremental updates
+	private final Map<String, BundleStamp> fTargetStamps = new HashMap<>();
+	private final boolean fUseSnapshot;
+
+	/**
+	 * Size and modification time of the file a target bundle manifest was read
+	 * from.
+	 */
+	private record BundleStamp(long length, long lastModified) {
+		static BundleStamp of(File bundleLocation) {
+			File stampFile = TargetStateCache.getStampFile(bundleLocation);
+			return stampFile == null ? null : new BundleStamp(stampFile.length(), stampFile.lastModified());
+		}
+	}
+
+	/**
+	 * The target models removed from and added to this state by
+	 * {@link PDEState#updateTargetBundles(URI[], IProgressMonitor)}. A bundle
+	 * that changed on disk is reported as both removed and added.
+	 */
+	public record TargetDelta(List<IPluginModelBase> removed, List<IPluginModelBase> added) {
+	}
 
 	/**
 	 * Creates a new PDE State containing bundles from the given URLs.
@@ -58,11 +92,35 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, false, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs.
+	 * <p>
+	 * If <code>useSnapshot</code> is set, the manifests of the given bundles are
+	 * restored from the snapshot kept in the PDE state location whenever the
+	 * bundle is unchanged since the snapshot was written. Only changed or new
+	 * bundles are read from disk and the snapshot is updated afterwards. This
+	 * should only be used for the target platform state, as there is a single
+	 * snapshot.
+	 * </p>
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param useSnapshot whether to use and update the persistent manifest snapshot
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, boolean useSnapshot,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
+		fUseSnapshot = useSnapshot;
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		TargetStateCache cache = useSnapshot ? TargetStateCache.load(getStateLocation()) : null;
+		createNewTargetState(addResolver, target, cache, monitor);
+		saveSnapshot(cache);
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -77,7 +135,7 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, TargetStateCache cache, IProgressMonitor monitor) {
 		fState = BundleHelper.getPlatformAdmin().getFactory().createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -87,21 +145,248 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
+				uris.length * 2);
+
+		LoadedManifest[] manifests = loadManifests(uris, cache, subMonitor.split(uris.length));
+		addBundles(manifests, subMonitor.split(uris.length));
+	}
+
+	/**
+	 * Reads and parses the manifests of the given bundles. This is I/O bound
+	 * and independent per bundle, so it is done by a bounded number of
+	 * threads. Progress is reported and cancellation checked on the calling
+	 * thread only. The result has the order of the given URIs.
+	 */
+	private static LoadedManifest[] loadManifests(URI[] uris, TargetStateCache cache, IProgressMonitor monitor) {
+		SubMonitor readMonitor = SubMonitor.convert(monitor, uris.length);
+		List<LoadedManifest> manifests = new ArrayList<>(uris.length);
+		int threads = Math.min(MAX_LOAD_THREADS, uris.length);
+		if (threads < 2) {
+			for (URI uri : uris) {
+				readMonitor.split(1);
+				manifests.add(loadManifest(uri, cache));
 			}
+		} else {
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				List<CompletableFuture<LoadedManifest>> futures = new ArrayList<>(uris.length);
+				for (URI uri : uris) {
+					futures.add(CompletableFuture.supplyAsync(() -> loadManifest(uri, cache), executor));
+				}
+				for (CompletableFuture<LoadedManifest> future : futures) {
+					readMonitor.split(1);
+					manifests.add(future.join());
+				}
+			} finally {
+				// drops the manifests not read yet if canceled
+				executor.shutdownNow();
+			}
+		}
+		manifests.removeIf(Objects::isNull);
+		return manifests.toArray(LoadedManifest[]::new);
+	}
+
+	/**
+	 * Adds the loaded bundles to the state. Adding is not thread safe and must
+	 * happen in a deterministic order as the bundle ids depend on it.
+	 *
+	 * @return the descriptions of the added bundles
+	 */
+	private List<BundleDescription> addBundles(LoadedManifest[] manifests, IProgressMonitor monitor) {
+		SubMonitor addMonitor = SubMonitor.convert(monitor, manifests.length);
+		List<BundleDescription> added = new ArrayList<>(manifests.length);
+		for (LoadedManifest loaded : manifests) {
+			try {
+				addMonitor.subTask(loaded.file().getName());
+				if (loaded.error() != null) {
+					throw loaded.error();
+				}
+				BundleDescription desc = addBundle(loaded.file(), -1, loaded.manifest());
+				if (desc != null) {
+					added.add(desc);
+				}
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
 				}
 			}
-			subMonitor.split(1);
+			addMonitor.split(1);
+		}
+		return added;
+	}
+
+	/**
+	 * Updates the target bundles of this state to the given list of bundle
+	 * locations. Bundles that are no longer listed or whose manifest changed
+	 * on disk are removed, new or changed bundles are read and added. All other
+	 * bundle descriptions and target models are kept as they are.
+	 * <p>
+	 * The state is not resolved, this is up to the caller. If the change is too
+	 * large or affects the system bundle (and therefore the platform
+	 * properties), the state is left untouched and <code>null</code> is
+	 * returned to indicate that a new state must be created.
+	 * </p>
+	 *
+	 * <p>
+	 * If this state uses the manifest snapshot, new or changed bundles are
+	 * restored from it where possible and the snapshot is updated to the new
+	 * set of bundles.
+	 * </p>
+	 *
+	 * @param uris locations of all target bundles
+	 * @param monitor progress monitor
+	 * @return the removed and added target models or <code>null</code> if the
+	 *         state could not be updated incrementally
+	 */
+	public TargetDelta updateTargetBundles(URI[] uris, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState, 100);
+		Map<String, IPluginModelBase> current = new HashMap<>();
+		for (IPluginModelBase model : fTargetModels) {
+			current.put(getBundleLocation(model), model);
+		}
+		Set<String> locations = new HashSet<>();
+		Set<String> changedLocations = new HashSet<>();
+		List<URI> changed = new ArrayList<>();
+		for (URI uri : uris) {
+			File file = toFile(uri);
+			if (file == null) {
+				continue;
+			}
+			String location = file.getAbsolutePath();
+			locations.add(location);
+			BundleStamp stamp = fTargetStamps.get(location);
+			if (!current.containsKey(location) || stamp == null || !stamp.equals(BundleStamp.of(file))) {
+				changed.add(uri);
+				changedLocations.add(location);
+			}
+		}
+		List<IPluginModelBase> removed = new ArrayList<>();
+		for (IPluginModelBase model : fTargetModels) {
+			String location = getBundleLocation(model);
+			if (!locations.contains(location) || changedLocations.contains(location)) {
+				removed.add(model);
+			}
+		}
+		if (removed.size() + changed.size() > uris.length / 2 + 1) {
+			// cheaper to start from scratch
+			return null;
+		}
+		for (IPluginModelBase model : removed) {
+			BundleDescription desc = model.getBundleDescription();
+			if (desc != null && fSystemBundle.equals(desc.getSymbolicName())) {
+				return null;
+			}
+		}
+		TargetStateCache cache = fUseSnapshot ? TargetStateCache.load(getStateLocation()) : null;
+		LoadedManifest[] manifests = loadManifests(changed.toArray(URI[]::new), cache, subMonitor.split(80));
+		for (LoadedManifest loaded : manifests) {
+			if (loaded.manifest() != null
+					&& "true".equals(loaded.manifest().get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
+				return null;
+			}
+		}
+
+		for (IPluginModelBase model : removed) {
+			fTargetModels.remove(model);
+			fTargetStamps.remove(getBundleLocation(model));
+			BundleDescription desc = model.getBundleDescription();
+			if (desc != null) {
+				fAuxiliaryState.removeAuxiliaryData(desc.getBundleId());
+			}
+			removeBundleDescription(desc);
+		}
+		List<IPluginModelBase> added = new ArrayList<>();
+		for (BundleDescription desc : addBundles(manifests, subMonitor.split(20))) {
+			if (isDuplicate(desc)) {
+				fAuxiliaryState.removeAuxiliaryData(desc.getBundleId());
+				fState.removeBundle(desc);
+				continue;
+			}
+			added.add(createTargetModel(desc));
+		}
+		if (cache != null) {
+			for (String location : locations) {
+				if (!changedLocations.contains(location) && current.containsKey(location)) {
+					cache.retain(new File(location));
+				}
+			}
+			saveSnapshot(cache);
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target state updated: " + removed.size() + " bundles removed, " + added.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " bundles added"); //$NON-NLS-1$
+		}
+		return new TargetDelta(removed, added);
+	}
+
+	private static void saveSnapshot(TargetStateCache cache) {
+		if (cache == null) {
+			return;
+		}
+		cache.save();
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target state snapshot: " + cache.getHits() + " bundles restored, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ cache.getMisses() + " bundles read"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the location of the given target model as it was passed to the
+	 * state, the install location of the model is normalized.
+	 */
+	private static String getBundleLocation(IPluginModelBase model) {
+		BundleDescription desc = model.getBundleDescription();
+		return desc != null ? desc.getLocation() : model.getInstallLocation();
+	}
+
+	/**
+	 * Returns whether another bundle with the same symbolic name and version
+	 * is already part of the state.
+	 */
+	private boolean isDuplicate(BundleDescription desc) {
+		for (BundleDescription other : fState.getBundles(desc.getSymbolicName())) {
+			if (other.getBundleId() != desc.getBundleId() && other.getVersion().equals(desc.getVersion())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The manifest of a target bundle or the error that prevented reading it.
+	 */
+	private record LoadedManifest(File file, Map<String, String> manifest, CoreException error) {
+	}
+
+	/**
+	 * Reads the manifest of the given bundle, from the snapshot if possible.
+	 * Safe to be called concurrently.
+	 *
+	 * @return the loaded manifest or <code>null</code> if the URI is not a file
+	 */
+	private static LoadedManifest loadManifest(URI uri, TargetStateCache cache) {
+		File file = toFile(uri);
+		if (file == null) {
+			return null;
+		}
+		try {
+			Map<String, String> manifest = cache != null ? cache.getManifest(file) : null;
+			if (manifest == null) {
+				try {
+					manifest = ManifestUtils.loadManifest(file);
+				} catch (CoreException e) {
+					if (cache != null && e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+						cache.putNotABundle(file);
+					}
+					throw e;
+				}
+				if (cache != null) {
+					cache.putManifest(file, manifest);
+				}
+			}
+			return new LoadedManifest(file, manifest, null);
+		} catch (CoreException e) {
+			return new LoadedManifest(file, null, e);
 		}
 	}
 
@@ -201,9 +486,7 @@ public class PDEState extends MinimalState {
 	private IPluginModelBase[] createTargetModels(BundleDescription[] bundleDescriptions) {
 		HashMap<String, IPluginModelBase> models = new LinkedHashMap<>((4 / 3) * bundleDescriptions.length + 1);
 		for (BundleDescription desc : bundleDescriptions) {
-			IPluginModelBase base = createExternalModel(desc);
-			fTargetModels.add(base);
-			models.put(desc.getSymbolicName(), base);
+			models.put(desc.getSymbolicName(), createTargetModel(desc));
 		}
 		if (models.isEmpty()) {
 			return new IPluginModelBase[0];
@@ -211,6 +494,16 @@ public class PDEState extends MinimalState {
 		return models.values().toArray(new IPluginModelBase[models.size()]);
 	}
 
+	private IPluginModelBase createTargetModel(BundleDescription desc) {
+		IPluginModelBase model = createExternalModel(desc);
+		fTargetModels.add(model);
+		BundleStamp stamp = BundleStamp.of(new File(desc.getLocation()));
+		if (stamp != null) {
+			fTargetStamps.put(desc.getLocation(), stamp);
+		}
+		return model;
+	}
+
 	private IPluginModelBase createExternalModel(BundleDescription desc) {
 		ExternalPluginModelBase model = null;
 		if (desc.getHost() == null) {
@@ -233,7 +526,7 @@ public class PDEState extends MinimalState {
 	 * any of these states are still around we should delete them.
 	 */
 	private void clearOldCache() {
-		File dir = new File(PDECore.getDefault().getStateLocation().toOSString());
+		File dir = getStateLocation();
 		File[] children = dir.listFiles();
 		if (children != null) {
 			for (File child : children) {
@@ -251,6 +544,18 @@ public class PDEState extends MinimalState {
 		}
 	}
 
+	private static File getStateLocation() {
+		return new File(PDECore.getDefault().getStateLocation().toOSString());
+	}
+
+	/**
+	 * Deletes the persistent manifest snapshot of the target platform state,
+	 * forcing the next snapshot based state to read all bundles from disk.
+	 */
+	public static void clearSnapshot() {
+		TargetStateCache.delete(getStateLocation());
+	}
+
 	public String getClassName(long bundleID) {
 		return fAuxiliaryState.getClassName(bundleID);
 	}
@@ -21,6 +21,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -59,8 +60,10 @@ import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.natures.PluginProject;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
@@ -136,6 +139,12 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	private final UpdateClasspathsJob fUpdateJob = new UpdateClasspathsJob();
 
+	/**
+	 * Index of the secondary dependencies of the workspace plug-ins, used to
+	 * scope the classpath updates.
+	 */
+	private final SecondaryDependencyIndex fSecondaryDependencies = new SecondaryDependencyIndex();
+
 	/**
 	 * Subclass of ModelEntry
 	 * It adds methods that add/remove model from the entry.
@@ -203,6 +212,23 @@ public class PluginModelManager implements IModelProviderListener {
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
 	private boolean fCancelled = false;
+	private TargetSettings fTargetSettings; // the settings fState was created with
+
+	/**
+	 * The settings other than the target bundles the state and the master
+	 * table depend on. A change to any of them requires a full initialization.
+	 */
+	private record TargetSettings(String os, String ws, String arch, String nl, List<String> executionEnvironments,
+			Set<NameVersionDescriptor> implicitDependencies, boolean workspaceOverridesTarget) {
+
+		static TargetSettings current() {
+			Collection<NameVersionDescriptor> implicit = DependencyManager.getImplicitDependencies();
+			return new TargetSettings(TargetPlatform.getOS(), TargetPlatform.getWS(), TargetPlatform.getOSArch(),
+					TargetPlatform.getNL(), new ArrayList<>(TargetPlatformHelper.getKnownExecutionEnvironments()),
+					new HashSet<>(implicit), PDECore.getDefault().getPreferencesManager()
+							.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET));
+		}
+	}
 
 	/**
 	 * Initialize the workspace and external (target) model manager
@@ -226,6 +252,22 @@ public class PluginModelManager implements IModelProviderListener {
 		return fModelManager;
 	}
 
+	/**
+	 * Returns whether the current thread holds the lock of the master table of
+	 * the {@link PluginModelManager}, for example while it loads the target
+	 * platform. Such a thread must not wait for other threads that might
+	 * access the plug-in models.
+	 *
+	 * @return <code>true</code> if the current thread holds the lock
+	 */
+	public static boolean holdsEntriesLock() {
+		PluginModelManager manager;
+		synchronized (PluginModelManager.class) {
+			manager = fModelManager;
+		}
+		return manager != null && Thread.holdsLock(manager.fEntriesSynchronizer);
+	}
+
 	/**
 	 * Shuts down the instance of {@link PluginModelManager} if it exists.
 	 */
@@ -347,27 +389,23 @@ public class PluginModelManager implements IModelProviderListener {
 					}
 				}
 			}
-			// do secondary dependencies
-			IPluginModelBase[] models = getWorkspaceModels();
-			for (IPluginModelBase model : models) {
+			// do secondary dependencies, only for the plug-ins listing one of the
+			// changed bundles or whose secondary dependencies changed
+			Set<String> changedBundles = new HashSet<>();
+			for (BundleDelta bundleDelta : deltas) {
+				changedBundles.add(bundleDelta.getBundle().getSymbolicName());
+			}
+			for (IPluginModelBase model : fSecondaryDependencies.getAffectedModels(getWorkspaceModels(), changedBundles)) {
 				IProject project = model.getUnderlyingResource().getProject();
-				if (!PluginProject.isJavaProject(project)) {
-					continue;
-				}
-				IJavaProject jProject = JavaCore.create(project);
-				if (map.containsKey(jProject)) {
-					continue;
-				}
-				try {
-					IBuild build = ClasspathUtilCore.getBuild(model);
-					if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null) {
-						map.put(jProject, new RequiredPluginsClasspathContainer(model, build, project));
-					}
-				} catch (CoreException e) {
+				if (PluginProject.isJavaProject(project)) {
+					map.putIfAbsent(JavaCore.create(project), new RequiredPluginsClasspathContainer(model, project));
 				}
 			}
 		}
 
+		if (PDECore.DEBUG_CLASSPATH) {
+			System.out.println("Updating " + map.size() + " classpath containers"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 		if (!map.isEmpty()) {
 			// update class path for all affected workspace plug-ins in one operation
 			for (Entry<IJavaProject, RequiredPluginsClasspathContainer> entry : map.entrySet()) {
@@ -408,12 +446,13 @@ public class PluginModelManager implements IModelProviderListener {
 	 * Notify all interested listeners the cached PDEState has changed
 	 *
 	 * @param newState	the new PDEState.
+	 * @param oldState	the replaced PDEState, may be <code>null</code>
 	 */
-	private void fireStateChanged(PDEState newState) {
+	private void fireStateChanged(PDEState newState, PDEState oldState) {
 		if (fStateListeners != null) {
 			ListIterator<IStateDeltaListener> li = fStateListeners.listIterator();
 			while (li.hasNext()) {
-				li.next().stateChanged(newState.getState());
+				li.next().stateChanged(newState.getState(), oldState == null ? null : oldState.getState());
 			}
 		}
 	}
@@ -511,12 +550,104 @@ public class PluginModelManager implements IModelProviderListener {
 	 * Clears all existing models and recreates them
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
+		// source attachments of unchanged bundles may differ in the new target
+		PDEClasspathContainer.resetExternalLibraries();
 		synchronized (fEntriesSynchronizer) {
+			if (fEntries != null && fState != null && reloadTargetIncrementally(monitor)) {
+				return;
+			}
 			fEntries = null;
 			initializeTable(monitor);
 		}
 	}
 
+	/**
+	 * Applies the difference between the current target models and the bundles
+	 * of the resolved workspace target to the existing state and master table,
+	 * instead of recreating them. This is only done if nothing but the target
+	 * bundles changed since the state was created. Has to be called
+	 * synchronized with fEntriesSynchronizer.
+	 *
+	 * @return <code>true</code> if the target was reloaded,
+	 *         <code>false</code> if a full initialization is required
+	 */
+	private boolean reloadTargetIncrementally(IProgressMonitor monitor) {
+		TargetSettings settings = TargetSettings.current();
+		if (!settings.equals(fTargetSettings)) {
+			return false;
+		}
+		SubMonitor subMon = SubMonitor.convert(monitor, PDECoreMessages.PluginModelManager_InitializingPluginModels, 100);
+		try {
+			ITargetDefinition unresolvedRepoBasedtarget = TargetPlatformHelper.getUnresolvedRepositoryBasedWorkspaceTarget();
+			if (unresolvedRepoBasedtarget != null && !P2TargetUtils.isProfileValid(unresolvedRepoBasedtarget)) {
+				return false;
+			}
+		} catch (CoreException e) {
+			return false;
+		}
+		long startTime = System.currentTimeMillis();
+		URI[] externalUris = getExternalBundles(subMon.split(40));
+		if (subMon.isCanceled()) {
+			// let the full initialization deal with the cancellation
+			return false;
+		}
+		PDEState.TargetDelta targetDelta = fState.updateTargetBundles(externalUris, subMon.split(40));
+		if (targetDelta == null) {
+			return false;
+		}
+		fCancelled = false;
+		fExternalManager.setModels(fState.getTargetModels());
+
+		PluginModelDelta delta = new PluginModelDelta();
+		for (IPluginModelBase model : targetDelta.removed()) {
+			String id = model.getPluginBase().getId();
+			if (id != null) {
+				handleRemove(id, model, delta);
+			}
+		}
+		Set<String> addedBSNs = new HashSet<>();
+		boolean preferWorkspaceBundle = settings.workspaceOverridesTarget();
+		for (IPluginModelBase model : targetDelta.added()) {
+			String id = model.getPluginBase().getId();
+			if (id == null) {
+				continue;
+			}
+			handleAdd(id, model, delta);
+			addedBSNs.add(id);
+			// workspace plug-ins override their new target counterparts, as in initializeTable
+			ModelEntry entry = fEntries.get(id);
+			if (entry != null && entry.hasWorkspaceModels()) {
+				if (preferWorkspaceBundle) {
+					fState.removeBundleDescription(model.getBundleDescription());
+				} else {
+					fState.updateBundleDescription(model.getBundleDescription());
+				}
+			}
+		}
+
+		StateDelta stateDelta = addedBSNs.isEmpty() ? fState.resolveState(true)
+				: fState.resolveState(addedBSNs.toArray(new String[addedBSNs.size()]));
+		subMon.split(10);
+		boolean externalPluginsChanged = isSavedExternalPluginListDifferent(externalUris);
+		saveExternalPluginList(externalUris);
+		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+		updateAffectedEntries(stateDelta);
+		fireStateDelta(stateDelta);
+		// the state was updated in place, so it is both the new and the old one
+		if (externalPluginsChanged) {
+			fireStateChanged(fState, fState);
+		}
+		fireDelta(delta);
+		subMon.split(10);
+
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target reloaded incrementally in " + (System.currentTimeMillis() - startTime) + " ms: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ targetDelta.removed().size() + " models removed, " + targetDelta.added().size() //$NON-NLS-1$
+					+ " models added"); //$NON-NLS-1$
+		}
+		return true;
+	}
+
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
@@ -546,6 +677,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 		PDEState oldState = fState;
 		long startTime = System.currentTimeMillis();
+		fTargetSettings = TargetSettings.current();
 
 		// Cannot assign to fEntries here - will create a race condition with isInitialized()
 		Map<String, LocalModelEntry> entries = new TreeMap<>();
@@ -580,7 +712,7 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		fState = new PDEState(externalUris, true, true, true, subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -622,7 +754,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 		// Fire a state change event to touch all projects if the target content has changed since last model init
 		if (externalPluginsChanged) {
-			fireStateChanged(fState);
+			fireStateChanged(fState, oldState);
 			if (PDECore.DEBUG_MODEL) {
 				System.out.println("Loaded target models differ from saved list, PDE builder will run on all projects."); //$NON-NLS-1$
 			}
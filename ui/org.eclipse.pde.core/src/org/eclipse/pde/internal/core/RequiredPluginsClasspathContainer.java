@@ -21,6 +21,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,8 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -50,6 +53,7 @@ import org.eclipse.osgi.service.resolver.BundleSpecification;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
+import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.pde.core.IClasspathContributor;
 import org.eclipse.pde.core.build.IBuild;
@@ -79,6 +83,31 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 			"junit-jupiter-api", // BSN of the bundle from Maven-Central
 			"org.junit.jupiter.api"); // BSN of the bundle from Eclipse-Orbit
 
+	/**
+	 * The accessible and discouraged rule of exported packages, shared by all
+	 * containers. Export descriptions are replaced together with their bundle
+	 * when it changes in the state, so entries never become stale and are
+	 * dropped with the state they belong to.
+	 */
+	private static final Map<ExportPackageDescription, Rule[]> EXPORT_RULES = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * The rules of the packages visible to the bundles of a state, per bundle
+	 * and exporter, for the resolution of the state they were computed for
+	 */
+	private static record VisiblePackages(State state, long timeStamp,
+			Map<BundleDescription, Map<BundleDescription, List<Rule>>> rules) {
+	}
+
+	/**
+	 * The visible packages of the last resolved state, shared by all
+	 * containers, so the visible packages and access codes of a bundle (e.g. of
+	 * a host with several fragments) are computed only once per resolution.
+	 * The state is resolved again after every change, which drops them.
+	 */
+	private static VisiblePackages visiblePackages;
+
 	private final IPluginModelBase fModel;
 	private IBuild fBuild;
 
@@ -314,20 +343,61 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	private Map<BundleDescription, List<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
-		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
 		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, desc, visiblePackages);
-		if (desc.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
+		Map<BundleDescription, List<Rule>> visiblePackages = getVisiblePackages(helper, desc);
+		if (desc.getHost() != null && desc.getHost().getSupplier() instanceof BundleDescription host) {
+			Map<BundleDescription, List<Rule>> merged = new HashMap<>(visiblePackages);
+			getVisiblePackages(helper, host).forEach((exporter, rules) -> merged.merge(exporter, rules, (r1, r2) -> {
+				List<Rule> list = new ArrayList<>(r1);
+				r2.stream().filter(rule -> !list.contains(rule)).forEach(list::add);
+				return list;
+			}));
+			visiblePackages = merged;
 		}
 		return visiblePackages;
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
-			Map<BundleDescription, List<Rule>> visiblePackages) {
-		if (desc == null) {
-			return;
+	/**
+	 * Returns the rules of the packages visible to the given bundle per
+	 * exporter, shared with other containers as long as the state of the
+	 * bundle is not resolved again.
+	 */
+	private static Map<BundleDescription, List<Rule>> getVisiblePackages(StateHelper helper,
+			BundleDescription desc) {
+		State state = desc.getContainingState();
+		if (state == null) {
+			return computeVisiblePackages(helper, desc);
 		}
+		return getVisiblePackages(state).computeIfAbsent(desc, d -> computeVisiblePackages(helper, d));
+	}
+
+	private static synchronized Map<BundleDescription, Map<BundleDescription, List<Rule>>> getVisiblePackages(
+			State state) {
+		VisiblePackages cached = visiblePackages;
+		if (cached == null || cached.state() != state || cached.timeStamp() != state.getTimeStamp()) {
+			cached = new VisiblePackages(state, state.getTimeStamp(), new ConcurrentHashMap<>());
+			visiblePackages = cached;
+		}
+		return cached.rules();
+	}
+
+	/**
+	 * Returns whether the rules of the packages visible to the given bundle
+	 * are cached for the current resolution of its state.
+	 *
+	 * @param desc the bundle
+	 * @return whether the visible packages of the bundle are cached
+	 */
+	public static synchronized boolean isVisiblePackagesCached(BundleDescription desc) {
+		VisiblePackages cached = visiblePackages;
+		State state = desc.getContainingState();
+		return cached != null && cached.state() == state && state != null
+				&& cached.timeStamp() == state.getTimeStamp() && cached.rules().containsKey(desc);
+	}
+
+	private static Map<BundleDescription, List<Rule>> computeVisiblePackages(StateHelper helper,
+			BundleDescription desc) {
+		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
 		ExportPackageDescription[] exports = helper.getVisiblePackages(desc);
 		for (ExportPackageDescription export : exports) {
 			BundleDescription exporter = export.getExporter();
@@ -340,13 +410,18 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 				list.add(rule);
 			}
 		}
+		visiblePackages.replaceAll((exporter, list) -> List.copyOf(list));
+		return Collections.unmodifiableMap(visiblePackages);
 	}
 
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
+	private static Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
 		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
-		String name = export.getName();
-		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		return new Rule(path, discouraged);
+		Rule[] rules = EXPORT_RULES.computeIfAbsent(export, e -> {
+			String name = e.getName();
+			IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return new Rule[] { new Rule(path, false), new Rule(path, true) };
+		});
+		return rules[discouraged ? 1 : 0];
 	}
 
 	protected void addDependencyViaImportPackage(BundleDescription desc, Set<BundleDescription> added,
@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.osgi.framework.Constants;
+import org.osgi.framework.namespace.HostNamespace;
+import org.osgi.framework.wiring.BundleRequirement;
+import org.osgi.framework.wiring.BundleRevision;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * The requirement wires of the bundles of a {@link State}, used by
+ * {@link DependencyManager#findRequirementsClosure(Collection, DependencyManager.Options...)}
+ * to compute closures.
+ * <p>
+ * Bundles are assigned dense indices the first time they are reached and
+ * their wires are stored as primitive arrays, so a closure is computed on bit
+ * sets without walking the wiring again. The graph of the target platform
+ * state is kept until that state changes and memoizes the closures computed
+ * on it, since launch validation and feature or product operations ask for
+ * the same closures over and over. Graphs of any other state are only used
+ * for a single computation.
+ * </p>
+ */
+final class RequirementsGraph {
+
+	private static final int MAX_CLOSURES = 64;
+
+	private static final byte LOADED = 1;
+	private static final byte MEMBER = 1 << 1;
+	private static final byte WIRED = 1 << 2;
+	private static final byte FRAGMENT = 1 << 3;
+
+	private static final int[] NONE = new int[0];
+
+	private static final int OPTIONAL = 1;
+	private static final int ALL_FRAGMENTS = 1 << 1;
+	private static final int NON_TEST_FRAGMENTS = 1 << 2;
+
+	private record ClosureKey(BitSet roots, int options) {
+	}
+
+	private static RequirementsGraph targetPlatformGraph;
+
+	private final State fState;
+	private final long fTimeStamp;
+
+	private final Map<BundleDescription, Integer> fIndices = new IdentityHashMap<>();
+	private final List<BundleDescription> fBundles = new ArrayList<>();
+	private byte[] fFlags = new byte[64];
+	private int[][] fFragments = new int[64][];
+	private int[][] fHosts = new int[64][];
+	/**
+	 * The required wires of each bundle as triples of the index of the bundle
+	 * declaring the requirement (-1 for the bundle itself), the index of the
+	 * provider and whether the requirement is optional
+	 */
+	private int[][] fWires = new int[64][];
+
+	private final Map<ClosureKey, BitSet> fClosures = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ClosureKey, BitSet> eldest) {
+			return size() > MAX_CLOSURES;
+		}
+	};
+
+	private RequirementsGraph(State state) {
+		fState = state;
+		fTimeStamp = state != null ? state.getTimeStamp() : -1;
+	}
+
+	/**
+	 * Returns the graph to compute closures of the given bundles with. The
+	 * graph of the target platform state is shared as long as that state does
+	 * not change.
+	 */
+	static RequirementsGraph of(Collection<BundleDescription> bundles) {
+		State state = getContainingState(bundles);
+		if (state == null || !state.isResolved() || !isTargetPlatformState(state)) {
+			return new RequirementsGraph(null);
+		}
+		synchronized (RequirementsGraph.class) {
+			RequirementsGraph graph = targetPlatformGraph;
+			if (graph == null || graph.fState != state || graph.fTimeStamp != state.getTimeStamp()) {
+				graph = new RequirementsGraph(state);
+				targetPlatformGraph = graph;
+			}
+			return graph;
+		}
+	}
+
+	private static State getContainingState(Collection<BundleDescription> bundles) {
+		State state = null;
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null) {
+				State containingState = bundle.getContainingState();
+				if (containingState == null || (state != null && state != containingState)) {
+					return null;
+				}
+				state = containingState;
+			}
+		}
+		return state;
+	}
+
+	private static boolean isTargetPlatformState(State state) {
+		PDECore core = PDECore.getDefault();
+		if (core == null) {
+			return false;
+		}
+		PluginModelManager manager = core.getModelManager();
+		return manager.isInitialized() && manager.getState().getState() == state;
+	}
+
+	synchronized Set<BundleDescription> findClosure(Collection<BundleDescription> bundles, boolean includeOptional,
+			boolean includeAllFragments, boolean includeNonTestFragments) {
+		BitSet roots = new BitSet();
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null) {
+				roots.set(indexOf(bundle));
+			}
+		}
+		int options = (includeOptional ? OPTIONAL : 0) | (includeAllFragments ? ALL_FRAGMENTS : 0)
+				| (includeNonTestFragments ? NON_TEST_FRAGMENTS : 0);
+		ClosureKey key = new ClosureKey(roots, options);
+		BitSet closure = fState != null ? fClosures.get(key) : null;
+		if (closure == null) {
+			boolean[] cacheable = { true };
+			closure = computeClosure(roots, options, cacheable);
+			if (fState != null && cacheable[0]) {
+				fClosures.put(key, closure);
+			}
+		}
+		Set<BundleDescription> result = new HashSet<>(closure.cardinality() * 4 / 3 + 1);
+		for (int i = closure.nextSetBit(0); i >= 0; i = closure.nextSetBit(i + 1)) {
+			result.add(fBundles.get(i));
+		}
+		return result;
+	}
+
+	private BitSet computeClosure(BitSet roots, int options, boolean[] cacheable) {
+		boolean includeOptional = (options & OPTIONAL) != 0;
+		boolean includeAllFragments = (options & ALL_FRAGMENTS) != 0;
+		boolean includeNonTestFragments = (options & NON_TEST_FRAGMENTS) != 0;
+
+		BitSet closure = new BitSet(fBundles.size());
+		int[] pending = new int[Math.max(16, roots.cardinality())];
+		int head = 0;
+		int tail = 0;
+
+		// initialize with given bundles
+		for (int i = roots.nextSetBit(0); i >= 0; i = roots.nextSetBit(i + 1)) {
+			if (isMember(i) && !closure.get(i)) {
+				closure.set(i);
+				pending = add(pending, tail++, i);
+			}
+		}
+
+		// perform exhaustive iterative bfs for required wires
+		while (head < tail) {
+			int bundle = pending[head++];
+			load(bundle);
+			if ((fFlags[bundle] & WIRED) == 0) {
+				continue;
+			}
+
+			if (includeAllFragments || includeNonTestFragments) {
+				// A fragment's host is already required by a wire
+				for (int fragment : fFragments[bundle]) {
+					if (isMember(fragment) && !closure.get(fragment)
+							&& (includeAllFragments || !isTestWorkspaceProject(fragment, cacheable))) {
+						closure.set(fragment);
+						pending = add(pending, tail++, fragment);
+					}
+				}
+			}
+
+			if ((fFlags[bundle] & FRAGMENT) != 0) {
+				// Requirements of a fragment are hosted at the host, so the
+				// host is processed again to consider this fragment's
+				// requirements: OSGi Core spec, chapter 6.4.1
+				for (int host : fHosts[bundle]) {
+					closure.clear(host);
+				}
+			}
+
+			int[] wires = fWires[bundle];
+			for (int i = 0; i < wires.length; i += 3) {
+				int declarer = wires[i];
+				if (declarer >= 0 && declarer != bundle && !closure.get(declarer)) {
+					// Requirement is declared by an attached fragment, which is
+					// not included into the closure.
+					continue;
+				}
+				int provider = wires[i + 1];
+				if ((includeOptional || wires[i + 2] == 0) && isMember(provider) && !closure.get(provider)) {
+					closure.set(provider);
+					pending = add(pending, tail++, provider);
+				}
+			}
+		}
+		return closure;
+	}
+
+	private static int[] add(int[] queue, int position, int bundle) {
+		if (position == queue.length) {
+			queue = Arrays.copyOf(queue, queue.length * 2);
+		}
+		queue[position] = bundle;
+		return queue;
+	}
+
+	private boolean isMember(int bundle) {
+		load(bundle);
+		return (fFlags[bundle] & MEMBER) != 0;
+	}
+
+	private boolean isTestWorkspaceProject(int fragment, boolean[] cacheable) {
+		// Be defensive when declaring a fragment as 'test'-fragment
+		IPluginModelBase pluginModel = PluginRegistry.findModel(fBundles.get(fragment));
+		if (pluginModel != null) {
+			IResource resource = pluginModel.getUnderlyingResource();
+			if (resource != null) {
+				// the classpath of a project may change without the state
+				cacheable[0] = false;
+				return ClasspathComputer.hasTestOnlyClasspath(resource.getProject());
+			} // test-fragments are usually not part of the target-platform
+		}
+		return false;
+	}
+
+	private int indexOf(BundleDescription bundle) {
+		Integer index = fIndices.get(bundle);
+		if (index != null) {
+			return index;
+		}
+		int newIndex = fBundles.size();
+		fIndices.put(bundle, newIndex);
+		fBundles.add(bundle);
+		if (newIndex == fFlags.length) {
+			int length = newIndex * 2;
+			fFlags = Arrays.copyOf(fFlags, length);
+			fFragments = Arrays.copyOf(fFragments, length);
+			fHosts = Arrays.copyOf(fHosts, length);
+			fWires = Arrays.copyOf(fWires, length);
+		}
+		return newIndex;
+	}
+
+	private void load(int index) {
+		if ((fFlags[index] & LOADED) != 0) {
+			return;
+		}
+		BundleDescription bundle = fBundles.get(index);
+		byte flags = LOADED;
+		if (bundle.isResolved() && !bundle.isRemovalPending()) {
+			flags |= MEMBER;
+		}
+		int[] fragments = NONE;
+		int[] hosts = NONE;
+		int[] wires = NONE;
+		BundleWiring wiring = bundle.getWiring();
+		if (wiring != null && wiring.isInUse()) {
+			flags |= WIRED;
+			BundleDescription[] bundleFragments = bundle.getFragments();
+			fragments = new int[bundleFragments.length];
+			for (int i = 0; i < bundleFragments.length; i++) {
+				fragments[i] = indexOf(bundleFragments[i]);
+			}
+			if ((wiring.getRevision().getTypes() & BundleRevision.TYPE_FRAGMENT) != 0) {
+				flags |= FRAGMENT;
+				List<BundleWire> hostWires = wiring.getRequiredWires(HostNamespace.HOST_NAMESPACE);
+				hosts = new int[hostWires.size()];
+				int count = 0;
+				for (BundleWire hostWire : hostWires) {
+					if (hostWire.getProvider() instanceof BundleDescription host) {
+						hosts[count++] = indexOf(host);
+					}
+				}
+				hosts = Arrays.copyOf(hosts, count);
+			}
+			List<BundleWire> requiredWires = wiring.getRequiredWires(null);
+			wires = new int[requiredWires.size() * 3];
+			int count = 0;
+			for (BundleWire wire : requiredWires) {
+				// Use revision of required capability to support the case if
+				// fragments contribute new packages to their host's API.
+				BundleRevision declaringBundle = wire.getRequirement().getRevision();
+				if (wire.getCapability().getRevision() instanceof BundleDescription provider
+						&& declaringBundle instanceof BundleDescription declarer) {
+					wires[count++] = declarer == bundle ? -1 : indexOf(declarer);
+					wires[count++] = indexOf(provider);
+					wires[count++] = isOptional(wire.getRequirement()) ? 1 : 0;
+				}
+			}
+			wires = Arrays.copyOf(wires, count);
+		}
+		fFlags[index] = flags;
+		fFragments[index] = fragments;
+		fHosts[index] = hosts;
+		fWires[index] = wires;
+	}
+
+	private static boolean isOptional(BundleRequirement requirement) {
+		return Constants.RESOLUTION_OPTIONAL.equals(requirement.getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
+	}
+}
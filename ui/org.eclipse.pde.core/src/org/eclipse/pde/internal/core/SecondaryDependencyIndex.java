@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.build.IBuild;
+import org.eclipse.pde.core.build.IBuildEntry;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.project.PDEProject;
+
+/**
+ * Index of the secondary dependencies that workspace plug-ins declare
+ * with {@link IBuildEntry#SECONDARY_DEPENDENCIES} in their build.properties.
+ * <p>
+ * The index maps each workspace project to the bundles it lists. It is
+ * updated incrementally: the build.properties of a project are only read again
+ * when their modification stamp changed since they were last indexed.
+ * </p>
+ */
+class SecondaryDependencyIndex {
+
+	private record Entry(long stamp, Set<String> bundles) {
+	}
+
+	private final Map<IProject, Entry> fEntries = new HashMap<>();
+
+	/**
+	 * Returns the workspace models whose classpath depends on one of the given
+	 * bundles through their secondary dependencies, or whose secondary
+	 * dependencies changed since they were last indexed.
+	 *
+	 * @param models
+	 *            the workspace models to consider
+	 * @param changedBundles
+	 *            symbolic names of the bundles that changed
+	 * @return the affected models
+	 */
+	synchronized Set<IPluginModelBase> getAffectedModels(IPluginModelBase[] models, Set<String> changedBundles) {
+		Set<IPluginModelBase> affected = new LinkedHashSet<>();
+		Set<IProject> projects = new HashSet<>();
+		for (IPluginModelBase model : models) {
+			IResource resource = model.getUnderlyingResource();
+			if (resource == null) {
+				continue;
+			}
+			IProject project = resource.getProject();
+			projects.add(project);
+			long stamp = PDEProject.getBuildProperties(project).getModificationStamp();
+			Entry entry = fEntries.get(project);
+			if (entry == null || entry.stamp() != stamp) {
+				Entry newEntry = new Entry(stamp, readSecondaryDependencies(model));
+				fEntries.put(project, newEntry);
+				if (entry != null && !entry.bundles().equals(newEntry.bundles())) {
+					affected.add(model);
+					continue;
+				}
+				entry = newEntry;
+			}
+			if (!Collections.disjoint(entry.bundles(), changedBundles)) {
+				affected.add(model);
+			}
+		}
+		fEntries.keySet().retainAll(projects);
+		return affected;
+	}
+
+	private static Set<String> readSecondaryDependencies(IPluginModelBase model) {
+		try {
+			IBuild build = ClasspathUtilCore.getBuild(model);
+			IBuildEntry entry = build == null ? null : build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES);
+			if (entry != null) {
+				return Set.copyOf(Arrays.asList(entry.getTokens()));
+			}
+		} catch (CoreException e) {
+		}
+		return Collections.emptySet();
+	}
+}
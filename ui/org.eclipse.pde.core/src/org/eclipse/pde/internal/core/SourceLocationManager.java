@@ -202,6 +202,7 @@ public class SourceLocationManager implements ICoreConstants {
 	public void reset() {
 		fExtensionLocations = null;
 		fBundleManifestLocator = null;
+		PDEClasspathContainer.resetExternalLibraries();
 	}
 
 	/**
@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.framework.util.CaseInsensitiveDictionaryMap;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Persistent snapshot of the bundle manifests that made up the last target
+ * platform state. Entries are keyed by the bundle location and validated
+ * against the size and modification time of the manifest source (the archive
+ * itself or the <code>META-INF/MANIFEST.MF</code> of a bundle directory), so a
+ * warm start only has to open bundles that actually changed. Archives and
+ * directories that turned out not to be bundles are remembered as well, so
+ * they are not opened again either.
+ * <p>
+ * The auxiliary data kept by {@link PDEAuxiliaryState} is derived from the
+ * manifest headers, so restoring the headers restores it as well. The manifests
+ * are stored before {@link TargetWeaver} is applied, weaving is redone on every
+ * load.
+ * </p>
+ * <p>
+ * Lookups and additions are thread safe so manifests can be read in parallel.
+ * </p>
+ */
+class TargetStateCache {
+
+	private static final String CACHE_FILE = ".targetState"; //$NON-NLS-1$
+
+	/**
+	 * Bumped whenever the binary layout changes, older files are discarded.
+	 */
+	private static final int FORMAT_VERSION = 2;
+
+	private static final int MAGIC = 0x50444553; // "PDES"
+
+	/**
+	 * A cached manifest and the stamp of the file it was read from. The headers
+	 * are <code>null</code> if the location is not a bundle.
+	 */
+	private record CachedManifest(long length, long lastModified, Map<String, String> headers) {
+	}
+
+	private final File fCacheFile;
+	private final Map<String, CachedManifest> fPrevious;
+	private final Map<String, CachedManifest> fCurrent = new ConcurrentHashMap<>();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	private TargetStateCache(File cacheFile, Map<String, CachedManifest> previous) {
+		fCacheFile = cacheFile;
+		fPrevious = previous;
+	}
+
+	/**
+	 * Loads the snapshot stored in the given directory. A missing, outdated or
+	 * corrupt snapshot results in an empty cache.
+	 *
+	 * @param dir the PDE state location
+	 * @return the cache, never <code>null</code>
+	 */
+	static TargetStateCache load(File dir) {
+		File file = new File(dir, CACHE_FILE);
+		Map<String, CachedManifest> entries = new HashMap<>();
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+				if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION) {
+					int count = in.readInt();
+					for (int i = 0; i < count; i++) {
+						String path = readString(in);
+						long length = in.readLong();
+						long lastModified = in.readLong();
+						int headerCount = in.readInt();
+						Map<String, String> headers = null;
+						if (headerCount >= 0) {
+							headers = new CaseInsensitiveDictionaryMap<>(headerCount);
+							for (int j = 0; j < headerCount; j++) {
+								headers.put(readString(in), readString(in));
+							}
+						}
+						entries.put(path, new CachedManifest(length, lastModified, headers));
+					}
+				}
+			} catch (IOException e) {
+				// corrupt or truncated snapshot, start from scratch
+				entries.clear();
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Discarding unreadable target state snapshot: " + e.getMessage()); //$NON-NLS-1$
+				}
+			}
+		}
+		return new TargetStateCache(file, entries);
+	}
+
+	/**
+	 * Returns a modifiable copy of the cached manifest of the given bundle if
+	 * the bundle has not changed since it was cached. Like the headers parsed
+	 * from a manifest, the keys of the copy are case insensitive. Locations without a
+	 * stamp, such as directories without a manifest, cannot be cached and do
+	 * not count as misses.
+	 *
+	 * @param bundleLocation bundle archive or directory
+	 * @return the manifest headers or <code>null</code> if the bundle must be
+	 *         read from disk
+	 * @throws CoreException with the status code
+	 *             {@link ManifestUtils#STATUS_CODE_NOT_A_BUNDLE_MANIFEST} if the
+	 *             unchanged location is known not to be a bundle
+	 */
+	Map<String, String> getManifest(File bundleLocation) throws CoreException {
+		File stampFile = getStampFile(bundleLocation);
+		if (stampFile == null) {
+			return null;
+		}
+		String key = bundleLocation.getAbsolutePath();
+		CachedManifest cached = fPrevious.get(key);
+		if (isCurrent(cached, stampFile)) {
+			fCurrent.put(key, cached);
+			fHits.incrementAndGet();
+			if (cached.headers() == null) {
+				throw new CoreException(new Status(IStatus.ERROR, PDECore.PLUGIN_ID,
+						ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST, bundleLocation.getAbsolutePath(), null));
+			}
+			return new CaseInsensitiveDictionaryMap<>(cached.headers());
+		}
+		fMisses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Carries the cached manifest of the given bundle over to the next
+	 * snapshot if the bundle has not changed since it was cached. Used for
+	 * bundles that are kept in a state without reading their manifest again.
+	 *
+	 * @param bundleLocation bundle archive or directory
+	 */
+	void retain(File bundleLocation) {
+		File stampFile = getStampFile(bundleLocation);
+		if (stampFile == null) {
+			return;
+		}
+		String key = bundleLocation.getAbsolutePath();
+		CachedManifest cached = fPrevious.get(key);
+		if (isCurrent(cached, stampFile)) {
+			fCurrent.put(key, cached);
+		}
+	}
+
+	private static boolean isCurrent(CachedManifest cached, File stampFile) {
+		return cached != null && cached.length() == stampFile.length()
+				&& cached.lastModified() == stampFile.lastModified();
+	}
+
+	/**
+	 * Records the manifest that was read for the given bundle. Must be called
+	 * before the manifest is woven or otherwise modified.
+	 *
+	 * @param bundleLocation bundle archive or directory
+	 * @param manifest manifest headers as read from disk
+	 */
+	void putManifest(File bundleLocation, Map<String, String> manifest) {
+		File stampFile = getStampFile(bundleLocation);
+		if (stampFile == null || manifest == null) {
+			return;
+		}
+		fCurrent.put(bundleLocation.getAbsolutePath(),
+				new CachedManifest(stampFile.length(), stampFile.lastModified(),
+						new CaseInsensitiveDictionaryMap<>(manifest)));
+	}
+
+	/**
+	 * Records that the given location is not a bundle, so it is skipped as long
+	 * as it does not change.
+	 *
+	 * @param bundleLocation archive or directory
+	 */
+	void putNotABundle(File bundleLocation) {
+		File stampFile = getStampFile(bundleLocation);
+		if (stampFile == null) {
+			return;
+		}
+		fCurrent.put(bundleLocation.getAbsolutePath(),
+				new CachedManifest(stampFile.length(), stampFile.lastModified(), null));
+	}
+
+	/**
+	 * Writes the entries used or added since this cache was loaded. Entries of
+	 * bundles no longer in the target are dropped. Nothing is written if the
+	 * snapshot would not change.
+	 */
+	void save() {
+		if (fMisses.get() == 0 && fCurrent.size() == fPrevious.size()) {
+			return;
+		}
+		File tmp = new File(fCacheFile.getParentFile(), CACHE_FILE + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(fCurrent.size());
+				for (Entry<String, CachedManifest> entry : fCurrent.entrySet()) {
+					CachedManifest cached = entry.getValue();
+					writeString(out, entry.getKey());
+					out.writeLong(cached.length());
+					out.writeLong(cached.lastModified());
+					if (cached.headers() == null) {
+						out.writeInt(-1);
+						continue;
+					}
+					out.writeInt(cached.headers().size());
+					for (Entry<String, String> header : cached.headers().entrySet()) {
+						writeString(out, header.getKey());
+						writeString(out, header.getValue());
+					}
+				}
+			}
+			Files.move(tmp.toPath(), fCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			PDECore.log(e);
+			tmp.delete();
+		}
+	}
+
+	/**
+	 * @return number of bundles and known non-bundles served from the snapshot
+	 */
+	int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return number of bundles that had to be read from disk
+	 */
+	int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Deletes the snapshot in the given directory, if any.
+	 *
+	 * @param dir the PDE state location
+	 */
+	static void delete(File dir) {
+		new File(dir, CACHE_FILE).delete();
+	}
+
+	/**
+	 * Returns the file whose size and time stamp identify the manifest of the
+	 * given bundle or <code>null</code> if the bundle has no stable stamp (e.g.
+	 * a directory without a manifest).
+	 */
+	static File getStampFile(File bundleLocation) {
+		if (bundleLocation.isFile()) {
+			return bundleLocation;
+		}
+		File manifest = new File(bundleLocation, JarFile.MANIFEST_NAME);
+		return manifest.isFile() ? manifest : null;
+	}
+
+	// header values such as Export-Package may exceed the 64k limit of writeUTF
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.osgi.framework.Constants;
+import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
+import org.osgi.resource.Requirement;
+
+/**
+ * Index of the capabilities of the bundles in a {@link State}, keyed by
+ * namespace and the value of the primary attribute of the namespace (the
+ * package name for <code>osgi.wiring.package</code>, the symbolic name for
+ * <code>osgi.identity</code>, the object class for <code>osgi.service</code>
+ * and so on).
+ * <p>
+ * Requirements whose filter demands a value of the primary attribute are
+ * answered with the capabilities having this value, other requirements with
+ * all capabilities of their namespace. The index follows changes of the state
+ * incrementally: when the time stamp of the state changed, only the
+ * capabilities of bundles that were added to or removed from the state are
+ * added or removed.
+ * </p>
+ */
+final class CapabilityIndex {
+
+	private static final String SERVICE_NAMESPACE = "osgi.service"; //$NON-NLS-1$
+
+	private static final class NamespaceIndex {
+		final Map<String, Set<Capability>> keyed = new HashMap<>();
+		final Set<Capability> unkeyed = new LinkedHashSet<>();
+		final Set<Capability> all = new LinkedHashSet<>();
+	}
+
+	private final Function<BundleDescription, List<Capability>> fCapabilities;
+
+	private final Map<BundleDescription, List<Capability>> fBundles = new IdentityHashMap<>();
+	private final Map<String, NamespaceIndex> fNamespaces = new HashMap<>();
+
+	private State fState;
+	private long fTimeStamp;
+
+	/**
+	 * @param capabilities
+	 *            computes the capabilities to index for a bundle
+	 */
+	CapabilityIndex(Function<BundleDescription, List<Capability>> capabilities) {
+		fCapabilities = capabilities;
+	}
+
+	/**
+	 * Returns the capabilities of the bundles in the given state that may
+	 * satisfy the given requirement. The caller still has to match them
+	 * against the filter of the requirement.
+	 *
+	 * @param state
+	 *            the state to return capabilities of
+	 * @param requirement
+	 *            the requirement to find candidates for
+	 * @return the candidate capabilities
+	 */
+	synchronized List<Capability> getCandidates(State state, Requirement requirement) {
+		update(state);
+		String namespace = requirement.getNamespace();
+		NamespaceIndex index = fNamespaces.get(namespace);
+		if (index == null) {
+			return List.of();
+		}
+		String value = getFilterValue(requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE),
+				getPrimaryAttribute(namespace));
+		if (value == null) {
+			return new ArrayList<>(index.all);
+		}
+		Set<Capability> keyed = index.keyed.getOrDefault(value, Set.of());
+		List<Capability> candidates = new ArrayList<>(keyed.size() + index.unkeyed.size());
+		candidates.addAll(keyed);
+		candidates.addAll(index.unkeyed);
+		return candidates;
+	}
+
+	private void update(State state) {
+		if (state != fState) {
+			fBundles.clear();
+			fNamespaces.clear();
+			fState = state;
+		} else if (state.getTimeStamp() == fTimeStamp) {
+			return;
+		}
+		fTimeStamp = state.getTimeStamp();
+		BundleDescription[] bundles = state.getBundles();
+		Set<BundleDescription> current = Collections.newSetFromMap(new IdentityHashMap<>(bundles.length));
+		for (BundleDescription bundle : bundles) {
+			current.add(bundle);
+			if (!fBundles.containsKey(bundle)) {
+				List<Capability> capabilities = fCapabilities.apply(bundle);
+				fBundles.put(bundle, capabilities);
+				capabilities.forEach(this::add);
+			}
+		}
+		fBundles.entrySet().removeIf(entry -> {
+			if (current.contains(entry.getKey())) {
+				return false;
+			}
+			entry.getValue().forEach(this::remove);
+			return true;
+		});
+	}
+
+	private void add(Capability capability) {
+		NamespaceIndex index = fNamespaces.computeIfAbsent(capability.getNamespace(), n -> new NamespaceIndex());
+		index.all.add(capability);
+		Collection<String> values = getValues(capability);
+		if (values == null) {
+			index.unkeyed.add(capability);
+		} else {
+			for (String value : values) {
+				index.keyed.computeIfAbsent(value, v -> new LinkedHashSet<>()).add(capability);
+			}
+		}
+	}
+
+	private void remove(Capability capability) {
+		NamespaceIndex index = fNamespaces.get(capability.getNamespace());
+		if (index == null) {
+			return;
+		}
+		index.all.remove(capability);
+		Collection<String> values = getValues(capability);
+		if (values == null) {
+			index.unkeyed.remove(capability);
+		} else {
+			for (String value : values) {
+				Set<Capability> keyed = index.keyed.get(value);
+				if (keyed != null && keyed.remove(capability) && keyed.isEmpty()) {
+					index.keyed.remove(value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the values of the primary attribute of the given capability or
+	 * <code>null</code> if it has none that can be indexed
+	 */
+	private static Collection<String> getValues(Capability capability) {
+		Object value = capability.getAttributes().get(getPrimaryAttribute(capability.getNamespace()));
+		if (value instanceof String string) {
+			return List.of(string);
+		}
+		if (value instanceof Collection<?> collection && !collection.isEmpty()) {
+			List<String> values = new ArrayList<>(collection.size());
+			for (Object element : collection) {
+				if (!(element instanceof String string)) {
+					return null;
+				}
+				values.add(string);
+			}
+			return values;
+		}
+		return null;
+	}
+
+	private static String getPrimaryAttribute(String namespace) {
+		return SERVICE_NAMESPACE.equals(namespace) ? Constants.OBJECTCLASS : namespace;
+	}
+
+	/**
+	 * Returns the value the given filter demands for the given attribute, or
+	 * <code>null</code> if the filter can be satisfied by other values too.
+	 * Only an equality test of the attribute, alone or as part of the top
+	 * level conjunction, demands a value.
+	 */
+	static String getFilterValue(String filter, String attribute) {
+		if (filter == null || attribute == null) {
+			return null;
+		}
+		filter = filter.strip();
+		if (!filter.startsWith("(&")) { //$NON-NLS-1$
+			return getEqualityValue(filter, attribute);
+		}
+		int depth = 0;
+		int start = -1;
+		for (int i = 2; i < filter.length() - 1; i++) {
+			char c = filter.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == '(') {
+				if (depth++ == 0) {
+					start = i;
+				}
+			} else if (c == ')' && --depth == 0) {
+				String value = getEqualityValue(filter.substring(start, i + 1), attribute);
+				if (value != null) {
+					return value;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static String getEqualityValue(String term, String attribute) {
+		if (term.length() < 4 || term.charAt(0) != '(' || term.charAt(term.length() - 1) != ')') {
+			return null;
+		}
+		int equals = term.indexOf('=');
+		if (equals < 2) {
+			return null;
+		}
+		char operator = term.charAt(equals - 1);
+		if (operator == '<' || operator == '>' || operator == '~') {
+			return null;
+		}
+		if (!term.substring(1, equals).strip().equalsIgnoreCase(attribute)) {
+			return null;
+		}
+		StringBuilder value = new StringBuilder();
+		for (int i = equals + 1; i < term.length() - 1; i++) {
+			char c = term.charAt(i);
+			if (c == '\\' && i + 1 < term.length() - 1) {
+				c = term.charAt(++i);
+			} else if (c == '*' || c == '(' || c == ')') {
+				// a substring or presence test
+				return null;
+			}
+			value.append(c);
+		}
+		return value.toString();
+	}
+}
@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
+
+/**
+ * Persistent cache of the SHA-256 digests of bundle files, used for the
+ * <code>osgi.content</code> capabilities of the {@link TargetRepository}.
+ * <p>
+ * Digests are keyed by the absolute path of the file and only used while its
+ * length and modification time are unchanged. Missing digests can be computed
+ * ahead of time by {@link #schedule(Collection)} in a job that reports its
+ * progress and reads the files with a bounded number of threads. A digest
+ * that is asked for while it is computed is waited for instead of being
+ * computed twice.
+ * </p>
+ */
+final class ContentDigestCache {
+
+	private static final String CACHE_FILE = ".contentDigests"; //$NON-NLS-1$
+
+	/**
+	 * Bumped whenever the binary layout changes, older files are discarded.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int MAGIC = 0x50444344; // "PDCD"
+
+	private static final int DIGEST_LENGTH = 32;
+
+	/**
+	 * Size of the regions of a file that are mapped at once
+	 */
+	private static final long MAPPED_REGION = 64L * 1024 * 1024;
+
+	private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+	private record Digest(long length, long lastModified, byte[] sha) {
+	}
+
+	private final File fCacheFile;
+	private volatile Map<String, Digest> fEntries;
+	private volatile boolean fDirty;
+	private final Map<String, CompletableFuture<byte[]>> fPending = new ConcurrentHashMap<>();
+
+	private final Job fJob;
+	private final List<File> fQueue = new ArrayList<>();
+
+	/**
+	 * Creates a cache stored in the given directory.
+	 *
+	 * @param dir
+	 *            the directory of the cache file or <code>null</code> if the
+	 *            digests should not be persisted
+	 */
+	ContentDigestCache(File dir) {
+		fCacheFile = dir != null ? new File(dir, CACHE_FILE) : null;
+		fJob = Job.create(PDECoreMessages.TargetRepository_computingContentDigests, this::computeQueued);
+		fJob.setPriority(Job.LONG);
+	}
+
+	/**
+	 * Returns the SHA-256 digest of the given file, computing it if it is not
+	 * cached yet.
+	 *
+	 * @param file
+	 *            the file to digest
+	 * @return the digest
+	 * @throws IOException
+	 *             if the file can not be read
+	 */
+	byte[] getDigest(File file) throws IOException {
+		String key = file.getAbsolutePath();
+		Digest cached = getEntries().get(key);
+		if (cached != null && cached.length() == file.length() && cached.lastModified() == file.lastModified()) {
+			return cached.sha();
+		}
+		CompletableFuture<byte[]> future = new CompletableFuture<>();
+		CompletableFuture<byte[]> pending = fPending.putIfAbsent(key, future);
+		if (pending != null) {
+			try {
+				return pending.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			} catch (ExecutionException e) {
+				throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+			}
+		}
+		try {
+			long length = file.length();
+			long lastModified = file.lastModified();
+			byte[] sha = computeDigest(file);
+			getEntries().put(key, new Digest(length, lastModified, sha));
+			fDirty = true;
+			future.complete(sha);
+			return sha;
+		} catch (IOException | RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			fPending.remove(key, future);
+		}
+	}
+
+	/**
+	 * Schedules the computation of the digests of the given files that are
+	 * not cached yet.
+	 *
+	 * @param files
+	 *            the files to digest
+	 */
+	void schedule(Collection<File> files) {
+		Map<String, Digest> entries = getEntries();
+		synchronized (fQueue) {
+			for (File file : files) {
+				Digest cached = entries.get(file.getAbsolutePath());
+				if (cached == null || cached.length() != file.length() || cached.lastModified() != file.lastModified()) {
+					fQueue.add(file);
+				}
+			}
+			if (fQueue.isEmpty()) {
+				return;
+			}
+		}
+		fJob.schedule();
+	}
+
+	private IStatus computeQueued(IProgressMonitor monitor) {
+		List<File> files;
+		synchronized (fQueue) {
+			files = new ArrayList<>(fQueue);
+			fQueue.clear();
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, files.size());
+		ExecutorService executor = Executors.newFixedThreadPool(MAX_THREADS);
+		try {
+			List<CompletableFuture<Void>> futures = new ArrayList<>(files.size());
+			for (File file : files) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					if (!subMonitor.isCanceled()) {
+						try {
+							getDigest(file);
+						} catch (IOException e) {
+							// reported when the digest is asked for
+						}
+					}
+				}, executor));
+			}
+			for (CompletableFuture<Void> future : futures) {
+				future.join();
+				subMonitor.worked(1);
+			}
+		} finally {
+			executor.shutdownNow();
+			try {
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		save();
+		return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+	}
+
+	/**
+	 * Cancels the pending computations and writes the digests of the files
+	 * that still exist.
+	 */
+	void shutdown() {
+		fJob.cancel();
+		try {
+			fJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		save();
+	}
+
+	private synchronized void save() {
+		Map<String, Digest> entries = fEntries;
+		if (fCacheFile == null || !fDirty || entries == null) {
+			return;
+		}
+		fDirty = false;
+		File tmp = new File(fCacheFile.getParentFile(), CACHE_FILE + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				List<Entry<String, Digest>> valid = new ArrayList<>(entries.size());
+				for (Entry<String, Digest> entry : entries.entrySet()) {
+					// drop the digests of bundles that are gone
+					if (new File(entry.getKey()).isFile()) {
+						valid.add(entry);
+					}
+				}
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(valid.size());
+				for (Entry<String, Digest> entry : valid) {
+					Digest digest = entry.getValue();
+					out.writeUTF(entry.getKey());
+					out.writeLong(digest.length());
+					out.writeLong(digest.lastModified());
+					out.write(digest.sha());
+				}
+			}
+			Files.move(tmp.toPath(), fCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			fDirty = true;
+			PDECore.log(e);
+			tmp.delete();
+		}
+	}
+
+	private Map<String, Digest> getEntries() {
+		Map<String, Digest> entries = fEntries;
+		if (entries == null) {
+			synchronized (this) {
+				entries = fEntries;
+				if (entries == null) {
+					entries = read();
+					fEntries = entries;
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Reads the cache file. A missing, outdated or corrupt file results in an
+	 * empty cache.
+	 */
+	private Map<String, Digest> read() {
+		Map<String, Digest> entries = new ConcurrentHashMap<>();
+		if (fCacheFile != null && fCacheFile.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fCacheFile.toPath())))) {
+				if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION) {
+					int count = in.readInt();
+					for (int i = 0; i < count; i++) {
+						String key = in.readUTF();
+						long length = in.readLong();
+						long lastModified = in.readLong();
+						byte[] sha = new byte[DIGEST_LENGTH];
+						in.readFully(sha);
+						entries.put(key, new Digest(length, lastModified, sha));
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				// corrupt or truncated cache, start from scratch
+				entries.clear();
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Discarding unreadable content digest cache: " + e.getMessage()); //$NON-NLS-1$
+				}
+			}
+		}
+		return entries;
+	}
+
+	private static byte[] computeDigest(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			for (long position = 0; position < size; position += MAPPED_REGION) {
+				MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, position, Math.min(MAPPED_REGION, size - position));
+				digest.update(buffer);
+			}
+		}
+		return digest.digest();
+	}
+}
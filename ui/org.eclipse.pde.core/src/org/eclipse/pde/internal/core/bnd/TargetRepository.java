@@ -21,7 +21,6 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
@@ -31,6 +30,7 @@ import java.util.Hashtable;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -64,9 +64,15 @@ import aQute.bnd.service.RepositoryPlugin;
 
 public class TargetRepository extends BaseRepository implements RepositoryPlugin {
 
-	private static final TargetRepository instance = new TargetRepository();
+	private static volatile TargetRepository instance;
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
+	private final ContentDigestCache contentDigests = new ContentDigestCache(getStateDirectory());
+	private volatile State digestedState;
+	private volatile long digestedTimeStamp;
+	private final CapabilityIndex capabilityIndex = new CapabilityIndex(
+			bundle -> new BundleDescriptionRepositoryResource(this, bundle).bundleRequirements(null).toList());
+
 	private TargetRepository() {
 	}
 
@@ -171,12 +177,44 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	public List<Capability> findProvider(Requirement requirement) {
 		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
-				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
-				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
+		getTargetPlatformState().ifPresent(this::scheduleContentDigests);
+		Stream<Capability> candidates;
+		if (ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+			// content capabilities are computed on demand from the bundle files
+			candidates = bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
+					.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace));
+		} else {
+			candidates = getTargetPlatformState().map(state -> capabilityIndex.getCandidates(state, requirement))
+					.orElse(List.of()).stream();
+		}
+		return candidates.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
 				.collect(ResourceUtils.toCapabilities());
 	}
 
+	/**
+	 * Computes the digests of the bundle files of the given state in the
+	 * background, so they are ready when bnd asks for their content
+	 * capabilities
+	 */
+	private void scheduleContentDigests(State state) {
+		if (state == digestedState && state.getTimeStamp() == digestedTimeStamp) {
+			return;
+		}
+		digestedState = state;
+		digestedTimeStamp = state.getTimeStamp();
+		List<File> files = Arrays.stream(state.getBundles()).map(BundleDescription::getLocation)
+				.filter(Objects::nonNull).map(File::new).filter(File::isFile).toList();
+		contentDigests.schedule(files);
+	}
+
+	/**
+	 * Cancels the computation of content digests and persists the digests
+	 * computed so far.
+	 */
+	public void shutdown() {
+		contentDigests.shutdown();
+	}
+
 	/**
 	 * Aquires a stream of bundles from the current state
 	 *
@@ -223,6 +261,11 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		}
 	}
 
+	private static File getStateDirectory() {
+		PDECore pde = PDECore.getDefault();
+		return pde != null ? pde.getStateLocation().toFile() : null;
+	}
+
 	private static org.osgi.framework.Version convert(aQute.bnd.version.Version version) {
 		return new org.osgi.framework.Version(version.getMajor(), version.getMinor(), version.getMicro(),
 				version.getQualifier());
@@ -233,7 +276,27 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	}
 
 	public static TargetRepository getTargetRepository() {
-		return instance;
+		TargetRepository repository = instance;
+		if (repository == null) {
+			synchronized (TargetRepository.class) {
+				repository = instance;
+				if (repository == null) {
+					instance = repository = new TargetRepository();
+				}
+			}
+		}
+		return repository;
+	}
+
+	/**
+	 * Shuts down the target repository if it was used in this session, without
+	 * creating it otherwise.
+	 */
+	public static void shutdownIfCreated() {
+		TargetRepository repository = instance;
+		if (repository != null) {
+			repository.shutdown();
+		}
 	}
 
 	private static final class BundleDescriptionRepositoryResource implements RepositoryContent, Resource, IAdaptable {
@@ -254,7 +317,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				return Stream
 						.concat(bundleRequirements(namespace),
 								contentCapabilityMap.computeIfAbsent(file,
-										f -> new ContentCapabilityCache(f, BundleDescriptionRepositoryResource.this))
+										f -> new ContentCapabilityCache(f, BundleDescriptionRepositoryResource.this,
+												getTargetRepository().contentDigests))
 										.capability())
 						.toList();
 			}
@@ -347,10 +411,12 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		private long lastLength;
 		private long lastModified;
 		private final Resource resource;
+		private final ContentDigestCache digests;
 
-		public ContentCapabilityCache(File file, Resource resource) {
+		public ContentCapabilityCache(File file, Resource resource, ContentDigestCache digests) {
 			this.file = file;
 			this.resource = resource;
+			this.digests = digests;
 		}
 
 		public synchronized Stream<Capability> capability() {
@@ -358,20 +424,15 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				CapReqBuilder content = new CapReqBuilder(resource, ContentNamespace.CONTENT_NAMESPACE);
 				String sha;
 				try {
-					MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+					byte[] bytes;
 					if (file.isDirectory()) {
 						// directories can not really have a SHA-256 ...
-						digest.update(file.getAbsolutePath().getBytes());
+						bytes = MessageDigest.getInstance("SHA-256").digest(file.getAbsolutePath().getBytes()); //$NON-NLS-1$
 					} else {
-						try (DigestInputStream stream = new DigestInputStream(new FileInputStream(file), digest)) {
-							stream.readAllBytes();
-						} catch (IOException e) {
-							return Stream.empty();
-						}
+						bytes = digests.getDigest(file);
 					}
-					byte[] bytes = digest.digest();
 					sha = HexFormat.of().formatHex(bytes);
-				} catch (NoSuchAlgorithmException e) {
+				} catch (IOException | NoSuchAlgorithmException e) {
 					return Stream.empty();
 				}
 				content.addAttribute(ContentNamespace.CONTENT_NAMESPACE, sha);
@@ -22,16 +22,24 @@ import javax.xml.parsers.SAXParser;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 public class DefaultSAXParser {
 
 	public static void parse(IFile file, XMLErrorReporter reporter) {
-		try (InputStream stream = new BufferedInputStream(file.getContents())) {
+		InputSource source = reporter.getInputSource();
+		try {
 			@SuppressWarnings("restriction")
 			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
 					.createSAXParserWithErrorOnDOCTYPE();
-			parser.parse(stream, reporter);
+			if (source != null) {
+				parser.parse(source, reporter);
+				return;
+			}
+			try (InputStream stream = new BufferedInputStream(file.getContents())) {
+				parser.parse(stream, reporter);
+			}
 		} catch (CoreException | SAXException | IOException | ParserConfigurationException e) {
 		}
 	}
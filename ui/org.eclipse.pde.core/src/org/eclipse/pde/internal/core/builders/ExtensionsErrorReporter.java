@@ -78,6 +78,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	 */
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
+	private boolean fValidRoot;
 
 	public ExtensionsErrorReporter(IFile file) {
 		super(file);
@@ -94,60 +95,106 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	public void characters(char[] characters, int start, int length) throws SAXException {
 	}
 
+	@Override
+	protected void rootElementStarted(Element root) {
+		fValidRoot = validateRoot(root);
+	}
+
+	@Override
+	protected boolean topLevelElementParsed(Element element) {
+		if (fValidRoot) {
+			validateTopLevelElement(element);
+		}
+		return true;
+	}
+
 	@Override
 	public void validate(IProgressMonitor monitor) {
-		Element element = getDocumentRoot();
-		if (element == null) {
+		if (!validateRemainingElements(monitor)) {
 			return;
 		}
-		String elementName = element.getNodeName();
+		if (fModel != null) {
+			IExtensions extensions = fModel.getExtensions();
+			if (extensions != null && extensions.getExtensions().length == 0 && extensions.getExtensionPoints().length == 0) {
+				report(PDECoreMessages.Builders_Manifest_useless_file, -1, IMarker.SEVERITY_WARNING, PDEMarkerFactory.P_USELESS_FILE, PDEMarkerFactory.CAT_OTHER);
+			}
+		}
+	}
+
+	/**
+	 * Validates the children of the document root that were not validated
+	 * while the file was parsed, because a parse error ended the file before
+	 * their end tag.
+	 *
+	 * @param monitor the progress monitor
+	 * @return <code>true</code> if the document root is valid,
+	 *         <code>false</code> if there is no root or an illegal one
+	 */
+	protected boolean validateRemainingElements(IProgressMonitor monitor) {
+		Element root = getDocumentRoot();
+		if (root == null || !fValidRoot) {
+			return false;
+		}
+		NodeList children = root.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			validateTopLevelElement((Element) children.item(i));
+		}
+		return true;
+	}
+
+	/**
+	 * Validates the document root and its attributes.
+	 *
+	 * @param root the document root, without children
+	 * @return whether the root is legal and its children are validated
+	 */
+	protected boolean validateRoot(Element root) {
+		String elementName = root.getNodeName();
 		if (!"plugin".equals(elementName) && !"fragment".equals(elementName)) { //$NON-NLS-1$ //$NON-NLS-2$
-			reportIllegalElement(element, CompilerFlags.ERROR);
-		} else {
-			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DEPRECATED);
-			if (severity != CompilerFlags.IGNORE) {
-				NamedNodeMap attrs = element.getAttributes();
-				for (int i = 0; i < attrs.getLength(); i++) {
-					reportUnusedAttribute(element, attrs.item(i).getNodeName(), severity);
-				}
+			reportIllegalElement(root, CompilerFlags.ERROR);
+			return false;
+		}
+		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DEPRECATED);
+		if (severity != CompilerFlags.IGNORE) {
+			NamedNodeMap attrs = root.getAttributes();
+			for (int i = 0; i < attrs.getLength(); i++) {
+				reportUnusedAttribute(root, attrs.item(i).getNodeName(), severity);
 			}
+		}
+		return true;
+	}
 
-			NodeList children = element.getChildNodes();
-			for (int i = 0; i < children.getLength(); i++) {
-				if (monitor.isCanceled()) {
-					break;
+	/**
+	 * Validates a child of the document root and its descendants.
+	 *
+	 * @param element the child of the document root
+	 */
+	protected void validateTopLevelElement(Element element) {
+		String name = element.getNodeName();
+		int severity;
+		switch (name) {
+			case "extension": //$NON-NLS-1$
+			validateExtension(element);
+			break;
+		case "extension-point": //$NON-NLS-1$
+			validateExtensionPoint(element);
+			break;
+		default:
+			if (!name.equals("runtime") && !name.equals("requires")) { //$NON-NLS-1$ //$NON-NLS-2$
+				severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
+				if (severity != CompilerFlags.IGNORE) {
+					reportIllegalElement(element, severity);
 				}
-				Element child = (Element) children.item(i);
-				String name = child.getNodeName();
-				switch (name) {
-					case "extension": //$NON-NLS-1$
-					validateExtension(child);
-					break;
-				case "extension-point": //$NON-NLS-1$
-					validateExtensionPoint(child);
-					break;
-				default:
-					if (!name.equals("runtime") && !name.equals("requires")) { //$NON-NLS-1$ //$NON-NLS-2$
-						severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
-						if (severity != CompilerFlags.IGNORE) {
-							reportIllegalElement(child, severity);
-						}
-					} else {
-						severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DEPRECATED);
-						if (severity != CompilerFlags.IGNORE) {
-							reportUnusedElement(child, severity);
-						}
-					}
-					break;
+			} else {
+				severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DEPRECATED);
+				if (severity != CompilerFlags.IGNORE) {
+					reportUnusedElement(element, severity);
 				}
 			}
-
-			if (fModel != null) {
-			IExtensions extensions = fModel.getExtensions();
-			if (extensions != null && extensions.getExtensions().length == 0 && extensions.getExtensionPoints().length == 0) {
-				report(PDECoreMessages.Builders_Manifest_useless_file, -1, IMarker.SEVERITY_WARNING, PDEMarkerFactory.P_USELESS_FILE, PDEMarkerFactory.CAT_OTHER);
-			 }
-			}
+			break;
 		}
 	}
 
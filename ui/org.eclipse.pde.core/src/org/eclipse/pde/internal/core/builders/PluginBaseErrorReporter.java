@@ -32,44 +32,42 @@ public abstract class PluginBaseErrorReporter extends ExtensionsErrorReporter {
 
 	@Override
 	public void validate(IProgressMonitor monitor) {
-		Element element = getDocumentRoot();
-		if (element == null) {
-			return;
+		validateRemainingElements(monitor);
+	}
+
+	@Override
+	protected boolean validateRoot(Element root) {
+		if (!getRootElementName().equals(root.getNodeName())) {
+			reportIllegalElement(root, CompilerFlags.ERROR);
+			return false;
 		}
-		String elementName = element.getNodeName();
-		if (!getRootElementName().equals(elementName)) {
-			reportIllegalElement(element, CompilerFlags.ERROR);
-		} else {
-			validateTopLevelAttributes(element);
-			NodeList children = element.getChildNodes();
-			for (int i = 0; i < children.getLength(); i++) {
-				if (monitor.isCanceled()) {
-					break;
-				}
-				Element child = (Element) children.item(i);
-				String name = child.getNodeName();
-				switch (name)
-				{
-				case "extension": //$NON-NLS-1$
-					validateExtension(child);
-					break;
-				case "extension-point": //$NON-NLS-1$
-					validateExtensionPoint(child);
-					break;
-				case "runtime": //$NON-NLS-1$
-					validateRuntime(child);
-					break;
-				case "requires": //$NON-NLS-1$
-					validateRequires(child);
-					break;
-				default:
-					int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
-					if (severity != CompilerFlags.IGNORE) {
-						reportIllegalElement(element, severity);
-					}
-					break;
-				}
+		validateTopLevelAttributes(root);
+		return true;
+	}
+
+	@Override
+	protected void validateTopLevelElement(Element element) {
+		String name = element.getNodeName();
+		switch (name)
+		{
+		case "extension": //$NON-NLS-1$
+			validateExtension(element);
+			break;
+		case "extension-point": //$NON-NLS-1$
+			validateExtensionPoint(element);
+			break;
+		case "runtime": //$NON-NLS-1$
+			validateRuntime(element);
+			break;
+		case "requires": //$NON-NLS-1$
+			validateRequires(element);
+			break;
+		default:
+			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
+			if (severity != CompilerFlags.IGNORE) {
+				reportIllegalElement((Element) element.getParentNode(), severity);
 			}
+			break;
 		}
 	}
 
@@ -13,8 +13,13 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
@@ -26,6 +31,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -35,9 +41,21 @@ import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
 import org.osgi.resource.Resource;
 
+/**
+ * Schedules the validation of workspace plug-in projects affected by changes
+ * of the resolver state. The projects are touched on the next build so that
+ * the {@link ManifestConsistencyChecker} revalidates them.
+ * <p>
+ * When the target platform changes, only the projects whose resolved
+ * dependencies transitively include an added or removed target bundle are
+ * touched. The whole workspace is only touched if the previous state is
+ * unknown.
+ * </p>
+ */
 public class PluginRebuilder implements IStateDeltaListener, IResourceChangeListener {
 
-	private final Set<String> fProjectNames = new HashSet<>();
+	/** names of the projects to touch, mapped to the reason they are touched */
+	private final Map<String, String> fProjectNames = new LinkedHashMap<>();
 
 	private boolean fTouchWorkspace = false;
 
@@ -52,18 +70,23 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 	}
 
 	@Override
-	public void resourceChanged(IResourceChangeEvent event) {
+	public synchronized void resourceChanged(IResourceChangeEvent event) {
 		if (event.getType() == IResourceChangeEvent.PRE_BUILD) {
 			IWorkspaceRoot root = PDECore.getWorkspace().getRoot();
 			if (fTouchWorkspace) {
 				IProject[] projects = root.getProjects();
+				if (PDECore.DEBUG_VALIDATION && projects.length > 0) {
+					System.out.println("PluginRebuilder: touching all " + projects.length + " projects"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
 				for (IProject project : projects) {
 					touchProject(project);
 				}
 			} else {
-				Iterator<String> iter = fProjectNames.iterator();
-				while (iter.hasNext()) {
-					touchProject(root.getProject(iter.next()));
+				if (PDECore.DEBUG_VALIDATION && !fProjectNames.isEmpty()) {
+					System.out.println("PluginRebuilder: touching " + fProjectNames.size() + " projects"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				for (String name : fProjectNames.keySet()) {
+					touchProject(root.getProject(name));
 				}
 			}
 			fTouchWorkspace = false;
@@ -87,18 +110,37 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 
 	@Override
 	public void stateChanged(State newState) {
-		fTouchWorkspace = true;
-		fProjectNames.clear();
+		stateChanged(newState, null);
+	}
+
+	@Override
+	public synchronized void stateChanged(State newState, State oldState) {
+		if (oldState == null) {
+			// the state the workspace was last validated against is unknown
+			touchWorkspace("target platform changed, previous state unknown"); //$NON-NLS-1$
+			return;
+		}
+		if (fTouchWorkspace) {
+			return;
+		}
+		Map<String, IProject> projects = getWorkspaceProjects();
+		scheduleDependents(getChangedBundles(newState, oldState), "added", projects); //$NON-NLS-1$
+		scheduleDependents(getChangedBundles(oldState, newState), "removed", projects); //$NON-NLS-1$
+		for (BundleDescription bundle : newState.getBundles()) {
+			IProject project = projects.get(bundle.getLocation());
+			if (project != null && !bundle.isResolved()) {
+				schedule(project.getName(), "unresolved against the new target platform"); //$NON-NLS-1$
+			}
+		}
 	}
 
 	@Override
-	public void stateResolved(StateDelta delta) {
+	public synchronized void stateResolved(StateDelta delta) {
 		if (delta == null) {
 			// if delta is null, then target has changed
 			// prepare all projects for "touching"
-			fTouchWorkspace = true;
-			fProjectNames.clear();
-		} else {
+			touchWorkspace("target platform changed"); //$NON-NLS-1$
+		} else if (!fTouchWorkspace) {
 			BundleDelta[] deltas = delta.getChanges();
 			for (BundleDelta bundleDelta : deltas) {
 				// only interested in workspace plug-ins that are affected by delta
@@ -111,7 +153,84 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 				IPluginModelBase model = PluginRegistry.findModel((Resource) bundleDelta.getBundle());
 				IResource resource = model == null ? null : model.getUnderlyingResource();
 				if (resource != null) {
-					fProjectNames.add(resource.getProject().getName());
+					schedule(resource.getProject().getName(), "resolution changed: " + bundleDelta); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	private void touchWorkspace(String reason) {
+		if (PDECore.DEBUG_VALIDATION) {
+			System.out.println("PluginRebuilder: scheduling all projects: " + reason); //$NON-NLS-1$
+		}
+		fTouchWorkspace = true;
+		fProjectNames.clear();
+	}
+
+	private void schedule(String projectName, String reason) {
+		if (fProjectNames.putIfAbsent(projectName, reason) == null && PDECore.DEBUG_VALIDATION) {
+			System.out.println("PluginRebuilder: scheduling [" + projectName + "]: " + reason); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Returns the workspace plug-in projects keyed by the location of their
+	 * bundle in the resolver state.
+	 */
+	private static Map<String, IProject> getWorkspaceProjects() {
+		Map<String, IProject> projects = new HashMap<>();
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			IResource resource = model.getUnderlyingResource();
+			String location = model.getInstallLocation();
+			if (resource != null && location != null) {
+				projects.put(new File(location).getAbsolutePath(), resource.getProject());
+			}
+		}
+		return projects;
+	}
+
+	/**
+	 * Returns the bundles of the given state which are not in the other state,
+	 * comparing them by location, symbolic name and version.
+	 */
+	private static Set<BundleDescription> getChangedBundles(State state, State other) {
+		Set<String> otherKeys = new HashSet<>();
+		for (BundleDescription bundle : other.getBundles()) {
+			otherKeys.add(getKey(bundle));
+		}
+		Set<BundleDescription> changed = new HashSet<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			if (!otherKeys.contains(getKey(bundle))) {
+				changed.add(bundle);
+			}
+		}
+		return changed;
+	}
+
+	private static String getKey(BundleDescription bundle) {
+		return bundle.getLocation() + '|' + bundle.getSymbolicName() + '_' + bundle.getVersion();
+	}
+
+	/**
+	 * Schedules the workspace projects whose bundles transitively depend on
+	 * one of the given bundles, following the wiring of the state the bundles
+	 * belong to.
+	 */
+	private void scheduleDependents(Set<BundleDescription> changed, String change, Map<String, IProject> projects) {
+		Set<BundleDescription> visited = new HashSet<>(changed);
+		for (BundleDescription bundle : changed) {
+			String reason = "depends on " + change + " bundle " + bundle.getSymbolicName() + '_' + bundle.getVersion(); //$NON-NLS-1$ //$NON-NLS-2$
+			Queue<BundleDescription> queue = new ArrayDeque<>();
+			queue.add(bundle);
+			while (!queue.isEmpty()) {
+				for (BundleDescription dependent : queue.remove().getDependents()) {
+					if (visited.add(dependent)) {
+						IProject project = projects.get(dependent.getLocation());
+						if (project != null) {
+							schedule(project.getName(), reason);
+						}
+						queue.add(dependent);
+					}
 				}
 			}
 		}
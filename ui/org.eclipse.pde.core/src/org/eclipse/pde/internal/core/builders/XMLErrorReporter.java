@@ -14,33 +14,26 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.List;
 
 import javax.xml.parsers.ParserConfigurationException;
 
-import org.eclipse.core.filebuffers.FileBuffers;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
-import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.FindReplaceDocumentAdapter;
-import org.eclipse.jface.text.IDocument;
-import org.eclipse.jface.text.IRegion;
-import org.eclipse.jface.text.Position;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
-import org.eclipse.pde.internal.core.util.PDEXMLHelper;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -52,6 +45,27 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.helpers.DefaultHandler;
 
+/**
+ * Base class of the reporters validating XML files during a build.
+ * <p>
+ * The file is read once into memory and parsed from there. The exact source
+ * range of every start tag is recorded from the parser locator while the
+ * elements are created, so problems are positioned without connecting a text
+ * file buffer or searching the text afterwards.
+ * </p>
+ * <p>
+ * By default the reporter builds a DOM of the whole file that
+ * {@link #validate(IProgressMonitor)} walks afterwards. Reporters that validate
+ * the children of the document root independently of each other can instead
+ * validate them while the file is parsed: {@link #rootElementStarted(Element)}
+ * is called once the start tag of the root was read and
+ * {@link #topLevelElementParsed(Element)} for each child of the root as soon as
+ * its end tag was read. A child the reporter is done with is released, so the
+ * memory needed is bounded by the largest child rather than by the file. The
+ * location paths of the remaining children and their text content are the same
+ * as if no child had been released.
+ * </p>
+ */
 public abstract class XMLErrorReporter extends DefaultHandler {
 
 	public static final char F_ATT_PREFIX = '@';
@@ -59,11 +73,15 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 	public static final char F_CHILD_SEP = '>';
 
 	static class ElementData {
+		/** offset of the '&lt;' starting the element */
 		int offset;
+		/** offset following the '&gt;' ending the start tag */
+		int endOffset;
 		boolean fErrorNode;
 
-		public ElementData(int offset) {
+		public ElementData(int offset, int endOffset) {
 			this.offset = offset;
+			this.endOffset = endOffset;
 		}
 	}
 
@@ -75,19 +93,31 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	private org.w3c.dom.Document fXMLDocument;
 
-	private IDocument fTextDocument;
+	/** the file contents, or <code>null</code> if the file could not be read */
+	private String fText;
 
-	private Deque<Element> fElementStack;
+	/** offsets of the lines of {@link #fText}, computed on demand */
+	private int[] fLineOffsets;
+
+	private final Deque<Element> fElementStack = new ArrayDeque<>();
 
 	private Element fRootElement;
 
-	private Locator fLocator;
+	/** the number of nodes added to the root element, including released ones */
+	private int fRootChildCount;
+
+	/**
+	 * the index of each element among the children of the root element,
+	 * counting the released nodes
+	 */
+	private final HashMap<Node, Integer> fRootChildIndexes = new HashMap<>();
 
-	private int fHighestOffset;
+	/** whether the last child added to the root element was released */
+	private boolean fLastRootChildReleased;
 
-	private HashMap<Element, ElementData> fOffsetTable;
+	private Locator fLocator;
 
-	private FindReplaceDocumentAdapter fFindReplaceAdapter;
+	private final HashMap<Element, ElementData> fOffsetTable = new HashMap<>();
 
 	private double fSchemaVersion = 2.1;
 
@@ -97,20 +127,34 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	public XMLErrorReporter(IFile file, String markerType) {
 		fErrorReporter = new IncrementalErrorReporter(file, markerType);
-
-		ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
-		try {
-			fFile = file;
-			fProject = file.getProject();
-			manager.connect(file.getFullPath(), LocationKind.NORMALIZE, null);
-			fTextDocument = manager.getTextFileBuffer(file.getFullPath(), LocationKind.NORMALIZE).getDocument();
-			manager.disconnect(file.getFullPath(), LocationKind.NORMALIZE, null);
-			fFindReplaceAdapter = new FindReplaceDocumentAdapter(fTextDocument);
-			fOffsetTable = new HashMap<>();
-			fElementStack = new ArrayDeque<>();
+		fFile = file;
+		fProject = file.getProject();
+		try (InputStream stream = file.getContents(true)) {
+			fText = new String(stream.readAllBytes(), Charset.forName(file.getCharset()));
+			if (!fText.isEmpty() && fText.charAt(0) == '\uFEFF') {
+				// the byte order mark is not part of the document
+				fText = fText.substring(1);
+			}
 		} catch (CoreException e) {
 			PDECore.log(e);
+		} catch (IOException | IllegalArgumentException e) {
+			PDECore.logException(e);
+		}
+	}
+
+	/**
+	 * Returns the input the file should be parsed from. It reads the contents
+	 * already loaded by this reporter, so that the offsets reported by the
+	 * parser match the text used to compute the source ranges.
+	 *
+	 * @return the input source or <code>null</code> if the file could not be
+	 *         read
+	 */
+	InputSource getInputSource() {
+		if (fText == null) {
+			return null;
 		}
+		return new InputSource(new StringReader(fText));
 	}
 
 	public IFile getFile() {
@@ -156,13 +200,18 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 			return ""; // //$NON-NLS-1$
 		}
 
+		Node parent = node.getParentNode();
+		Integer rootChildIndex = parent != null && parent == fRootElement ? fRootChildIndexes.get(node) : null;
 		int childIndex = 0;
-		for (Node previousSibling = node.getPreviousSibling(); previousSibling != null; previousSibling = previousSibling.getPreviousSibling()) {
-			childIndex += 1;
+		if (rootChildIndex != null) {
+			childIndex = rootChildIndex;
+		} else {
+			for (Node previousSibling = node.getPreviousSibling(); previousSibling != null; previousSibling = previousSibling.getPreviousSibling()) {
+				childIndex += 1;
+			}
 		}
 
 		StringBuilder sb = new StringBuilder();
-		Node parent = node.getParentNode();
 		if (parent != null && !(parent instanceof Document)) {
 			sb.append(generateLocationPath(parent, null));
 			sb.append(F_CHILD_SEP);
@@ -229,20 +278,92 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		if (fRootElement == null) {
 			fRootElement = element;
 		} else {
-			fElementStack.peek().appendChild(element);
+			Element parent = fElementStack.peek();
+			parent.appendChild(element);
+			if (parent == fRootElement) {
+				fRootChildIndexes.put(element, fRootChildCount++);
+				fLastRootChildReleased = false;
+			}
 		}
 		fElementStack.push(element);
-		try {
-			if (fTextDocument != null) {
-				fOffsetTable.put(element, new ElementData(getStartOffset(qName)));
+		if (fText != null && fLocator != null) {
+			int position = getOffset(fLocator.getLineNumber(), fLocator.getColumnNumber());
+			// the parser reports a position on or just after the '>' ending the
+			// start tag, and attribute values cannot contain a '<', so the
+			// nearest one before that position starts the element
+			int offset = position > 0 ? fText.lastIndexOf('<', position - 1) : -1;
+			if (offset != -1) {
+				fOffsetTable.put(element, new ElementData(offset, getStartTagEnd(offset)));
 			}
-		} catch (BadLocationException e) {
+		}
+		if (element == fRootElement) {
+			rootElementStarted(element);
 		}
 	}
 
+	/**
+	 * Returns the offset following the '&gt;' that ends the start tag beginning
+	 * at the given offset, skipping quoted attribute values.
+	 */
+	private int getStartTagEnd(int offset) {
+		char quote = 0;
+		for (int i = offset + 1; i < fText.length(); i++) {
+			char c = fText.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '>') {
+				return i + 1;
+			}
+		}
+		return fText.length();
+	}
+
 	@Override
 	public void endElement(String uri, String localName, String qName) throws SAXException {
-		fElementStack.pop();
+		Element element = fElementStack.pop();
+		if (fElementStack.size() == 1 && topLevelElementParsed(element)) {
+			fRootElement.removeChild(element);
+			fRootChildIndexes.remove(element);
+			fLastRootChildReleased = true;
+			forgetOffsets(element);
+		}
+	}
+
+	/**
+	 * Called while the file is parsed once the start tag of the document root
+	 * was read. The root has its attributes and source range but no children
+	 * yet.
+	 *
+	 * @param root the document root
+	 */
+	protected void rootElementStarted(Element root) {
+	}
+
+	/**
+	 * Called while the file is parsed once a child of the document root and
+	 * all its descendants were read. The element is still attached to the
+	 * root, so it can be validated and reported on like any other element.
+	 *
+	 * @param element the child of the document root
+	 * @return <code>true</code> if the reporter is done with the element and it
+	 *         can be released, <code>false</code> to keep it for
+	 *         {@link #validate(IProgressMonitor)}
+	 */
+	protected boolean topLevelElementParsed(Element element) {
+		return false;
+	}
+
+	private void forgetOffsets(Element element) {
+		fOffsetTable.remove(element);
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child instanceof Element childElement) {
+				forgetOffsets(childElement);
+			}
+		}
 	}
 
 	private void generateErrorElementHierarchy() {
@@ -256,15 +377,28 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	@Override
 	public void characters(char[] characters, int start, int length) throws SAXException {
-		StringBuilder buff = new StringBuilder();
-		for (int i = 0; i < length; i++) {
-			buff.append(characters[start + i]);
+		if (length == 0) {
+			return;
 		}
-		Text text = fXMLDocument.createTextNode(buff.toString());
+		String data = new String(characters, start, length);
 		if (fRootElement == null) {
-			fXMLDocument.appendChild(text);
+			fXMLDocument.appendChild(fXMLDocument.createTextNode(data));
+			return;
+		}
+		// the parser may split a text, e.g. around comments, keep it normalized
+		// so the location paths of elements reported while parsing are stable.
+		// A text following a released child is a node of its own, as it would
+		// be had the child not been released.
+		Element parent = fElementStack.peek();
+		boolean afterReleased = parent == fRootElement && fLastRootChildReleased;
+		if (!afterReleased && parent.getLastChild() instanceof Text text) {
+			text.appendData(data);
 		} else {
-			fElementStack.peek().appendChild(text);
+			parent.appendChild(fXMLDocument.createTextNode(data));
+			if (parent == fRootElement) {
+				fRootChildCount++;
+				fLastRootChildReleased = false;
+			}
 		}
 	}
 
@@ -273,55 +407,100 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		fLocator = locator;
 	}
 
-	private int getStartOffset(String elementName) throws BadLocationException {
-		int line = fLocator.getLineNumber();
-		String text = fTextDocument.get(fHighestOffset + 1, fTextDocument.getLineOffset(line) - fHighestOffset - 1);
-
-		List<Position> commentPositions = new ArrayList<>();
-		for (int idx = 0; idx < text.length();) {
-			idx = text.indexOf("<!--", idx); //$NON-NLS-1$
-			if (idx == -1) {
-				break;
-			}
-			int end = text.indexOf("-->", idx); //$NON-NLS-1$
-			if (end == -1) {
-				break;
+	/**
+	 * Returns the offsets of the lines of the file contents. Like the parser,
+	 * this treats <code>\r\n</code>, <code>\r</code> and <code>\n</code> as
+	 * line delimiters.
+	 */
+	private int[] getLineOffsets() {
+		if (fLineOffsets == null) {
+			int[] offsets = new int[64];
+			int count = 1;
+			int length = fText.length();
+			for (int i = 0; i < length; i++) {
+				char c = fText.charAt(i);
+				if (c == '\r' && i + 1 < length && fText.charAt(i + 1) == '\n') {
+					i++;
+				} else if (c != '\r' && c != '\n') {
+					continue;
+				}
+				if (count == offsets.length) {
+					offsets = Arrays.copyOf(offsets, count * 2);
+				}
+				offsets[count++] = i + 1;
 			}
+			fLineOffsets = Arrays.copyOf(offsets, count);
+		}
+		return fLineOffsets;
+	}
 
-			commentPositions.add(new Position(idx, end - idx));
-			idx = end + 1;
+	/**
+	 * Converts a one-based line and column as reported by the parser to an
+	 * offset in the file contents.
+	 *
+	 * @return the offset or <code>-1</code> if the position is unknown
+	 */
+	private int getOffset(int line, int column) {
+		int[] offsets = getLineOffsets();
+		if (line < 1 || line > offsets.length || column < 1) {
+			return -1;
 		}
+		return Math.min(offsets[line - 1] + column - 1, fText.length());
+	}
 
-		int idx = 0;
-		for (; idx < text.length(); idx += 1) {
-			idx = text.indexOf("<" + elementName, idx); //$NON-NLS-1$
-			if (idx == -1) {
-				break;
+	/**
+	 * Returns the one-based line of the given offset in the file contents.
+	 */
+	private int getLineOfOffset(int offset) {
+		int index = Arrays.binarySearch(getLineOffsets(), offset);
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+
+	/**
+	 * Returns the offset of the given attribute in the start tag of an element.
+	 * The tag is tokenized so that attribute values are never mistaken for
+	 * attribute names.
+	 *
+	 * @return the offset or <code>-1</code> if the attribute was not found
+	 */
+	private int getAttributeOffset(String name, ElementData data) {
+		int end = data.endOffset;
+		int index = data.offset + 1;
+		// skip the element name
+		while (index < end && !isTagDelimiter(fText.charAt(index))) {
+			index++;
+		}
+		while (index < end) {
+			while (index < end && Character.isWhitespace(fText.charAt(index))) {
+				index++;
+			}
+			int nameStart = index;
+			while (index < end && fText.charAt(index) != '=' && !isTagDelimiter(fText.charAt(index))) {
+				index++;
+			}
+			if (index == nameStart) {
+				return -1;
 			}
-			boolean valid = true;
-			for (Position pos : commentPositions) {
-				if (pos.includes(idx)) {
-					valid = false;
-					break;
+			if (fText.startsWith(name, nameStart) && nameStart + name.length() == index) {
+				return nameStart;
+			}
+			int quote = -1;
+			while (index < end && quote == -1) {
+				char c = fText.charAt(index++);
+				if (c == '"' || c == '\'') {
+					quote = c;
 				}
 			}
-			if (valid) {
-				break;
+			if (quote == -1 || (index = fText.indexOf(quote, index)) == -1) {
+				return -1;
 			}
+			index++;
 		}
-		if (idx > -1) {
-			fHighestOffset += idx + 1;
-		}
-		return fHighestOffset;
+		return -1;
 	}
 
-	private int getAttributeOffset(String name, String value, int offset) throws BadLocationException {
-		String valueStr = PDEXMLHelper.getWritableAttributeString(value);
-		IRegion nameRegion = fFindReplaceAdapter.find(offset, name + "=\"" + valueStr, true, false, false, false); //$NON-NLS-1$
-		if (nameRegion != null) {
-			return nameRegion.getOffset();
-		}
-		return -1;
+	private static boolean isTagDelimiter(char c) {
+		return Character.isWhitespace(c) || c == '/' || c == '>';
 	}
 
 	/**
@@ -337,39 +516,36 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		if (data == null) {
 			return null;
 		}
-		try {
-			if (element.hasChildNodes()) {
-				return null;
-			}
-			IRegion openElement = fFindReplaceAdapter.find(data.offset, ">", true, true, false, false); //$NON-NLS-1$
-			IRegion closeElement = fFindReplaceAdapter.find(data.offset, "</" + element.getNodeName() + ">", true, true, false, false); //$NON-NLS-1$ //$NON-NLS-2$
-			if (openElement != null && closeElement != null) {
-				int endOfOpenElement = openElement.getOffset() + openElement.getLength();
-				return fTextDocument.get(endOfOpenElement, closeElement.getOffset() - endOfOpenElement).trim();
-			}
-		} catch (BadLocationException e) {
+		if (element.hasChildNodes() || fText.charAt(data.endOffset - 2) == '/') {
+			return null;
 		}
-		return null;
+		String closeTag = "</" + element.getNodeName(); //$NON-NLS-1$
+		int closeElement = fText.indexOf(closeTag, data.endOffset);
+		// skip longer names starting with the same characters
+		while (closeElement != -1 && !isCloseTagEnd(closeElement + closeTag.length())) {
+			closeElement = fText.indexOf(closeTag, closeElement + closeTag.length());
+		}
+		if (closeElement == -1) {
+			return null;
+		}
+		return fText.substring(data.endOffset, closeElement).trim();
+	}
+
+	private boolean isCloseTagEnd(int offset) {
+		return offset < fText.length() && (fText.charAt(offset) == '>' || Character.isWhitespace(fText.charAt(offset)));
 	}
 
 	protected int getLine(Element element) {
 		ElementData data = fOffsetTable.get(element);
-		try {
-			return (data == null) ? 1 : fTextDocument.getLineOfOffset(data.offset) + 1;
-		} catch (Exception e) {
-			return 1;
-		}
+		return (data == null) ? 1 : getLineOfOffset(data.offset);
 	}
 
 	protected int getLine(Element element, String attName) {
 		ElementData data = fOffsetTable.get(element);
 		if (data != null) {
-			try {
-				int offset = getAttributeOffset(attName, element.getAttribute(attName), data.offset);
-				if (offset != -1) {
-					return fTextDocument.getLineOfOffset(offset) + 1;
-				}
-			} catch (BadLocationException e) {
+			int offset = getAttributeOffset(attName, data);
+			if (offset != -1) {
+				return getLineOfOffset(offset);
 			}
 		}
 		return getLine(element);
@@ -407,13 +583,10 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	@Override
 	public InputSource resolveEntity(String publicId, String systemId) throws SAXException {
-		int x = fTextDocument.get().indexOf("!DOCTYPE"); //$NON-NLS-1$
+		int x = fText != null ? fText.indexOf("!DOCTYPE") : -1; //$NON-NLS-1$
 		if (x > 0) {
-			try {
-				int line = fTextDocument.getLineOfOffset(x) + 1;
-				report(PDECoreMessages.XMLErrorReporter_ExternalEntityResolution, line, CompilerFlags.WARNING, PDEMarkerFactory.CAT_OTHER);
-			} catch (BadLocationException e) {
-			}
+			int line = getLineOfOffset(x);
+			report(PDECoreMessages.XMLErrorReporter_ExternalEntityResolution, line, CompilerFlags.WARNING, PDEMarkerFactory.CAT_OTHER);
 		}
 		// Prevent the resolution of external entities in order to
 		// prevent the parser from accessing the Internet
@@ -34,8 +34,8 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 
 	public IncludedSchemaDescriptor(URL schemaURL) {
 		fSchemaURL = schemaURL;
-		File file = new File(fSchemaURL.getFile());
-		if (file.exists()) {
+		File file = SchemaCache.getStampFile(fSchemaURL);
+		if (file != null) {
 			fLastModified = file.lastModified();
 		}
 	}
@@ -158,7 +158,7 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
 			fSchema = new Schema(this, fSchemaURL, abbreviated);
 			fSchema.load();
@@ -425,11 +425,23 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load() {
+		SchemaCache cache = getSchemaCache();
+		if (cache != null) {
+			Node root = cache.getDocumentElement(fURL, fAbbreviated);
+			if (root != null) {
+				load(root);
+				return;
+			}
+		}
 		URLConnection connection = null;
 		try {
 			connection = SchemaUtil.getURLConnection(fURL);
 			try (InputStream input = connection.getInputStream()) {
-				load(input);
+				Node root = parse(input);
+				if (cache != null) {
+					cache.putDocumentElement(fURL, fAbbreviated, root);
+				}
+				load(root);
 			}
 		} catch (FileNotFoundException e) {
 			fLoaded = false;
@@ -446,13 +458,32 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load(InputStream stream) {
+		load(parse(stream));
+	}
+
+	private void load(Node root) {
+		try {
+			traverseDocumentTree(root);
+		} catch (Exception e) {
+			PDECore.logException(e);
+		}
+	}
+
+	/**
+	 * Parses the given stream into a document tree, omitting text if this
+	 * schema is abbreviated.
+	 *
+	 * @return the document element or <code>null</code> if the stream could
+	 *         not be parsed
+	 */
+	private Node parse(InputStream stream) {
 		try {
 			XMLDefaultHandler handler = new XMLDefaultHandler(fAbbreviated);
 			@SuppressWarnings("restriction")
 			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
 					.createSAXParserWithErrorOnDOCTYPE();
 			parser.parse(stream, handler);
-			traverseDocumentTree(handler.getDocumentElement());
+			return handler.getDocumentElement();
 		} catch (SAXException e) {
 			// ignore parse errors - 'loaded' will be false anyway
 		} catch (IOException e) {
@@ -460,6 +491,19 @@ public class Schema extends PlatformObject implements ISchema {
 		} catch (Exception e) {
 			PDECore.logException(e);
 		}
+		return null;
+	}
+
+	/**
+	 * @return the cache of parsed schemas or <code>null</code> if this schema
+	 *         must not be cached, e.g. because it is edited
+	 */
+	private SchemaCache getSchemaCache() {
+		PDECore core = PDECore.getDefault();
+		if (core == null || fURL == null || isEditable()) {
+			return null;
+		}
+		return core.getSchemaRegistry().getCache();
 	}
 
 	private ISchemaAttribute processAttribute(ISchemaElement element, Node elementNode) {
@@ -0,0 +1,420 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.pde.internal.core.PDECore;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Persistent cache of parsed extension point schemas. Entries hold the
+ * document tree built by the SAX parser in a compact binary form and are keyed
+ * by the schema URL. They are validated against the size and modification time
+ * of the file the schema is read from, i.e. the <code>.exsd</code> file itself
+ * or the jar containing it, so a schema is only parsed again if that file
+ * changed.
+ * <p>
+ * The {@link Schema} model is still built from the cached tree by
+ * {@link Schema#traverseDocumentTree(Node)}, so cached and parsed schemas are
+ * identical and includes and references are resolved as usual.
+ * </p>
+ * <p>
+ * Lookups and additions are thread safe. The cache file is read on first use
+ * and written by {@link #save()}.
+ * </p>
+ */
+public class SchemaCache {
+
+	private static final String CACHE_FILE = ".schemas"; //$NON-NLS-1$
+
+	/**
+	 * Bumped whenever the binary layout changes, older files are discarded.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int MAGIC = 0x50444558; // "PDEX"
+
+	private static final byte ELEMENT = 1;
+	private static final byte TEXT = 2;
+
+	/**
+	 * An encoded document tree and the stamp of the file it was read from.
+	 */
+	private record CachedTree(long length, long lastModified, byte[] tree) {
+	}
+
+	private final File fCacheFile;
+	private volatile Map<String, CachedTree> fEntries;
+	private volatile boolean fDirty;
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	/**
+	 * Creates a cache stored in the given directory.
+	 *
+	 * @param dir the directory of the cache file
+	 */
+	public SchemaCache(File dir) {
+		fCacheFile = new File(dir, CACHE_FILE);
+	}
+
+	/**
+	 * Returns the cached document element of the schema at the given URL if
+	 * the file it was read from did not change since it was cached.
+	 *
+	 * @param url the schema URL
+	 * @param abbreviated whether the tree omits text nodes, see
+	 *            {@link org.eclipse.pde.internal.core.XMLDefaultHandler}
+	 * @return a new document element or <code>null</code> if the schema must be
+	 *         parsed
+	 */
+	public Node getDocumentElement(URL url, boolean abbreviated) {
+		File stampFile = getStampFile(url);
+		if (stampFile == null) {
+			return null;
+		}
+		CachedTree cached = getEntries().get(getKey(url, abbreviated));
+		Node root = null;
+		if (cached != null && cached.length() == stampFile.length() && cached.lastModified() == stampFile.lastModified()) {
+			try {
+				root = decode(cached.tree());
+			} catch (IOException | ParserConfigurationException | RuntimeException e) {
+				// corrupt entry, parse the schema again
+				root = null;
+			}
+		}
+		int hits = root != null ? fHits.incrementAndGet() : fHits.get();
+		int misses = root != null ? fMisses.get() : fMisses.incrementAndGet();
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Schema cache " + (root != null ? "hit" : "miss") + " for " + url + " (" + hits + " hits, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+					+ misses + " misses, " + (hits * 100 / (hits + misses)) + "% hit rate)"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return root;
+	}
+
+	/**
+	 * Caches the document element parsed from the schema at the given URL.
+	 * Does nothing if the URL is not backed by a local file.
+	 *
+	 * @param url the schema URL
+	 * @param abbreviated whether the tree omits text nodes
+	 * @param root the document element as parsed
+	 */
+	public void putDocumentElement(URL url, boolean abbreviated, Node root) {
+		File stampFile = getStampFile(url);
+		if (stampFile == null || root == null) {
+			return;
+		}
+		try {
+			getEntries().put(getKey(url, abbreviated), new CachedTree(stampFile.length(), stampFile.lastModified(), encode(root)));
+			fDirty = true;
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Writes the cached schemas whose files still exist. Nothing is written if
+	 * no schema was added since the cache was read.
+	 */
+	public void save() {
+		Map<String, CachedTree> entries = fEntries;
+		if (!fDirty || entries == null) {
+			return;
+		}
+		File tmp = new File(fCacheFile.getParentFile(), CACHE_FILE + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				List<Entry<String, CachedTree>> valid = new ArrayList<>(entries.size());
+				for (Entry<String, CachedTree> entry : entries.entrySet()) {
+					// drop schemas whose bundles are gone
+					try {
+						if (getStampFile(new URL(entry.getKey().substring(2))) != null) {
+							valid.add(entry);
+						}
+					} catch (MalformedURLException e) {
+						// not a valid key
+					}
+				}
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(valid.size());
+				for (Entry<String, CachedTree> entry : valid) {
+					CachedTree cached = entry.getValue();
+					writeString(out, entry.getKey());
+					out.writeLong(cached.length());
+					out.writeLong(cached.lastModified());
+					out.writeInt(cached.tree().length);
+					out.write(cached.tree());
+				}
+			}
+			Files.move(tmp.toPath(), fCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			fDirty = false;
+		} catch (IOException e) {
+			PDECore.log(e);
+			tmp.delete();
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Schema cache saved: " + fHits.get() + " hits, " + fMisses.get() + " misses"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * @return number of schemas served from the cache
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return number of schemas that had to be parsed
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Returns the file whose size and time stamp identify the contents of the
+	 * schema at the given URL: the schema file itself or the jar containing
+	 * it.
+	 *
+	 * @param url the schema URL
+	 * @return the file or <code>null</code> if the URL does not denote an
+	 *         existing local file
+	 */
+	public static File getStampFile(URL url) {
+		if (url == null) {
+			return null;
+		}
+		File file = null;
+		String protocol = url.getProtocol();
+		if ("file".equals(protocol)) { //$NON-NLS-1$
+			file = toFile(url.getPath(), url);
+		} else if ("jar".equals(protocol)) { //$NON-NLS-1$
+			// jar:file:/path/to/bundle.jar!/schema/point.exsd
+			String path = url.getPath();
+			int separator = path.indexOf("!/"); //$NON-NLS-1$
+			if (separator > 0 && path.startsWith("file:")) { //$NON-NLS-1$
+				try {
+					file = toFile(path.substring(5, separator), new URL(path.substring(0, separator)));
+				} catch (IOException e) {
+					file = null;
+				}
+			}
+		}
+		return file != null && file.isFile() ? file : null;
+	}
+
+	/**
+	 * Schema URLs are created both from raw and from encoded paths, try the
+	 * raw path first
+	 */
+	private static File toFile(String path, URL url) {
+		File file = new File(path);
+		if (!file.exists()) {
+			try {
+				file = URIUtil.toFile(URIUtil.toURI(url));
+			} catch (URISyntaxException e) {
+				return null;
+			}
+		}
+		return file;
+	}
+
+	private static String getKey(URL url, boolean abbreviated) {
+		return (abbreviated ? "a:" : "f:") + url.toExternalForm(); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private Map<String, CachedTree> getEntries() {
+		Map<String, CachedTree> entries = fEntries;
+		if (entries == null) {
+			synchronized (this) {
+				entries = fEntries;
+				if (entries == null) {
+					entries = read();
+					fEntries = entries;
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Reads the cache file. A missing, outdated or corrupt file results in an
+	 * empty cache.
+	 */
+	private Map<String, CachedTree> read() {
+		Map<String, CachedTree> entries = new ConcurrentHashMap<>();
+		if (fCacheFile.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fCacheFile.toPath())))) {
+				if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION) {
+					int count = in.readInt();
+					for (int i = 0; i < count; i++) {
+						String key = readString(in);
+						long length = in.readLong();
+						long lastModified = in.readLong();
+						byte[] tree = new byte[in.readInt()];
+						in.readFully(tree);
+						entries.put(key, new CachedTree(length, lastModified, tree));
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				// corrupt or truncated cache, start from scratch
+				entries.clear();
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Discarding unreadable schema cache: " + e.getMessage()); //$NON-NLS-1$
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Encodes the element and text nodes of the given tree. Names and values
+	 * are written once and referred to by index afterwards.
+	 */
+	private static byte[] encode(Node root) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			encode(root, out, new HashMap<>());
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void encode(Node node, DataOutputStream out, Map<String, Integer> strings) throws IOException {
+		if (node.getNodeType() == Node.TEXT_NODE) {
+			out.writeByte(TEXT);
+			writeString(out, node.getNodeValue(), strings);
+			return;
+		}
+		out.writeByte(ELEMENT);
+		writeString(out, node.getNodeName(), strings);
+		NamedNodeMap attributes = node.getAttributes();
+		int attributeCount = attributes == null ? 0 : attributes.getLength();
+		out.writeInt(attributeCount);
+		for (int i = 0; i < attributeCount; i++) {
+			Node attribute = attributes.item(i);
+			writeString(out, attribute.getNodeName(), strings);
+			writeString(out, attribute.getNodeValue(), strings);
+		}
+		NodeList children = node.getChildNodes();
+		List<Node> encoded = new ArrayList<>(children.getLength());
+		for (int i = 0; i < children.getLength(); i++) {
+			Node child = children.item(i);
+			if (child.getNodeType() == Node.ELEMENT_NODE || child.getNodeType() == Node.TEXT_NODE) {
+				encoded.add(child);
+			}
+		}
+		out.writeInt(encoded.size());
+		for (Node child : encoded) {
+			encode(child, out, strings);
+		}
+	}
+
+	@SuppressWarnings("restriction")
+	private static Node decode(byte[] tree) throws IOException, ParserConfigurationException {
+		Document document = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(tree))) {
+			Node root = decode(document, in, new ArrayList<>());
+			document.appendChild(root);
+		}
+		return document.getDocumentElement();
+	}
+
+	private static Node decode(Document document, DataInputStream in, List<String> strings) throws IOException {
+		byte kind = in.readByte();
+		if (kind == TEXT) {
+			return document.createTextNode(readString(in, strings));
+		}
+		if (kind != ELEMENT) {
+			throw new IOException("Unknown node kind " + kind); //$NON-NLS-1$
+		}
+		Element element = document.createElement(readString(in, strings));
+		int attributeCount = in.readInt();
+		for (int i = 0; i < attributeCount; i++) {
+			element.setAttribute(readString(in, strings), readString(in, strings));
+		}
+		int childCount = in.readInt();
+		for (int i = 0; i < childCount; i++) {
+			element.appendChild(decode(document, in, strings));
+		}
+		return element;
+	}
+
+	private static void writeString(DataOutputStream out, String value, Map<String, Integer> strings) throws IOException {
+		Integer index = strings.get(value);
+		if (index != null) {
+			out.writeInt(index);
+			return;
+		}
+		strings.put(value, strings.size());
+		out.writeInt(-1);
+		writeString(out, value);
+	}
+
+	private static String readString(DataInputStream in, List<String> strings) throws IOException {
+		int index = in.readInt();
+		if (index >= 0) {
+			if (index >= strings.size()) {
+				throw new IOException("Invalid string index " + index); //$NON-NLS-1$
+			}
+			return strings.get(index);
+		}
+		String value = readString(in);
+		strings.add(value);
+		return value;
+	}
+
+	// documentation of unabbreviated schemas may exceed the 64k limit of writeUTF
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
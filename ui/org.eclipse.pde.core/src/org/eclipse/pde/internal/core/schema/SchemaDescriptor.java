@@ -45,11 +45,9 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	public SchemaDescriptor(String extPointID, URL schemaURL, SchemaProvider provider) {
 		fPoint = extPointID;
 		fSchemaURL = schemaURL;
-		if (fSchemaURL != null) {
-			File file = new File(fSchemaURL.getFile());
-			if (file.exists()) {
-				fLastModified = file.lastModified();
-			}
+		File file = SchemaCache.getStampFile(fSchemaURL);
+		if (file != null) {
+			fLastModified = file.lastModified();
 		}
 		schemaProvider = provider;
 	}
@@ -78,7 +76,7 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
 			if (fEditable) {
 				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
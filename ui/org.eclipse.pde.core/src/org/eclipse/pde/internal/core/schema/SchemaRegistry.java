@@ -16,7 +16,9 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -33,17 +35,28 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Thread safe registry of the schemas of the extension points known to PDE.
+ * Schemas are loaded once per descriptor and their parsed document trees are
+ * kept in a {@link SchemaCache} that is persisted in the PDE state location,
+ * so the builder threads and editors share them and schemas of target
+ * bundles are not parsed again after a restart.
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	private final Map<String, ISchemaDescriptor> fRegistry = new ConcurrentHashMap<>();
+
+	private final SchemaCache fCache;
+
+	public SchemaRegistry() {
+		fCache = new SchemaCache(PDECore.getDefault().getStateLocation().toFile());
+	}
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,12 +65,8 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
+		ISchemaDescriptor desc = getDescriptor(extPointID, url, () -> new SchemaDescriptor(extPointID, url));
+		// load outside of the registry update, loading resolves includes
 		return desc.getSchema(true);
 	}
 
@@ -68,26 +77,27 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
+			ISchemaDescriptor desc = getDescriptor(url.toString(), url, () -> new IncludedSchemaDescriptor(url));
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
-		}
-		return desc;
+	/**
+	 * @return the cache of parsed schemas shared by all schemas loaded in the
+	 *         workspace
+	 */
+	public SchemaCache getCache() {
+		return fCache;
+	}
+
+	/**
+	 * Returns the registered descriptor for the given key, replacing it with a
+	 * new one if its schema changed.
+	 */
+	private ISchemaDescriptor getDescriptor(String key, URL url, Supplier<ISchemaDescriptor> factory) {
+		return fRegistry.compute(key, (k, desc) -> desc == null || hasSchemaChanged(desc, url) ? factory.get() : desc);
 	}
 
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -178,12 +188,13 @@ public class SchemaRegistry {
 		if (!desc.getSchemaURL().toExternalForm().equals(url.toExternalForm())) {
 			return true;
 		}
-		File file = new File(url.getFile());
-		return (desc.getLastModified() != file.lastModified());
+		File file = SchemaCache.getStampFile(url);
+		return (desc.getLastModified() != (file != null ? file.lastModified() : 0));
 	}
 
 	public void shutdown() {
 		fRegistry.clear();
+		fCache.save();
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -0,0 +1,488 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.IExtensionDeltaEvent;
+import org.eclipse.pde.internal.core.IExtensionDeltaListener;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+
+/**
+ * An inverted index of the IDs a {@link PluginSearchOperation} matches,
+ * mapping plug-in, fragment and extension point IDs to the plug-in and
+ * feature models declaring or referencing them.
+ * <p>
+ * The index is built on the first search and updated incrementally from the
+ * plug-in, extension and feature model change events. Searches for an exact
+ * ID or an ID prefix are answered from the index, other patterns fall back
+ * to matching every model of the search scope.
+ * </p>
+ */
+public class PluginSearchIndex implements IPluginModelListener, IExtensionDeltaListener, IFeatureModelListener {
+
+	/**
+	 * The kinds of IDs in the index
+	 */
+	private enum Kind {
+		/** ID of a plug-in */
+		PLUGIN,
+		/** ID of a fragment */
+		FRAGMENT,
+		/** ID of a required plug-in or fragment host */
+		REQUIRED_PLUGIN,
+		/** full ID of a declared extension point */
+		EXTENSION_POINT,
+		/** ID of the extension point of an extension */
+		EXTENSION,
+		/** ID of a plug-in included in a feature */
+		FEATURE_PLUGIN
+	}
+
+	/**
+	 * The IDs of one kind and the models they belong to. IDs are kept as is
+	 * for case sensitive searches and in lower case for case insensitive
+	 * ones. IDs that are not ASCII can match an ASCII pattern case
+	 * insensitively without being equal in lower case, so their models are
+	 * candidates of every case insensitive search.
+	 */
+	private static final class KindIndex {
+		final TreeMap<String, Set<Object>> fIds = new TreeMap<>();
+		final TreeMap<String, Set<Object>> fLowerCaseIds = new TreeMap<>();
+		final Map<String, Set<Object>> fNonAsciiIds = new HashMap<>();
+
+		void add(String id, Object model) {
+			fIds.computeIfAbsent(id, i -> new HashSet<>()).add(model);
+			if (isAscii(id)) {
+				fLowerCaseIds.computeIfAbsent(id.toLowerCase(Locale.ROOT), i -> new HashSet<>()).add(model);
+			} else {
+				fNonAsciiIds.computeIfAbsent(id, i -> new HashSet<>()).add(model);
+			}
+		}
+
+		void remove(String id, Object model) {
+			remove(fIds, id, model);
+			if (isAscii(id)) {
+				remove(fLowerCaseIds, id.toLowerCase(Locale.ROOT), model);
+			} else {
+				remove(fNonAsciiIds, id, model);
+			}
+		}
+
+		private static void remove(Map<String, Set<Object>> ids, String id, Object model) {
+			Set<Object> models = ids.get(id);
+			if (models != null && models.remove(model) && models.isEmpty()) {
+				ids.remove(id);
+			}
+		}
+
+		void collect(String id, boolean prefix, boolean caseSensitive, Set<Object> result) {
+			TreeMap<String, Set<Object>> ids = caseSensitive ? fIds : fLowerCaseIds;
+			String key = caseSensitive ? id : id.toLowerCase(Locale.ROOT);
+			if (prefix) {
+				SortedMap<String, Set<Object>> tail = ids.tailMap(key);
+				for (Map.Entry<String, Set<Object>> entry : tail.entrySet()) {
+					if (!entry.getKey().startsWith(key)) {
+						break;
+					}
+					result.addAll(entry.getValue());
+				}
+			} else {
+				result.addAll(ids.getOrDefault(key, Collections.emptySet()));
+			}
+			if (!caseSensitive) {
+				fNonAsciiIds.values().forEach(result::addAll);
+			}
+		}
+	}
+
+	private final Map<Kind, KindIndex> fIndex = new EnumMap<>(Kind.class);
+
+	/**
+	 * The IDs each indexed model is registered with
+	 */
+	private final Map<Object, Map<Kind, Set<String>>> fModelIds = new IdentityHashMap<>();
+
+	/**
+	 * The plug-in models indexed for each model entry
+	 */
+	private final Map<String, Set<IPluginModelBase>> fEntryModels = new HashMap<>();
+
+	private boolean fInitialized;
+
+	/**
+	 * The IDs of the model entries changed while the index is initialized, or
+	 * <code>null</code> if it is not being initialized
+	 */
+	private Set<String> fChangedEntries;
+
+	/**
+	 * The feature models changed while the index is initialized, or
+	 * <code>null</code> if it is not being initialized
+	 */
+	private Set<Object> fChangedFeatures;
+
+	public PluginSearchIndex() {
+		for (Kind kind : Kind.values()) {
+			fIndex.put(kind, new KindIndex());
+		}
+		PDECore.getDefault().getModelManager().addPluginModelListener(this);
+		PDECore.getDefault().getModelManager().addExtensionDeltaListener(this);
+		PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(this);
+	}
+
+	public void shutdown() {
+		PDECore.getDefault().getModelManager().removePluginModelListener(this);
+		PDECore.getDefault().getModelManager().removeExtensionDeltaListener(this);
+		PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(this);
+		synchronized (this) {
+			clear();
+		}
+	}
+
+	/**
+	 * Returns the models that may match the given search input. The models
+	 * still have to be matched against the search pattern, the index only
+	 * rules out the others. Models that are not in the index, such as models
+	 * created after the last change event, are always candidates.
+	 *
+	 * @param input
+	 *            the search input
+	 * @return the candidates or <code>null</code> if the search pattern can
+	 *         not be answered from the index
+	 */
+	public Candidates findCandidates(PluginSearchInput input) {
+		String searchString = input.getSearchString();
+		if (searchString == null || searchString.indexOf('?') != -1) {
+			return null;
+		}
+		int star = searchString.indexOf('*');
+		if (star != -1 && star != searchString.length() - 1) {
+			return null;
+		}
+		boolean prefix = star != -1;
+		String id = prefix ? searchString.substring(0, star) : searchString;
+		if (!input.isCaseSensitive() && !isAscii(id)) {
+			return null;
+		}
+		Set<Kind> kinds = getKinds(input);
+		if (kinds == null) {
+			return null;
+		}
+		initialize();
+		synchronized (this) {
+			Set<Object> models = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Kind kind : kinds) {
+				fIndex.get(kind).collect(id, prefix, input.isCaseSensitive(), models);
+			}
+			return new Candidates(models, Collections.unmodifiableSet(fModelIds.keySet()));
+		}
+	}
+
+	/**
+	 * The models of a search that may match
+	 */
+	public final class Candidates {
+		private final Set<Object> fModels;
+		private final Set<Object> fIndexed;
+
+		Candidates(Set<Object> models, Set<Object> indexed) {
+			fModels = models;
+			fIndexed = indexed;
+		}
+
+		/**
+		 * @return whether the given plug-in or feature model may match
+		 */
+		public boolean contains(Object model) {
+			synchronized (PluginSearchIndex.this) {
+				return fModels.contains(model) || !fIndexed.contains(model);
+			}
+		}
+	}
+
+	private static Set<Kind> getKinds(PluginSearchInput input) {
+		int limit = input.getSearchLimit();
+		Set<Kind> kinds = new HashSet<>();
+		switch (input.getSearchElement()) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+					kinds.add(Kind.PLUGIN);
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					kinds.add(Kind.REQUIRED_PLUGIN);
+					kinds.add(Kind.FEATURE_PLUGIN);
+				}
+				return kinds;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				kinds.add(Kind.FRAGMENT);
+				return kinds;
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+					kinds.add(Kind.EXTENSION_POINT);
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					kinds.add(Kind.EXTENSION);
+				}
+				return kinds;
+			default :
+				return null;
+		}
+	}
+
+	/**
+	 * Indexes all models on the first search. The registries are read without
+	 * holding the lock of the index, as they notify the index while holding
+	 * their own locks, so the registries cannot be asked again while the
+	 * collected models are indexed either. Instead, changes made meanwhile are
+	 * indexed as they come in and recorded, and the entries and features they
+	 * affected are skipped when the collected ones are indexed, as they may
+	 * have been removed already. Models not indexed yet are candidates of
+	 * every search.
+	 */
+	private void initialize() {
+		synchronized (this) {
+			if (fInitialized) {
+				return;
+			}
+			fInitialized = true;
+			fChangedEntries = new HashSet<>();
+			fChangedFeatures = Collections.newSetFromMap(new IdentityHashMap<>());
+		}
+		List<ModelEntry> entries = new ArrayList<>();
+		for (IPluginModelBase model : PluginRegistry.getAllModels()) {
+			String id = model.getPluginBase().getId();
+			ModelEntry entry = id != null ? PluginRegistry.findEntry(id) : null;
+			if (entry != null) {
+				entries.add(entry);
+			}
+		}
+		IFeatureModel[] features = PDECore.getDefault().getFeatureModelManager().getModels();
+		synchronized (this) {
+			if (fChangedEntries == null) {
+				// shut down meanwhile
+				return;
+			}
+			for (ModelEntry entry : entries) {
+				if (!fChangedEntries.contains(entry.getId())) {
+					index(entry);
+				}
+			}
+			for (IFeatureModel model : features) {
+				if (!fChangedFeatures.contains(model)) {
+					index(model);
+				}
+			}
+			fChangedEntries = null;
+			fChangedFeatures = null;
+		}
+	}
+
+	private void clear() {
+		for (KindIndex index : fIndex.values()) {
+			index.fIds.clear();
+			index.fLowerCaseIds.clear();
+			index.fNonAsciiIds.clear();
+		}
+		fModelIds.clear();
+		fEntryModels.clear();
+		fInitialized = false;
+		fChangedEntries = null;
+		fChangedFeatures = null;
+	}
+
+	@Override
+	public synchronized void modelsChanged(PluginModelDelta delta) {
+		if (!fInitialized) {
+			return;
+		}
+		if (fChangedEntries != null) {
+			for (ModelEntry entry : delta.getRemovedEntries()) {
+				fChangedEntries.add(entry.getId());
+			}
+			for (ModelEntry entry : delta.getAddedEntries()) {
+				fChangedEntries.add(entry.getId());
+			}
+			for (ModelEntry entry : delta.getChangedEntries()) {
+				fChangedEntries.add(entry.getId());
+			}
+		}
+		for (ModelEntry entry : delta.getRemovedEntries()) {
+			Set<IPluginModelBase> models = fEntryModels.remove(entry.getId());
+			if (models != null) {
+				models.forEach(this::unindex);
+			}
+		}
+		for (ModelEntry entry : delta.getAddedEntries()) {
+			index(entry);
+		}
+		for (ModelEntry entry : delta.getChangedEntries()) {
+			index(entry);
+		}
+	}
+
+	@Override
+	public synchronized void extensionsChanged(IExtensionDeltaEvent event) {
+		if (!fInitialized) {
+			return;
+		}
+		for (IPluginModelBase model : event.getAddedModels()) {
+			index(model);
+		}
+		for (IPluginModelBase model : event.getChangedModels()) {
+			index(model);
+		}
+		for (IPluginModelBase model : event.getRemovedModels()) {
+			unindex(model);
+		}
+	}
+
+	@Override
+	public synchronized void modelsChanged(IFeatureModelDelta delta) {
+		if (!fInitialized) {
+			return;
+		}
+		if (fChangedFeatures != null) {
+			Collections.addAll(fChangedFeatures, delta.getRemoved());
+			Collections.addAll(fChangedFeatures, delta.getAdded());
+			Collections.addAll(fChangedFeatures, delta.getChanged());
+		}
+		for (IFeatureModel model : delta.getRemoved()) {
+			unindex(model);
+		}
+		for (IFeatureModel model : delta.getAdded()) {
+			index(model);
+		}
+		for (IFeatureModel model : delta.getChanged()) {
+			index(model);
+		}
+	}
+
+	/**
+	 * Replaces the indexed models of the given entry with its current
+	 * workspace and target models
+	 */
+	private void index(ModelEntry entry) {
+		if (entry == null) {
+			return;
+		}
+		Set<IPluginModelBase> models = Collections.newSetFromMap(new IdentityHashMap<>());
+		Collections.addAll(models, entry.getWorkspaceModels());
+		Collections.addAll(models, entry.getExternalModels());
+		Set<IPluginModelBase> previous = fEntryModels.put(entry.getId(), models);
+		if (previous != null) {
+			for (IPluginModelBase model : previous) {
+				if (!models.contains(model)) {
+					unindex(model);
+				}
+			}
+		}
+		models.forEach(this::index);
+	}
+
+	private void index(IPluginModelBase model) {
+		Map<Kind, Set<String>> ids = new EnumMap<>(Kind.class);
+		IPluginBase pluginBase = model.getPluginBase();
+		if (pluginBase == null) {
+			index(model, ids);
+			return;
+		}
+		if (pluginBase instanceof IPlugin) {
+			add(ids, Kind.PLUGIN, pluginBase.getId());
+		} else if (pluginBase instanceof IFragment fragment) {
+			add(ids, Kind.FRAGMENT, fragment.getId());
+			add(ids, Kind.REQUIRED_PLUGIN, fragment.getPluginId());
+		}
+		for (IPluginImport pluginImport : pluginBase.getImports()) {
+			add(ids, Kind.REQUIRED_PLUGIN, pluginImport.getId());
+		}
+		for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+			add(ids, Kind.EXTENSION_POINT, extensionPoint.getFullId());
+		}
+		for (IPluginExtension extension : pluginBase.getExtensions()) {
+			add(ids, Kind.EXTENSION, extension.getPoint());
+		}
+		index(model, ids);
+	}
+
+	private void index(IFeatureModel model) {
+		Map<Kind, Set<String>> ids = new EnumMap<>(Kind.class);
+		if (model.getFeature() != null) {
+			for (IFeaturePlugin plugin : model.getFeature().getPlugins()) {
+				add(ids, Kind.FEATURE_PLUGIN, plugin.getId());
+			}
+		}
+		index(model, ids);
+	}
+
+	private static void add(Map<Kind, Set<String>> ids, Kind kind, String id) {
+		if (id != null) {
+			ids.computeIfAbsent(kind, k -> new HashSet<>()).add(id);
+		}
+	}
+
+	private void index(Object model, Map<Kind, Set<String>> ids) {
+		unindex(model);
+		ids.forEach((kind, kindIds) -> {
+			KindIndex index = fIndex.get(kind);
+			kindIds.forEach(id -> index.add(id, model));
+		});
+		fModelIds.put(model, ids);
+	}
+
+	private void unindex(Object model) {
+		Map<Kind, Set<String>> ids = fModelIds.remove(model);
+		if (ids != null) {
+			ids.forEach((kind, kindIds) -> {
+				KindIndex index = fIndex.get(kind);
+				kindIds.forEach(id -> index.remove(id, model));
+			});
+		}
+	}
+
+	private static boolean isAscii(String id) {
+		for (int i = 0; i < id.length(); i++) {
+			if (id.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
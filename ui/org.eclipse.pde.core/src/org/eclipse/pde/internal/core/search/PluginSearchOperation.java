@@ -15,6 +15,7 @@
 package org.eclipse.pde.internal.core.search;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -28,6 +29,7 @@ import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
@@ -46,6 +48,13 @@ public class PluginSearchOperation {
 	public void execute(IProgressMonitor monitor) {
 		IPluginModelBase[] plugins = fInput.getSearchScope().getMatchingModels();
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
+		// exact and prefix searches only need to visit the models the index
+		// knows to contain the ID
+		PluginSearchIndex.Candidates candidates = PDECore.getDefault().getPluginSearchIndex().findCandidates(fInput);
+		if (candidates != null) {
+			plugins = Arrays.stream(plugins).filter(candidates::contains).toArray(IPluginModelBase[]::new);
+			features = Arrays.stream(features).filter(candidates::contains).toArray(IFeatureModel[]::new);
+		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
 		for (IPluginModelBase candidate : plugins) {
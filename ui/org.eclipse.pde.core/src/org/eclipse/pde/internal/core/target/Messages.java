@@ -60,6 +60,7 @@ public class Messages extends NLS {
 	public static String TargetDefinition_4;
 	public static String TargetDefinition_5;
 	public static String TargetDefinition_RequiredFeatureCouldNotBeFound;
+	public static String TargetDefinition_ResolvingLocation;
 	public static String TargetDefinitionPersistenceHelper_0;
 	public static String TargetDefinitionPersistenceHelper_1;
 	public static String TargetDefinitionPersistenceHelper_2;
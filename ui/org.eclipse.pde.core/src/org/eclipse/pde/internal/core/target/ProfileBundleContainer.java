@@ -35,6 +35,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.equinox.simpleconfigurator.manipulator.SimpleConfiguratorManipulator;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.TargetBundle;
@@ -259,6 +260,28 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 		return IPath.fromOSString(resolveVariables(fHome));
 	}
 
+	/**
+	 * Returns the files of the configuration area that list the bundles of
+	 * this container, whether they exist or not.
+	 *
+	 * @return the bundle lists or an empty array if there is no configuration
+	 *         area
+	 */
+	File[] getBundleListFiles() {
+		File configurationArea;
+		try {
+			configurationArea = getConfigurationArea();
+		} catch (CoreException e) {
+			return new File[0];
+		}
+		if (configurationArea == null) {
+			return new File[0];
+		}
+		return new File[] { new File(configurationArea, SimpleConfiguratorManipulator.BUNDLES_INFO_PATH),
+				new File(configurationArea, SimpleConfiguratorManipulator.SOURCE_INFO_PATH),
+				new File(configurationArea, CONFIG_INI) };
+	}
+
 	/**
 	 * Returns a URL to the configuration area associated with this profile or <code>null</code>
 	 * if none.
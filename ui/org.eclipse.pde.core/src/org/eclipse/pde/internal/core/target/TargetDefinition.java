@@ -27,11 +27,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -46,6 +50,8 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.debug.core.DebugPlugin;
@@ -62,6 +68,7 @@ import org.eclipse.pde.core.target.TargetFeature;
 import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
@@ -118,12 +125,23 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
 	private TargetBundle[] fOtherBundles;
 
+	// fingerprints of the file system based locations as of their last resolution, used to skip unchanged locations
+	private final Map<ITargetLocation, TargetLocationFingerprint> fLocationFingerprints = new IdentityHashMap<>();
+
+	// PDE's own location types that are resolved concurrently, subclasses and contributed types are resolved one after another.
+	// Target references are not among them, their nested resolution resets the artifact repository maps of P2TargetUtils
+	private static final Set<Class<?>> CONCURRENT_LOCATION_TYPES = Set.of(DirectoryBundleContainer.class,
+			ProfileBundleContainer.class, FeatureBundleContainer.class, RepositoryBundleContainer.class);
+
+	// time in milliseconds each location took during the last resolution
+	private final Map<ITargetLocation, Long> fResolutionTimes = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a target definition based on the given handle.
 	 */
@@ -363,51 +381,88 @@ public class TargetDefinition implements ITargetDefinition {
 			return fResolutionStatus = Status.OK_STATUS;
 		}
 		fResolutionStatus = null;
+		fResolutionTimes.clear();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
+			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
+			List<ITargetLocation> concurrentLocations = new ArrayList<>();
+			// resolution status of each location, in the order of the locations
+			Map<ITargetLocation, IStatus> locationStatus = Collections.synchronizedMap(new LinkedHashMap<>());
+			// forget fingerprints of locations that are no longer part of this target
+			synchronized (fLocationFingerprints) {
+				fLocationFingerprints.keySet().retainAll(Arrays.asList(targetLocations));
+			}
 			for (ITargetLocation location : targetLocations) {
 				subMonitor.checkCanceled();
 				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
-					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
+					if (isUnchangedSinceResolved(location)) {
+						// neither the definition nor the content on disk has changed
+						subMonitor.split(100);
+						continue;
+					}
+					locationStatus.put(location, Status.OK_STATUS);
+					if (CONCURRENT_LOCATION_TYPES.contains(location.getClass())) {
+						// PDE's own locations are independent of each other
+						concurrentLocations.add(location);
+					} else {
+						// a contributed location or a target reference, might not be thread safe
+						locationStatus.put(location, resolveLocation(location, subMonitor.split(100)));
 					}
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
+			runConcurrently(concurrentLocations,
+					(location, jobMonitor) -> locationStatus.put(location, resolveLocation(location, jobMonitor)),
+					subMonitor.split(concurrentLocations.size() * 100));
+			locationStatus.values().stream().filter(s -> !s.isOK()).forEach(status::add);
+
 			if (!synchronizers.isEmpty()) {
 				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
 						.toList();
 				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
-				synchronizers.forEach((synchronizer, locations) -> {
-					subMonitor.checkCanceled();
+				// the batches of different synchronizers do not share a profile
+				Map<P2TargetUtils, IStatus> synchronizerStatus = Collections.synchronizedMap(new LinkedHashMap<>());
+				runConcurrently(new ArrayList<>(synchronizers.keySet()), (synchronizer, jobMonitor) -> {
+					long start = System.currentTimeMillis();
 					try {
-						synchronizer.synchronize(this, subMonitor.split(100));
-						locations.stream().map(ITargetLocation::getStatus).filter(s -> s != null && !s.isOK())
-								.forEach(status::add);
+						synchronizer.synchronize(this, jobMonitor);
 					} catch (CoreException e) {
 						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
+						synchronizerStatus.put(synchronizer, e.getStatus());
+					}
+					long time = System.currentTimeMillis() - start;
+					for (ITargetLocation location : synchronizers.get(synchronizer)) {
+						fResolutionTimes.put(location, time);
+					}
+				}, subMonitor.split(synchronizers.size() * 100));
+				synchronizers.forEach((synchronizer, locations) -> {
+					IStatus failure = synchronizerStatus.get(synchronizer);
+					if (failure != null) {
+						status.add(failure);
+					} else {
+						locations.stream().map(ITargetLocation::getStatus).filter(s -> s != null && !s.isOK())
+								.forEach(status::add);
 					}
 				});
 				for (ITargetLocation location : delayedLocations) {
 					subMonitor.checkCanceled();
+					long start = System.currentTimeMillis();
 					IStatus s = location.resolve(this, subMonitor.split(1));
+					fResolutionTimes.merge(location, System.currentTimeMillis() - start, Long::sum);
 					if (!s.isOK()) {
 						status.add(s);
 					}
 				}
 			}
+			traceResolutionTimes(targetLocations);
 			if (status.isOK()) {
 				return fResolutionStatus = Status.OK_STATUS;
 			}
@@ -421,6 +476,140 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Resolves a single, non p2, location and records the time it took and its
+	 * fingerprint.
+	 *
+	 * @return the resolution status of the location
+	 */
+	private IStatus resolveLocation(ITargetLocation location, IProgressMonitor monitor) {
+		long start = System.currentTimeMillis();
+		IStatus status = location.resolve(this, monitor);
+		fResolutionTimes.put(location, System.currentTimeMillis() - start);
+		TargetLocationFingerprint fingerprint = TargetLocationFingerprint.compute(location);
+		synchronized (fLocationFingerprints) {
+			if (fingerprint != null) {
+				fLocationFingerprints.put(location, fingerprint);
+			} else {
+				fLocationFingerprints.remove(location);
+			}
+		}
+		return status;
+	}
+
+	/**
+	 * Runs the given action for all elements concurrently, each one in its own
+	 * job so its progress is reported separately. Blocks until all jobs are
+	 * done. If the given monitor is cancelled, the jobs are cancelled and an
+	 * {@link OperationCanceledException} is thrown once they stopped. The
+	 * elements are processed one after another in the calling thread if it
+	 * holds the lock of the plug-in model manager, as the jobs might wait for
+	 * that lock.
+	 *
+	 * @param elements elements to process
+	 * @param action action to run for each element, receives the monitor of
+	 *            its job
+	 * @param monitor progress monitor, used for cancellation and overall
+	 *            progress
+	 */
+	private <T> void runConcurrently(List<T> elements, BiConsumer<T, IProgressMonitor> action,
+			IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, elements.size() * 100);
+		if (elements.size() <= 1 || PluginModelManager.holdsEntriesLock()) {
+			for (T element : elements) {
+				subMonitor.checkCanceled();
+				action.accept(element, subMonitor.split(100));
+			}
+			return;
+		}
+		int maxThreads = Math.min(elements.size(), Runtime.getRuntime().availableProcessors());
+		JobGroup group = new JobGroup(Messages.TargetDefinition_1, maxThreads, elements.size());
+		for (T element : elements) {
+			Job job = Job.create(NLS.bind(Messages.TargetDefinition_ResolvingLocation, element), jobMonitor -> {
+				if (!jobMonitor.isCanceled()) {
+					action.accept(element, jobMonitor);
+				}
+				return jobMonitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			});
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		try {
+			group.join(0, subMonitor);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelAndWait(group);
+			throw new OperationCanceledException();
+		} catch (OperationCanceledException e) {
+			cancelAndWait(group);
+			throw e;
+		}
+		subMonitor.split(elements.size() * 100);
+	}
+
+	private static void cancelAndWait(JobGroup group) {
+		group.cancel();
+		try {
+			group.join(0, null);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the time in milliseconds it took to resolve each location during
+	 * the last call to {@link #resolve(IProgressMonitor)}. Locations skipped
+	 * because they did not change are not included. Locations sharing a p2
+	 * synchronizer report the time of the shared synchronization.
+	 *
+	 * @return an unmodifiable map from location to resolution time in the order
+	 *         of the locations
+	 */
+	public Map<ITargetLocation, Long> getResolutionTimes() {
+		Map<ITargetLocation, Long> times = new LinkedHashMap<>();
+		ITargetLocation[] locations = getTargetLocations();
+		if (locations != null) {
+			for (ITargetLocation location : locations) {
+				Long time = fResolutionTimes.get(location);
+				if (time != null) {
+					times.put(location, time);
+				}
+			}
+		}
+		return Collections.unmodifiableMap(times);
+	}
+
+	private void traceResolutionTimes(ITargetLocation[] locations) {
+		if (!PDECore.DEBUG_TARGET_RESOLUTION) {
+			return;
+		}
+		System.out.println("Target " + getName() + " resolved:"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (ITargetLocation location : locations) {
+			Long time = fResolutionTimes.get(location);
+			System.out.println("  " + location + ": " + (time == null ? "unchanged" : time + " ms")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	/**
+	 * Returns whether the given location is resolved and neither its definition
+	 * nor its content on disk changed since then. Locations are immutable with
+	 * regards to their definition, so an edited location is a new instance
+	 * without a recorded fingerprint.
+	 *
+	 * @param location the location to check
+	 * @return <code>true</code> if resolving the location again can be skipped
+	 */
+	private boolean isUnchangedSinceResolved(ITargetLocation location) {
+		TargetLocationFingerprint previous;
+		synchronized (fLocationFingerprints) {
+			previous = fLocationFingerprints.get(location);
+		}
+		if (previous == null || !location.isResolved()) {
+			return false;
+		}
+		return previous.equals(TargetLocationFingerprint.compute(location));
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.File;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.filesystem.URIUtil;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.core.ICoreConstants;
+
+/**
+ * Captures the on-disk content of a resolved, file system based target
+ * location so that {@link TargetDefinition#resolve(org.eclipse.core.runtime.IProgressMonitor)}
+ * can skip locations that have not changed since they were last resolved.
+ * <p>
+ * The fingerprint records the size and time stamp of every file the
+ * resolution depended on: each resolved bundle and, for bundles in directory
+ * shape, their manifest, each feature and its <code>feature.xml</code>, the
+ * directories containing them, the bundle lists of installations and every
+ * entry of the location root and of its <code>plugins</code> and
+ * <code>features</code> sites. Listing the sites detects bundles added or
+ * removed even within the time stamp granularity of the file system. Two
+ * fingerprints are only equal if all of these are.
+ * </p>
+ */
+final class TargetLocationFingerprint {
+
+	/**
+	 * Size and time stamp of a file, both <code>0</code> if it does not exist
+	 */
+	private record FileStamp(long length, long lastModified) {
+		static FileStamp of(File file) {
+			return new FileStamp(file.length(), file.lastModified());
+		}
+	}
+
+	// path -> stamp of every file the resolution depended on
+	private final Map<String, FileStamp> fStamps;
+
+	private TargetLocationFingerprint(Map<String, FileStamp> stamps) {
+		fStamps = stamps;
+	}
+
+	/**
+	 * Returns whether fingerprints can be computed for the given location. Only
+	 * locations whose content is entirely defined by the local file system are
+	 * supported, all others must always be re-resolved.
+	 *
+	 * @param location the target location
+	 * @return whether the location supports incremental resolution
+	 */
+	static boolean isSupported(ITargetLocation location) {
+		return location instanceof DirectoryBundleContainer || location instanceof ProfileBundleContainer
+				|| location instanceof FeatureBundleContainer;
+	}
+
+	/**
+	 * Computes the fingerprint of a resolved location.
+	 *
+	 * @param location a resolved, supported location
+	 * @return the fingerprint or <code>null</code> if none can be computed
+	 */
+	static TargetLocationFingerprint compute(ITargetLocation location) {
+		if (!isSupported(location) || !location.isResolved() || !location.getStatus().isOK()) {
+			return null;
+		}
+		Map<String, FileStamp> stamps = new HashMap<>();
+		try {
+			String root = location.getLocation(true);
+			if (root != null) {
+				File rootDirectory = new File(root);
+				addListing(stamps, rootDirectory);
+				addListing(stamps, new File(rootDirectory, IPDEBuildConstants.DEFAULT_PLUGIN_LOCATION));
+				addListing(stamps, new File(rootDirectory, IPDEBuildConstants.DEFAULT_FEATURE_LOCATION));
+			}
+		} catch (CoreException e) {
+			return null;
+		}
+		if (location instanceof ProfileBundleContainer profile) {
+			for (File bundleList : profile.getBundleListFiles()) {
+				add(stamps, bundleList);
+			}
+		}
+		TargetBundle[] bundles = location.getBundles();
+		if (bundles != null) {
+			for (TargetBundle bundle : bundles) {
+				File file = toFile(bundle.getBundleInfo().getLocation());
+				if (file != null) {
+					addWithParent(stamps, file, JarFile.MANIFEST_NAME);
+				}
+			}
+		}
+		TargetFeature[] features = location.getFeatures();
+		if (features != null) {
+			for (TargetFeature feature : features) {
+				String featureLocation = feature.getLocation();
+				if (featureLocation != null) {
+					addWithParent(stamps, new File(featureLocation), ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
+				}
+			}
+		}
+		return new TargetLocationFingerprint(stamps);
+	}
+
+	/**
+	 * Adds the given bundle or feature, the descriptor inside it if it is a
+	 * directory and the directory containing it.
+	 */
+	private static void addWithParent(Map<String, FileStamp> stamps, File file, String descriptor) {
+		add(stamps, file);
+		if (file.isDirectory()) {
+			add(stamps, new File(file, descriptor));
+		}
+		File parent = file.getParentFile();
+		if (parent != null) {
+			add(stamps, parent);
+		}
+	}
+
+	/**
+	 * Adds the given directory and every file in it, if it exists.
+	 */
+	private static void addListing(Map<String, FileStamp> stamps, File directory) {
+		add(stamps, directory);
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				add(stamps, file);
+			}
+		}
+	}
+
+	private static void add(Map<String, FileStamp> stamps, File file) {
+		stamps.computeIfAbsent(file.getPath(), path -> FileStamp.of(file));
+	}
+
+	private static File toFile(URI uri) {
+		if (uri == null) {
+			return null;
+		}
+		IPath path = URIUtil.toPath(uri);
+		return path == null ? null : path.toFile();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof TargetLocationFingerprint other && fStamps.equals(other.fStamps);
+	}
+
+	@Override
+	public int hashCode() {
+		return fStamps.hashCode();
+	}
+
+}
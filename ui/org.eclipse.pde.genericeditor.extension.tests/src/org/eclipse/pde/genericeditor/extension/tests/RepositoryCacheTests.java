@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+
+public class RepositoryCacheTests {
+
+	private Path repository;
+
+	@Before
+	public void setUp() throws Exception {
+		repository = Files.createTempDirectory("repositoryCache");
+		try (InputStream content = FrameworkUtil.getBundle(getClass())
+				.getEntry("testing-files/testing-sites/MultipleUnitsConfirmSorting/content.jar").openStream()) {
+			Files.copy(content, repository.resolve("content.jar"));
+		}
+		RepositoryCache.clearInMemoryCache();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RepositoryCache.clearInMemoryCache();
+		Files.deleteIfExists(repository.resolve("content.jar"));
+		Files.deleteIfExists(repository);
+	}
+
+	@Test
+	public void testUnitsByPrefix() {
+		String location = repository.toUri().toString();
+		List<IVersionedId> units = RepositoryCache.getUnitsByPrefix(location, "org.eclipse.fake.");
+		assertEquals(14, units.size());
+		assertTrue(units.stream().allMatch(unit -> unit.getId().startsWith("org.eclipse.fake.")));
+		assertEquals("org.eclipse.fake.1", units.get(0).getId());
+		assertEquals("2.0.0", units.get(0).getVersion().toString());
+
+		assertEquals(List.of(), RepositoryCache.getUnitsByPrefix(location, "org.eclipse.unknown"));
+		assertEquals(List.of(), RepositoryCache.getUnitsByPrefix(location, "ORG.eclipse.fake."));
+	}
+
+	@Test
+	public void testUnitsAvailableFromDiskWhenRepositoryIsGone() throws Exception {
+		String location = repository.toUri().toString();
+		Map<String, List<IVersionedId>> units = RepositoryCache.fetchP2UnitsFromRepos(List.of(location));
+		assertEquals(7, units.size());
+
+		RepositoryCache.clearInMemoryCache();
+		Files.delete(repository.resolve("content.jar"));
+
+		assertEquals(units, RepositoryCache.fetchP2UnitsFromRepos(List.of(location)));
+	}
+}
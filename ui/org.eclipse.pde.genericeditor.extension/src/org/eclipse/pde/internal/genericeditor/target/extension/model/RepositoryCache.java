@@ -11,11 +11,13 @@
  * Contributors:
  *     Sopot Cela (Red Hat Inc.)
  *     Lucas Bullen (Red Hat Inc.) - [Bug 531918] filter suggestions
+ *     Eclipse Foundation - persistent cache and prefix index
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -33,6 +35,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.p2.metadata.IVersionedId;
 import org.eclipse.equinox.p2.metadata.VersionedId;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryMetadataStore.StoredMetadata;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.Messages;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.RepositoryContent;
@@ -44,6 +47,12 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.Repo
  *
  * There will be only one cache shared between editors. In the future a function
  * will be added for the user to be able to flush this cache.
+ *
+ * The IDs and versions of the units are also stored on disk by a
+ * {@link RepositoryMetadataStore}. Stored metadata that is still fresh is used
+ * without contacting the repository, stale metadata of remote repositories is
+ * used while it is fetched again in the background and all stored metadata is
+ * used if the repository can not be reached.
  */
 public class RepositoryCache {
 
@@ -51,11 +60,54 @@ public class RepositoryCache {
 		// avoid instantiation
 	}
 
-	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children) {
+	/**
+	 * The units of a repository and its children
+	 *
+	 * @param units
+	 *            all IDs in alphabetical order mapped to their versions in
+	 *            descending order
+	 * @param children
+	 *            the children of a composite repository
+	 * @param ids
+	 *            the keys of {@code units} as array, for the lookup of
+	 *            prefixes
+	 */
+	static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children, String[] ids) {
+
+		static RepositoryMetadata of(Map<String, List<IVersionedId>> units, List<URI> children) {
+			return new RepositoryMetadata(units, children, units.keySet().toArray(String[]::new));
+		}
+
+		/**
+		 * Returns the IDs starting with the given prefix in alphabetical
+		 * order.
+		 */
+		List<String> getIdsWithPrefix(String prefix) {
+			// all IDs starting with the prefix ignoring case are adjacent
+			int low = 0;
+			int high = ids.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (String.CASE_INSENSITIVE_ORDER.compare(ids[mid], prefix) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			List<String> result = new ArrayList<>();
+			for (int i = low; i < ids.length && ids[i].regionMatches(true, 0, prefix, 0, prefix.length()); i++) {
+				if (ids[i].startsWith(prefix)) {
+					result.add(ids[i]);
+				}
+			}
+			return result;
+		}
 	}
 
 	private static final Map<URI, CompletableFuture<RepositoryMetadata>> CACHE = new ConcurrentHashMap<>();
 
+	private static final RepositoryMetadataStore STORE = RepositoryMetadataStore.create();
+
 	/**
 	 * Fetches information and caches it.
 	 * <p>
@@ -74,11 +126,34 @@ public class RepositoryCache {
 		}
 		var repos = repositories.stream().map(RepositoryCache::fetchP2DataOfRepo).toList();
 		// Fetch all repos at once to await pending metadata in parallel
-		return toSortedMap(repos.stream()
-				.map(r -> getFutureValue(r, RepositoryMetadata::units, Map.<String, List<IVersionedId>>of()))
-				.map(Map::values).flatMap(Collection::stream).flatMap(List::stream));
+		List<RepositoryMetadata> sources = repos.stream().map(r -> getFutureValue(r, m -> m, null)).toList();
+		// completion asks for the same locations on every key stroke
+		MergedUnits merged = lastMerged;
+		if (merged == null || !merged.isMergeOf(sources)) {
+			merged = new MergedUnits(sources, toSortedMap(sources.stream().filter(m -> m != null)
+					.map(m -> m.units().values()).flatMap(Collection::stream).flatMap(List::stream)));
+			lastMerged = merged;
+		}
+		return merged.units();
+	}
+
+	private static record MergedUnits(List<RepositoryMetadata> sources, Map<String, List<IVersionedId>> units) {
+
+		boolean isMergeOf(List<RepositoryMetadata> others) {
+			if (sources.size() != others.size()) {
+				return false;
+			}
+			for (int i = 0; i < sources.size(); i++) {
+				if (sources.get(i) != others.get(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
 	}
 
+	private static volatile MergedUnits lastMerged;
+
 	public static List<URI> fetchChildrenOfRepo(String repository) {
 		return getFutureValue(fetchP2DataOfRepo(repository), RepositoryMetadata::children, List.of());
 	}
@@ -98,25 +173,60 @@ public class RepositoryCache {
 			if (f != null && (!f.isDone() || !f.isCompletedExceptionally() && !f.isCancelled())) {
 				return f; // computation is running or has succeeded
 			}
-			CompletableFuture<RepositoryMetadata> future = new CompletableFuture<>();
-			// Fetching P2 repository information is a costly operation
-			// time-wise. Thus it is done in a job.
-			Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
-				try {
-					RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
-					Map<String, List<IVersionedId>> units = toSortedMap(
-							content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
-					future.complete(new RepositoryMetadata(units, content.children()));
-				} catch (Throwable e) {
+			StoredMetadata stored = STORE.read(repo);
+			if (stored != null && stored.fresh()) {
+				return CompletableFuture.completedFuture(stored.metadata());
+			}
+			if (stored != null && !"file".equalsIgnoreCase(repo.getScheme())) { //$NON-NLS-1$
+				// use the stale metadata until the repository is fetched again
+				fetch(repo, null).thenAccept(metadata -> CACHE.put(repo, CompletableFuture.completedFuture(metadata)));
+				return CompletableFuture.completedFuture(stored.metadata());
+			}
+			return fetch(repo, stored);
+		});
+	}
+
+	/**
+	 * Fetches the metadata of the given repository in a job and stores it.
+	 *
+	 * @param stored
+	 *            the stored metadata to use if the repository can not be
+	 *            fetched or <code>null</code>
+	 */
+	private static CompletableFuture<RepositoryMetadata> fetch(URI repo, StoredMetadata stored) {
+		CompletableFuture<RepositoryMetadata> future = new CompletableFuture<>();
+		// Fetching P2 repository information is a costly operation
+		// time-wise. Thus it is done in a job.
+		Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
+			try {
+				RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
+				Map<String, List<IVersionedId>> units = toSortedMap(
+						content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
+				RepositoryMetadata metadata = RepositoryMetadata.of(units, content.children());
+				STORE.write(repo, metadata);
+				future.complete(metadata);
+			} catch (Throwable e) {
+				if (stored != null) {
+					future.complete(stored.metadata());
+				} else {
 					future.completeExceptionally(e);
-					// Only log the failure, don't open an error-dialog.
-					ILog.get().warn(e.getMessage(), e);
 				}
-			});
-			job.setUser(true);
-			job.schedule();
-			return future;
+				// Only log the failure, don't open an error-dialog.
+				ILog.get().warn(e.getMessage(), e);
+			}
 		});
+		job.setUser(stored == null);
+		job.schedule();
+		return future;
+	}
+
+	/**
+	 * Discards the metadata held in memory, so the next request reads it from
+	 * disk or fetches it again.
+	 */
+	public static void clearInMemoryCache() {
+		CACHE.clear();
+		lastMerged = null;
 	}
 
 	private static final Comparator<IVersionedId> BY_ID_FIRST_THEN_DESCENDING_VERSION = Comparator
@@ -155,9 +265,11 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public static List<IVersionedId> getUnitsByPrefix(String repo, String prefix) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().startsWith(prefix)).toList();
+		RepositoryMetadata metadata = getFutureValue(fetchP2DataOfRepo(repo), m -> m, null);
+		if (metadata == null) {
+			return List.of();
+		}
+		return metadata.getIdsWithPrefix(prefix).stream().map(metadata.units()::get).flatMap(List::stream).toList();
 	}
 
 	/**
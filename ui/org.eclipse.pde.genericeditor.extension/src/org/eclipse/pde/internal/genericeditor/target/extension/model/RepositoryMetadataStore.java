@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Stores the IDs and versions of the units of p2 repositories in the state
+ * location of this bundle, so completion is available right after a restart
+ * and while a repository can not be reached.
+ * <p>
+ * Each repository is stored in its own file together with the time it was
+ * fetched and a stamp of its metadata files. Repositories in the local file
+ * system are fresh while the stamp is unchanged, all others for
+ * {@link #MAX_AGE} after they were fetched.
+ * </p>
+ */
+class RepositoryMetadataStore {
+
+	/**
+	 * Bumped whenever the binary layout changes, older files are discarded.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int MAGIC = 0x50324d43; // "P2MC"
+
+	private static final long MAX_AGE = TimeUnit.HOURS.toMillis(24);
+
+	/**
+	 * Files whose modification time makes up the stamp of a local repository
+	 */
+	private static final String[] METADATA_FILES = { "content.jar", "content.xml", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"compositeContent.jar", "compositeContent.xml", "p2.index" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	/**
+	 * Metadata read from the store
+	 *
+	 * @param metadata
+	 *            the units and children of the repository
+	 * @param fresh
+	 *            whether the repository is unlikely to have changed since the
+	 *            metadata was fetched
+	 */
+	record StoredMetadata(RepositoryCache.RepositoryMetadata metadata, boolean fresh) {
+	}
+
+	private final File directory;
+
+	/**
+	 * @param directory
+	 *            the directory to store the repositories in or
+	 *            <code>null</code> if nothing should be stored
+	 */
+	RepositoryMetadataStore(File directory) {
+		this.directory = directory;
+	}
+
+	static RepositoryMetadataStore create() {
+		Bundle bundle = FrameworkUtil.getBundle(RepositoryMetadataStore.class);
+		File directory = null;
+		if (bundle != null) {
+			try {
+				directory = Platform.getStateLocation(bundle).append("p2-metadata").toFile(); //$NON-NLS-1$
+			} catch (IllegalStateException e) {
+				// no instance location, keep the metadata in memory only
+			}
+		}
+		return new RepositoryMetadataStore(directory);
+	}
+
+	/**
+	 * Reads the stored metadata of the given repository.
+	 *
+	 * @return the stored metadata or <code>null</code> if the repository was
+	 *         not stored or its file can not be read
+	 */
+	StoredMetadata read(URI location) {
+		File file = getFile(location);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !location.toString().equals(in.readUTF())) {
+				return null;
+			}
+			long fetched = in.readLong();
+			long stamp = in.readLong();
+			int childCount = in.readInt();
+			List<URI> children = new ArrayList<>(childCount);
+			for (int i = 0; i < childCount; i++) {
+				children.add(new URI(in.readUTF()));
+			}
+			int idCount = in.readInt();
+			Map<String, List<IVersionedId>> units = new LinkedHashMap<>(idCount * 4 / 3 + 1);
+			for (int i = 0; i < idCount; i++) {
+				String id = in.readUTF();
+				int versionCount = in.readInt();
+				List<IVersionedId> versions = new ArrayList<>(versionCount);
+				for (int j = 0; j < versionCount; j++) {
+					versions.add(new VersionedId(id, Version.create(in.readUTF())));
+				}
+				units.put(id, List.copyOf(versions));
+			}
+			boolean fresh = isLocal(location) ? stamp == computeStamp(location, children)
+					: System.currentTimeMillis() - fetched < MAX_AGE;
+			return new StoredMetadata(RepositoryCache.RepositoryMetadata.of(units, children), fresh);
+		} catch (Exception e) {
+			// corrupt or truncated file, fetch the repository again
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the metadata of the given repository, replacing the previous
+	 * one.
+	 */
+	void write(URI location, RepositoryCache.RepositoryMetadata metadata) {
+		File file = getFile(location);
+		if (file == null) {
+			return;
+		}
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			file.getParentFile().mkdirs();
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(location.toString());
+				out.writeLong(System.currentTimeMillis());
+				out.writeLong(isLocal(location) ? computeStamp(location, metadata.children()) : 0);
+				out.writeInt(metadata.children().size());
+				for (URI child : metadata.children()) {
+					out.writeUTF(child.toString());
+				}
+				out.writeInt(metadata.units().size());
+				for (Map.Entry<String, List<IVersionedId>> unit : metadata.units().entrySet()) {
+					out.writeUTF(unit.getKey());
+					out.writeInt(unit.getValue().size());
+					for (IVersionedId version : unit.getValue()) {
+						out.writeUTF(version.getVersion().toString());
+					}
+				}
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			tmp.delete();
+			ILog.get().warn(e.getMessage(), e);
+		}
+	}
+
+	private File getFile(URI location) {
+		if (directory == null) {
+			return null;
+		}
+		String name = UUID.nameUUIDFromBytes(location.toString().getBytes(StandardCharsets.UTF_8)).toString();
+		return new File(directory, name);
+	}
+
+	private static boolean isLocal(URI location) {
+		return "file".equalsIgnoreCase(location.getScheme()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Combines the size and modification time of the metadata files of the
+	 * given repository and its local children.
+	 */
+	private static long computeStamp(URI location, List<URI> children) {
+		long stamp = computeStamp(location);
+		for (URI child : children) {
+			if (isLocal(child)) {
+				stamp = 31 * stamp + computeStamp(child);
+			}
+		}
+		return stamp;
+	}
+
+	private static long computeStamp(URI location) {
+		File directory;
+		try {
+			directory = new File(location);
+		} catch (IllegalArgumentException e) {
+			return 0;
+		}
+		long stamp = 1;
+		for (String name : METADATA_FILES) {
+			File file = new File(directory, name);
+			stamp = 31 * stamp + file.lastModified();
+			stamp = 31 * stamp + file.length();
+		}
+		return stamp;
+	}
+}
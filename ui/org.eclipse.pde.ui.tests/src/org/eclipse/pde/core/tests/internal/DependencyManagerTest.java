@@ -120,6 +120,32 @@ public class DependencyManagerTest {
 		assertThat(closure).isEqualTo(Set.of(bundle3, bundle2, bundle1));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_repeatedAfterTargetChange() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a1", "1.0.0"),
+
+				bundle("bundle.a2", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a1")));
+
+		BundleDescription bundle2 = bundleDescription("bundle.a2", "1.0.0");
+		BundleDescription bundle1 = bundleDescription("bundle.a1", "1.0.0");
+
+		Set<BundleDescription> closure = findRequirementsClosure(Set.of(bundle2));
+		assertThat(closure).isEqualTo(Set.of(bundle2, bundle1));
+		closure.remove(bundle1); // returned closures are independent of each other
+		assertThat(findRequirementsClosure(Set.of(bundle2))).isEqualTo(Set.of(bundle2, bundle1));
+
+		setTargetPlatform( //
+				bundle("bundle.a1", "1.0.0"),
+
+				bundle("bundle.a2", "1.0.0"));
+
+		BundleDescription newBundle2 = bundleDescription("bundle.a2", "1.0.0");
+		assertThat(findRequirementsClosure(Set.of(newBundle2))).isEqualTo(Set.of(newBundle2));
+	}
+
 	@Test
 	public void testFindRequirementsClosure_importPackage() throws Exception {
 
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.version;
+import static org.osgi.framework.Constants.EXPORT_PACKAGE;
+import static org.osgi.framework.Constants.FRAGMENT_HOST;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.ExportedPackageIndex;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class ExportedPackageIndexTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ExportedPackageIndex index;
+
+	@Before
+	public void setupBefore() {
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+		index = PDECore.getDefault().getExportedPackageIndex();
+	}
+
+	@Test
+	public void testBundlesByPrefix() throws Exception {
+		setTargetPlatform( //
+				bundle("index.b", "1.0.0"), //
+				bundle("index.a", "1.0.0"), //
+				bundle("index.a", "2.0.0"), //
+				bundle("index.a.fragment", "1.0.0", entry(FRAGMENT_HOST, "index.a")), //
+				bundle("other", "1.0.0"));
+
+		assertThat(symbolicNames(index.getBundles("index.", true))) //
+				.containsExactly("index.a", "index.a", "index.a.fragment", "index.b");
+		assertThat(symbolicNames(index.getBundles("INDEX.A", false))).containsExactly("index.a", "index.a");
+		assertThat(index.getBundles("index.c", true)).isEmpty();
+	}
+
+	@Test
+	public void testExportedPackagesByPrefix() throws Exception {
+		setTargetPlatform( //
+				bundle("index.a", "1.0.0", entry(EXPORT_PACKAGE, "index.a.api" + version("1.0.0") + ",index.a.spi")), //
+				bundle("index.b", "1.0.0", entry(EXPORT_PACKAGE, "index.a.api" + version("2.0.0"))));
+
+		List<ExportPackageDescription> packages = index.getExportedPackages("Index.A.");
+		assertThat(packages).extracting(ExportPackageDescription::getName) //
+				.containsExactly("index.a.api", "index.a.api", "index.a.spi");
+		assertThat(packages.get(0).getExporter().getSymbolicName()).isEqualTo("index.a");
+		assertThat(packages.get(1).getExporter().getSymbolicName()).isEqualTo("index.b");
+
+		assertThat(index.getExporters("index.a.api")).hasSize(2);
+		assertThat(index.getExporters("index.a")).isEmpty();
+	}
+
+	@Test
+	public void testTargetChange() throws Exception {
+		setTargetPlatform(bundle("index.a", "1.0.0", entry(EXPORT_PACKAGE, "index.a.api")));
+		assertThat(index.getExportedPackages("index.")).hasSize(1);
+
+		setTargetPlatform(bundle("index.b", "1.0.0", entry(EXPORT_PACKAGE, "index.b.api")));
+		assertThat(index.getExportedPackages("index.")).extracting(ExportPackageDescription::getName)
+				.containsExactly("index.b.api");
+		assertThat(symbolicNames(index.getBundles("index.", true))).containsExactly("index.b");
+	}
+
+	@SafeVarargs
+	private void setTargetPlatform(Map.Entry<NameVersionDescriptor, Map<String, String>>... pluginDescriptions)
+			throws Exception {
+		Path tpJarDirectory = folder.newFolder().toPath();
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(pluginDescriptions), List.of(), tpJarDirectory);
+	}
+
+	private static List<String> symbolicNames(List<BundleDescription> bundles) {
+		return bundles.stream().map(BundleDescription::getSymbolicName).toList();
+	}
+}
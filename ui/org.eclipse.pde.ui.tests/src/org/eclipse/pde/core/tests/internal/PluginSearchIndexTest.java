@@ -0,0 +1,228 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.ELEMENT_EXTENSION_POINT;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.ELEMENT_FRAGMENT;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.ELEMENT_PLUGIN;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.LIMIT_ALL;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.LIMIT_DECLARATIONS;
+import static org.eclipse.pde.internal.core.search.PluginSearchInput.LIMIT_REFERENCES;
+import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.IEditableModel;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex.Candidates;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.project.PluginRegistryTests;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class PluginSearchIndexTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private PluginSearchIndex index;
+
+	@Before
+	public void setupBefore() throws Exception {
+		index = PDECore.getDefault().getPluginSearchIndex();
+		IProject a = ProjectUtils.createPluginProject("idx.a", "1.0.0");
+		setPluginXml(a, """
+				<plugin>
+				   <extension-point id="point1" name="Point 1"/>
+				   <extension point="idx.b.point2"/>
+				</plugin>
+				""");
+		IProject b = ProjectUtils.createPluginProject("idx.b", "1.0.0", Map.of(REQUIRE_BUNDLE, "idx.a"));
+		setPluginXml(b, """
+				<plugin>
+				   <extension-point id="point2" name="Point 2"/>
+				</plugin>
+				""");
+		ProjectUtils.createPluginProject("idx.frag", "idx.frag", "1.0.0",
+				(description, service) -> description.setHost(service.newHost("idx.a", null)));
+		ProjectUtils.createFeatureProject("idx.feature", "1.0.0",
+				feature -> ProjectUtils.addIncludedPlugin(feature, "idx.b", "1.0.0"));
+		PluginRegistryTests.waitForBuild();
+	}
+
+	@Test
+	public void testPluginDeclarations() {
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_DECLARATIONS, "idx.a", true)) //
+				.matches(c -> c.contains(plugin("idx.a"))) //
+				.matches(c -> !c.contains(plugin("idx.b"))) //
+				.matches(c -> !c.contains(plugin("idx.frag"))) //
+				.matches(c -> !c.contains(feature()));
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_DECLARATIONS, "idx.*", true)) //
+				.matches(c -> c.contains(plugin("idx.a"))) //
+				.matches(c -> c.contains(plugin("idx.b"))) //
+				.matches(c -> !c.contains(plugin("idx.frag")));
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_DECLARATIONS, "idx.c*", true)) //
+				.matches(c -> !c.contains(plugin("idx.a"))) //
+				.matches(c -> !c.contains(plugin("idx.b")));
+	}
+
+	@Test
+	public void testPluginReferences() {
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_REFERENCES, "idx.a", true)) //
+				.matches(c -> !c.contains(plugin("idx.a"))) //
+				.matches(c -> c.contains(plugin("idx.b"))) //
+				.matches(c -> c.contains(plugin("idx.frag"))) //
+				.matches(c -> !c.contains(feature()));
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_REFERENCES, "idx.b", true)) //
+				.matches(c -> !c.contains(plugin("idx.a"))) //
+				.matches(c -> !c.contains(plugin("idx.b"))) //
+				.matches(c -> c.contains(feature()));
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_ALL, "idx.b", true)) //
+				.matches(c -> !c.contains(plugin("idx.a"))) //
+				.matches(c -> c.contains(plugin("idx.b"))) //
+				.matches(c -> c.contains(feature()));
+	}
+
+	@Test
+	public void testFragments() {
+		assertThat(find(ELEMENT_FRAGMENT, LIMIT_DECLARATIONS, "idx.frag", true)) //
+				.matches(c -> c.contains(plugin("idx.frag"))) //
+				.matches(c -> !c.contains(plugin("idx.a")));
+		assertThat(find(ELEMENT_FRAGMENT, LIMIT_ALL, "idx.f*", true)) //
+				.matches(c -> c.contains(plugin("idx.frag"))) //
+				.matches(c -> !c.contains(plugin("idx.b")));
+		assertThat(find(ELEMENT_FRAGMENT, LIMIT_ALL, "idx.a", true)) //
+				.matches(c -> !c.contains(plugin("idx.frag")));
+	}
+
+	@Test
+	public void testExtensionPoints() {
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_DECLARATIONS, "idx.a.point1", true)) //
+				.matches(c -> c.contains(plugin("idx.a"))) //
+				.matches(c -> !c.contains(plugin("idx.b")));
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_DECLARATIONS, "idx.b.*", true)) //
+				.matches(c -> !c.contains(plugin("idx.a"))) //
+				.matches(c -> c.contains(plugin("idx.b")));
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_REFERENCES, "idx.b.point2", true)) //
+				.matches(c -> c.contains(plugin("idx.a"))) //
+				.matches(c -> !c.contains(plugin("idx.b")));
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_ALL, "idx.b.point2", true)) //
+				.matches(c -> c.contains(plugin("idx.a"))) //
+				.matches(c -> c.contains(plugin("idx.b")));
+	}
+
+	@Test
+	public void testCaseInsensitive() {
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_DECLARATIONS, "IDX.A", true)) //
+				.matches(c -> !c.contains(plugin("idx.a")));
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_DECLARATIONS, "IDX.A", false)) //
+				.matches(c -> c.contains(plugin("idx.a"))) //
+				.matches(c -> !c.contains(plugin("idx.b")));
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_DECLARATIONS, "Idx.*", false)) //
+				.matches(c -> c.contains(plugin("idx.a"))) //
+				.matches(c -> c.contains(plugin("idx.b")));
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_DECLARATIONS, "IDX.A.Point1", false)) //
+				.matches(c -> c.contains(plugin("idx.a")));
+	}
+
+	@Test
+	public void testPatternsNotAnsweredFromIndex() {
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_ALL, "idx.?", true)).isNull();
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_ALL, "*.a", true)).isNull();
+	}
+
+	@Test
+	public void testWorkspaceChanges() throws Exception {
+		// initialize the index before the changes
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_REFERENCES, "idx.a", true)).matches(c -> c.contains(plugin("idx.b")));
+
+		IProject b = ResourcesPlugin.getWorkspace().getRoot().getProject("idx.b1_0_0");
+		IBundleProjectDescription description = ProjectCreationTests.getBundleProjectService().getDescription(b);
+		description.setRequiredBundles(null);
+		description.apply(null);
+		setPluginXml(ResourcesPlugin.getWorkspace().getRoot().getProject("idx.a1_0_0"), """
+				<plugin>
+				   <extension-point id="point3" name="Point 3"/>
+				</plugin>
+				""");
+		IFeatureModel feature = feature();
+		ProjectUtils.addIncludedPlugin(feature.getFeature(), "idx.a", "1.0.0");
+		((IEditableModel) feature).save();
+		PluginRegistryTests.waitForBuild();
+
+		assertThat(find(ELEMENT_PLUGIN, LIMIT_REFERENCES, "idx.a", true)) //
+				.matches(c -> !c.contains(plugin("idx.b"))) //
+				.matches(c -> c.contains(feature()));
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_DECLARATIONS, "idx.a.point3", true)) //
+				.matches(c -> c.contains(plugin("idx.a")));
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_DECLARATIONS, "idx.a.point1", true)) //
+				.matches(c -> !c.contains(plugin("idx.a")));
+		assertThat(find(ELEMENT_EXTENSION_POINT, LIMIT_REFERENCES, "idx.b.point2", true)) //
+				.matches(c -> !c.contains(plugin("idx.a")));
+	}
+
+	private Candidates find(int element, int limit, String pattern, boolean caseSensitive) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(element);
+		input.setSearchLimit(limit);
+		input.setSearchString(pattern);
+		input.setCaseSensitive(caseSensitive);
+		return index.findCandidates(input);
+	}
+
+	private static IPluginModelBase plugin(String id) {
+		IPluginModelBase model = PluginRegistry.findModel(id);
+		assertThat(model).as(id).isNotNull();
+		return model;
+	}
+
+	private static IFeatureModel feature() {
+		IFeatureModel model = PDECore.getDefault().getFeatureModelManager().findFeatureModel("idx.feature");
+		assertThat(model).isNotNull();
+		return model;
+	}
+
+	private static void setPluginXml(IProject project, String content) throws CoreException {
+		IFile file = PDEProject.getPluginXml(project);
+		ByteArrayInputStream stream = new ByteArrayInputStream(
+				("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n" + content)
+						.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+}
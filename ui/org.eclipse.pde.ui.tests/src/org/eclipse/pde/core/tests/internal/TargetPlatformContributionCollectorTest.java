@@ -0,0 +1,100 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformClassContributionCollector;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+
+public class TargetPlatformContributionCollectorTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private TargetPlatformContributionCollector collector;
+
+	@Before
+	public void setupBefore() {
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+		collector = TargetPlatformClassContributionCollector.getInstance();
+	}
+
+	@Test
+	public void testTargetChange() throws Exception {
+		Path directory = folder.newFolder().toPath();
+		createBundle(directory, "collector.a", "collector/a/A.class");
+		setTargetPlatform(directory);
+		assertThat(getBundleIds()).contains("collector.a").doesNotContain("collector.b");
+
+		// a target that only adds a bundle is applied to the existing state
+		createBundle(directory, "collector.b", "collector/b/B.class");
+		setTargetPlatform(directory);
+		assertThat(getBundleIds()).contains("collector.a", "collector.b");
+		assertThat(collector.getPackages()).contains("collector.a", "collector.b");
+	}
+
+	private Collection<String> getBundleIds() throws InterruptedException {
+		// the first query starts building the index
+		collector.getBundleIds();
+		Job.getJobManager().join(TargetPlatformContributionCollector.INDEX_JOB_FAMILY, null);
+		return collector.getBundleIds();
+	}
+
+	private static void setTargetPlatform(Path directory) throws Exception {
+		TargetPlatformUtil.createAndSetTarget(null,
+				List.of(TargetPlatformUtil.TPS.newDirectoryLocation(directory.toString())), null);
+	}
+
+	private static void createBundle(Path directory, String id, String className) throws Exception {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, id);
+		attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0");
+		Path plugins = Files.createDirectories(directory.resolve("plugins"));
+		try (OutputStream stream = Files.newOutputStream(plugins.resolve(id + "_1.0.0.jar"));
+				ZipOutputStream out = new ZipOutputStream(stream)) {
+			out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			manifest.write(out);
+			out.putNextEntry(new ZipEntry(className));
+		}
+	}
+}
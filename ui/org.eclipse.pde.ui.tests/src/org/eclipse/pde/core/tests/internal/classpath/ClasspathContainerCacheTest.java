@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDEClasspathContainer;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.RequiredPluginsClasspathContainer;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+
+public class ClasspathContainerCacheTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@BeforeClass
+	public static void loadTargetPlatform() throws Exception {
+		Set<String> bundleNames = Set.of("org.eclipse.osgi", "org.eclipse.equinox.common");
+		TargetPlatformUtil.setRunningPlatformSubSetAsTarget("Classpath container cache target",
+				b -> bundleNames.contains(b.getSymbolicName()));
+	}
+
+	@Test
+	public void testExternalLibrariesReusedUntilLocationsReset() {
+		IPluginModelBase model = PluginRegistry.findModel("org.eclipse.osgi");
+		assertThat(model).isNotNull();
+
+		var entries = PDEClasspathContainer.getExternalEntries(model);
+		assertThat(PDEClasspathContainer.isExternalLibrariesCached(model)).isTrue();
+		assertThat(PDEClasspathContainer.getExternalEntries(model)).containsExactly(entries);
+		assertThat(PDEClasspathContainer.isExternalLibrariesCached(model)).isTrue();
+
+		PDECore.getDefault().getSourceLocationManager().reset();
+		assertThat(PDEClasspathContainer.isExternalLibrariesCached(model)).isFalse();
+		assertThat(PDEClasspathContainer.getExternalEntries(model)).containsExactly(entries);
+		assertThat(PDEClasspathContainer.isExternalLibrariesCached(model)).isTrue();
+
+		PDECore.getDefault().getJavadocLocationManager().reset();
+		assertThat(PDEClasspathContainer.isExternalLibrariesCached(model)).isFalse();
+	}
+
+	@Test
+	public void testVisiblePackagesReused() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("cache.importer", "1.0.0",
+				Map.of(Constants.IMPORT_PACKAGE, "org.osgi.framework"));
+		project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		BundleDescription desc = model.getBundleDescription();
+
+		var entries = new RequiredPluginsClasspathContainer(model, project).getClasspathEntries();
+		assertThat(entries).anyMatch(e -> e.getPath().lastSegment().startsWith("org.eclipse.osgi"));
+		assertThat(RequiredPluginsClasspathContainer.isVisiblePackagesCached(desc)).isTrue();
+
+		// another container of the same bundle reuses the rules
+		assertThat(new RequiredPluginsClasspathContainer(model, project).getClasspathEntries())
+				.containsExactly(entries);
+		assertThat(RequiredPluginsClasspathContainer.isVisiblePackagesCached(desc)).isTrue();
+	}
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.internal.core.builders.CompilerFlags;
+import org.eclipse.pde.internal.core.builders.DefaultSAXParser;
+import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.internal.core.builders.XMLErrorReporter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests the source positions computed by {@link XMLErrorReporter} while the
+ * file is parsed
+ */
+public class XMLErrorReporterTest {
+
+	private static final String CONTENT = """
+			<?xml version="1.0" encoding="UTF-8"?>\r
+			<plugin>\r
+			   <!-- <extension point="commented"> -->
+			   <extension
+			         point="a"
+			         id = 'b>c'>
+			      <view id="v" name="n"/><view
+			         id="w"/>
+			      <description></description>\r
+			   </extension>
+			</plugin>
+			"""; //$NON-NLS-1$
+
+	private IProject fProject;
+
+	private static class PositionReporter extends XMLErrorReporter {
+
+		PositionReporter(IFile file) {
+			super(file);
+		}
+
+		@Override
+		protected void validate(IProgressMonitor monitor) {
+		}
+
+		Element getElement(String name, int index) {
+			NodeList elements = getDocumentRoot().getElementsByTagName(name);
+			return (Element) elements.item(index);
+		}
+
+		int getLine(String name, int index) {
+			return getLine(getElement(name, index));
+		}
+
+		int getLine(String name, int index, String attName) {
+			return getLine(getElement(name, index), attName);
+		}
+
+		String getTextContent(String name) {
+			return getTextContent(getElement(name, 0));
+		}
+	}
+
+	/**
+	 * Reports on each child of the root while the file is parsed and releases
+	 * it afterwards, unless its point is <code>keep</code>
+	 */
+	private static class StreamingReporter extends XMLErrorReporter {
+
+		final List<String> fEvents = new ArrayList<>();
+
+		StreamingReporter(IFile file) {
+			super(file);
+		}
+
+		@Override
+		protected void rootElementStarted(Element root) {
+			fEvents.add(root.getNodeName() + ':' + getLine(root) + ':' + root.hasChildNodes());
+		}
+
+		@Override
+		protected boolean topLevelElementParsed(Element element) {
+			VirtualMarker marker = report("problem", getLine(element, "point"), CompilerFlags.ERROR, //$NON-NLS-1$ //$NON-NLS-2$
+					PDEMarkerFactory.NO_RESOLUTION, element, "point", PDEMarkerFactory.CAT_OTHER); //$NON-NLS-1$
+			fEvents.add(element.getNodeName() + ':' + marker.getAttributes().get(IMarker.LINE_NUMBER) + ':'
+					+ marker.getAttributes().get(PDEMarkerFactory.MPK_LOCATION_PATH));
+			return !"keep".equals(element.getAttribute("point")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		Object getLocationPath(Element element) {
+			VirtualMarker marker = report("problem", getLine(element), CompilerFlags.ERROR, //$NON-NLS-1$
+					PDEMarkerFactory.NO_RESOLUTION, element, null, PDEMarkerFactory.CAT_OTHER);
+			return marker.getAttributes().get(PDEMarkerFactory.MPK_LOCATION_PATH);
+		}
+
+		@Override
+		protected void validate(IProgressMonitor monitor) {
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fProject = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getName());
+		fProject.create(null);
+		fProject.open(null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fProject.exists()) {
+			fProject.delete(true, null);
+		}
+	}
+
+	private PositionReporter parse(String content) throws Exception {
+		PositionReporter reporter = new PositionReporter(createFile(content));
+		DefaultSAXParser.parse(reporter.getFile(), reporter);
+		return reporter;
+	}
+
+	private IFile createFile(String content) throws Exception {
+		IFile file = fProject.getFile("plugin.xml"); //$NON-NLS-1$
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, null);
+		return file;
+	}
+
+	@Test
+	public void testElementLines() throws Exception {
+		PositionReporter reporter = parse(CONTENT);
+		assertEquals(2, reporter.getLine("plugin", 0)); //$NON-NLS-1$
+		assertEquals(4, reporter.getLine("extension", 0)); //$NON-NLS-1$
+		assertEquals(7, reporter.getLine("view", 0)); //$NON-NLS-1$
+		assertEquals(7, reporter.getLine("view", 1)); //$NON-NLS-1$
+		assertEquals(9, reporter.getLine("description", 0)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testAttributeLines() throws Exception {
+		PositionReporter reporter = parse(CONTENT);
+		assertEquals(5, reporter.getLine("extension", 0, "point")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(6, reporter.getLine("extension", 0, "id")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("A missing attribute is reported on its element", 4, reporter.getLine("extension", 0, "name")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(7, reporter.getLine("view", 0, "name")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(8, reporter.getLine("view", 1, "id")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testTextContent() throws Exception {
+		PositionReporter reporter = parse(CONTENT);
+		assertEquals("", reporter.getTextContent("description")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("An empty element has no content", reporter.getTextContent("view")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("An element with children has no text content", reporter.getTextContent("extension")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testTextContentEndsAtMatchingName() throws Exception {
+		PositionReporter reporter = parse("""
+				<plugin>
+				   <description><!-- </descriptions> --></description>
+				</plugin>
+				"""); //$NON-NLS-1$
+		assertEquals("<!-- </descriptions> -->", reporter.getTextContent("description")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testStreaming() throws Exception {
+		StreamingReporter reporter = new StreamingReporter(createFile(CONTENT));
+		DefaultSAXParser.parse(reporter.getFile(), reporter);
+		// the whitespace before the extension is the first child of the root
+		assertEquals(List.of("plugin:2:false", "extension:5:(0)plugin>(1)extension@point"), reporter.fEvents); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Node child = reporter.getDocumentRoot().getFirstChild(); child != null; child = child.getNextSibling()) {
+			assertFalse("Released elements are removed from the document", child instanceof Element); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testStreamingKeepsLocationPaths() throws Exception {
+		StreamingReporter reporter = new StreamingReporter(createFile("""
+				<plugin>
+				   <extension point="a"/>
+				   <extension point="keep"/>
+				   <extension point="b"/>
+				   text
+				   <extension point="c"/>
+				</plugin>
+				""")); //$NON-NLS-1$
+		DefaultSAXParser.parse(reporter.getFile(), reporter);
+		// elements and texts alternate, like in a document without released elements
+		assertEquals(List.of("plugin:1:false", //$NON-NLS-1$
+				"extension:2:(0)plugin>(1)extension@point", //$NON-NLS-1$
+				"extension:3:(0)plugin>(3)extension@point", //$NON-NLS-1$
+				"extension:4:(0)plugin>(5)extension@point", //$NON-NLS-1$
+				"extension:6:(0)plugin>(7)extension@point"), reporter.fEvents); //$NON-NLS-1$
+		Element kept = (Element) reporter.getDocumentRoot().getElementsByTagName("extension").item(0); //$NON-NLS-1$
+		assertEquals("keep", kept.getAttribute("point")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("(0)plugin>(3)extension", reporter.getLocationPath(kept)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testByteOrderMark() throws Exception {
+		PositionReporter reporter = parse("\uFEFF" + CONTENT);
+		assertEquals(0, reporter.getErrorCount());
+		assertEquals(4, reporter.getLine("extension", 0)); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.core.internal.runtime.XmlProcessorFactory;
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.pde.internal.core.XMLDefaultHandler;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.schema.Schema;
+import org.eclipse.pde.internal.core.schema.SchemaCache;
+import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.FrameworkUtil;
+import org.w3c.dom.Node;
+
+/**
+ * Tests the persistent {@link SchemaCache} of parsed extension point schemas
+ */
+public class SchemaCacheTest {
+
+	private static final String SCHEMA = "/tests/performance/schema/navigatorContent.exsd"; //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File fSchemaFile;
+
+	@Before
+	public void setUp() throws Exception {
+		URL entry = FrameworkUtil.getBundle(SchemaCacheTest.class).getEntry(SCHEMA);
+		fSchemaFile = folder.newFile("navigatorContent.exsd"); //$NON-NLS-1$
+		try (InputStream in = FileLocator.resolve(entry).openStream()) {
+			Files.copy(in, fSchemaFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Test
+	public void testCachedTreeMatchesParsedTree() throws Exception {
+		SchemaCache cache = new SchemaCache(folder.newFolder("cache")); //$NON-NLS-1$
+		URL url = fSchemaFile.toURI().toURL();
+		for (boolean abbreviated : new boolean[] { true, false }) {
+			Node parsed = parse(fSchemaFile.toPath(), abbreviated);
+			assertNull("Nothing should be cached yet", cache.getDocumentElement(url, abbreviated)); //$NON-NLS-1$
+			cache.putDocumentElement(url, abbreviated, parsed);
+			Node cached = cache.getDocumentElement(url, abbreviated);
+			assertNotNull("The schema should be cached", cached); //$NON-NLS-1$
+			assertTrue("The cached tree should match the parsed tree", parsed.isEqualNode(cached)); //$NON-NLS-1$
+		}
+		assertEquals(2, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void testSchemaFromCachedTree() throws Exception {
+		SchemaCache cache = new SchemaCache(folder.newFolder("cache")); //$NON-NLS-1$
+		URL url = fSchemaFile.toURI().toURL();
+		cache.putDocumentElement(url, true, parse(fSchemaFile.toPath(), true));
+
+		Schema parsed = new Schema(new SchemaDescriptor(fSchemaFile), url, true);
+		parsed.traverseDocumentTree(parse(fSchemaFile.toPath(), true));
+		Schema cached = new Schema(new SchemaDescriptor(fSchemaFile), url, true);
+		cached.traverseDocumentTree(cache.getDocumentElement(url, true));
+
+		assertTrue(cached.isLoaded());
+		ISchemaElement[] expected = parsed.getElements();
+		ISchemaElement[] actual = cached.getElements();
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getName(), actual[i].getName());
+			assertEquals(expected[i].getAttributeCount(), actual[i].getAttributeCount());
+		}
+	}
+
+	@Test
+	public void testPersistAndInvalidate() throws Exception {
+		File dir = folder.newFolder("cache"); //$NON-NLS-1$
+		URL url = fSchemaFile.toURI().toURL();
+		SchemaCache cache = new SchemaCache(dir);
+		cache.getDocumentElement(url, true);
+		cache.putDocumentElement(url, true, parse(fSchemaFile.toPath(), true));
+		cache.save();
+
+		cache = new SchemaCache(dir);
+		assertNotNull("The schema should be read from the cache file", cache.getDocumentElement(url, true)); //$NON-NLS-1$
+
+		assertTrue(fSchemaFile.setLastModified(fSchemaFile.lastModified() - 10_000));
+		cache = new SchemaCache(dir);
+		assertNull("A changed schema should not be served from the cache", cache.getDocumentElement(url, true)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testJarStamp() throws Exception {
+		File jar = folder.newFile("bundle.jar"); //$NON-NLS-1$
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+			out.putNextEntry(new JarEntry("schema/navigatorContent.exsd")); //$NON-NLS-1$
+			Files.copy(fSchemaFile.toPath(), (OutputStream) out);
+			out.closeEntry();
+		}
+		URL url = new URL("jar:file:" + jar.getAbsolutePath() + "!/schema/navigatorContent.exsd"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(jar.getCanonicalFile(), SchemaCache.getStampFile(url).getCanonicalFile());
+		assertNull(SchemaCache.getStampFile(new URL("http://localhost/schema.exsd"))); //$NON-NLS-1$
+	}
+
+	private static Node parse(Path file, boolean abbreviated) throws Exception {
+		XMLDefaultHandler handler = new XMLDefaultHandler(abbreviated);
+		SAXParser parser = XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE();
+		try (InputStream in = Files.newInputStream(file)) {
+			parser.parse(in, handler);
+		}
+		return handler.getDocumentElement();
+	}
+}
@@ -14,9 +14,12 @@
 package org.eclipse.pde.ui.tests;
 
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
+import org.eclipse.pde.core.tests.internal.classpath.ClasspathContainerCacheTest;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.XMLErrorReporterTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
+import org.eclipse.pde.core.tests.internal.util.SchemaCacheTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
 import org.eclipse.pde.ui.tests.classpathresolver.ClasspathResolverTest;
@@ -61,10 +64,13 @@ import org.junit.runners.Suite.SuiteClasses;
 	ClasspathResolverTest.class, //
 	ClasspathUpdaterTest.class, //
 	PDESchemaHelperTest.class, //
+	SchemaCacheTest.class, //
 	ClasspathContributorTest.class, //
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
+	ClasspathContainerCacheTest.class, //
 	BundleErrorReporterTest.class, //
+	XMLErrorReporterTest.class, //
 	AllPDECoreTests.class, //
 	ProjectSmartImportTest.class, //
 })
@@ -13,8 +13,10 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.performance;
 
+import org.eclipse.pde.ui.tests.performance.parts.ExtensionsValidationPerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.OpenManifestEditorPerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.PDEModelManagerPerfTest;
+import org.eclipse.pde.ui.tests.performance.parts.RequirementsClosurePerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.SchemaLoaderPerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.SchemaTraversePerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.TargetPlatformPerfTest;
@@ -25,7 +27,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
 	PDEModelManagerPerfTest.class, SchemaLoaderPerfTest.class, SchemaTraversePerfTest.class,
-	OpenManifestEditorPerfTest.class, TargetPlatformPerfTest.class
+	OpenManifestEditorPerfTest.class, TargetPlatformPerfTest.class, ExtensionsValidationPerfTest.class,
+	RequirementsClosurePerfTest.class
 })
 public class PDEPerformanceTests {
 
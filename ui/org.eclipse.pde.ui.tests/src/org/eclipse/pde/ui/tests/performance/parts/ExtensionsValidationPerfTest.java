@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.internal.core.builders.DefaultSAXParser;
+import org.eclipse.pde.internal.core.builders.ExtensionsErrorReporter;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the validation of a 10 MB plugin.xml as done by the manifest
+ * builder: parsing it into the reporter and running the extension checks.
+ */
+public class ExtensionsValidationPerfTest extends PerformanceTestCase {
+
+	private static final int F_SIZE = 10 * 1024 * 1024;
+
+	private static final int F_TEST_ITERATIONS = 10;
+
+	private static final int F_WARMUP_ITERATIONS = 3;
+
+	private IProject fProject;
+
+	private IFile fPluginFile;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject = ProjectUtils.createPluginProject("org.eclipse.pde.ui.tests.perf.extensions", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		fPluginFile = fProject.getFile("plugin.xml"); //$NON-NLS-1$
+		byte[] content = generatePluginXML().getBytes(StandardCharsets.UTF_8);
+		if (fPluginFile.exists()) {
+			fPluginFile.setContents(new ByteArrayInputStream(content), true, false, null);
+		} else {
+			fPluginFile.create(new ByteArrayInputStream(content), true, null);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fProject != null && fProject.exists()) {
+			fProject.delete(true, null);
+		}
+		super.tearDown();
+	}
+
+	public void testValidatePluginXML() throws Exception {
+		tagAsSummary("Validate plugin.xml (10 MB)", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		for (int i = 0; i < F_WARMUP_ITERATIONS; i++) {
+			validate();
+		}
+		for (int i = 0; i < F_TEST_ITERATIONS; i++) {
+			startMeasuring();
+			validate();
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void validate() {
+		ExtensionsErrorReporter reporter = new ExtensionsErrorReporter(fPluginFile);
+		DefaultSAXParser.parse(fPluginFile, reporter);
+		reporter.validateContent(new NullProgressMonitor());
+	}
+
+	private static String generatePluginXML() {
+		StringBuilder buffer = new StringBuilder(F_SIZE + 1024);
+		buffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"); //$NON-NLS-1$
+		buffer.append("<?eclipse version=\"3.4\"?>\n"); //$NON-NLS-1$
+		buffer.append("<plugin>\n"); //$NON-NLS-1$
+		for (int i = 0; buffer.length() < F_SIZE; i++) {
+			buffer.append("   <!-- <extension point=\"commented").append(i).append("\"> -->\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append("   <extension\n         point=\"org.eclipse.ui.commands\">\n"); //$NON-NLS-1$
+			buffer.append("      <category\n            id=\"perf.category").append(i) //$NON-NLS-1$
+					.append("\"\n            name=\"Category ").append(i).append("\">\n      </category>\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			for (int j = 0; j < 10; j++) {
+				buffer.append("      <command categoryId=\"perf.category").append(i) //$NON-NLS-1$
+						.append("\" id=\"perf.command").append(i).append('.').append(j) //$NON-NLS-1$
+						.append("\" name=\"Command ").append(j).append("\"/>\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			buffer.append("   </extension>\n"); //$NON-NLS-1$
+		}
+		buffer.append("</plugin>\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.PerformanceTestCase;
@@ -38,8 +39,25 @@ public class InitializeModelsPerfTest extends PerformanceTestCase {
 		PDETestCase.delete(PDECore.getDefault().getStateLocation().toFile());
 	}
 
+	/**
+	 * Warm startup, bundle manifests are restored from the target state
+	 * snapshot written by the warm-up iterations.
+	 */
 	public void testModels() throws Exception {
 		tagAsGlobalSummary("Initialize PDE Models", Dimension.ELAPSED_PROCESS);
+		measureModelInitialization(false);
+	}
+
+	/**
+	 * Cold startup, the target state snapshot is deleted before every
+	 * iteration so all bundle manifests are read from disk.
+	 */
+	public void testModelsWithoutSnapshot() throws Exception {
+		tagAsSummary("Initialize PDE Models (cold)", Dimension.ELAPSED_PROCESS);
+		measureModelInitialization(true);
+	}
+
+	private void measureModelInitialization(boolean cold) throws Exception {
 		Path testBundles = TargetPlatformPerfTest.extractTargetPerfTestPlugins();
 		ITargetPlatformService tps = PDECore.getDefault().acquireService(ITargetPlatformService.class);
 		ITargetDefinition originalTarget = tps.newTarget();
@@ -61,6 +79,9 @@ public class InitializeModelsPerfTest extends PerformanceTestCase {
 		}
 		// Test Iterations
 		for (int i = 0; i < 50; i++) {
+			if (cold) {
+				PDEState.clearSnapshot();
+			}
 			startMeasuring();
 			load.schedule();
 			load.join();
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.DependencyManager;
+import org.eclipse.pde.internal.core.DependencyManager.Options;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.Constants;
+
+/**
+ * Measures the requirement closures computed by {@link DependencyManager} on
+ * a generated target platform of 5000 bundles. Like launch validation, each
+ * iteration asks for the same closures several times.
+ */
+public class RequirementsClosurePerfTest extends PerformanceTestCase {
+
+	private static final int F_BUNDLES = 5000;
+
+	private static final int F_REQUIREMENTS = 8;
+
+	private static final int F_ROOT_SETS = 20;
+
+	private static final int F_REPETITIONS = 10;
+
+	private static final int F_TEST_ITERATIONS = 10;
+
+	private static final int F_WARMUP_ITERATIONS = 3;
+
+	private ITargetDefinition fOriginalTarget;
+
+	private Path fJarDirectory;
+
+	private final List<List<BundleDescription>> fRootSets = new ArrayList<>();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fOriginalTarget = TargetPlatformUtil.TPS.getWorkspaceTargetDefinition();
+		fJarDirectory = Files.createTempDirectory("closurePerfTest"); //$NON-NLS-1$
+		Random random = new Random(42);
+		Map<NameVersionDescriptor, Map<String, String>> bundles = new LinkedHashMap<>();
+		for (int i = 0; i < F_BUNDLES; i++) {
+			Set<Integer> dependencies = new LinkedHashSet<>();
+			while (dependencies.size() < Math.min(i, F_REQUIREMENTS)) {
+				dependencies.add(random.nextInt(i));
+			}
+			StringBuilder required = new StringBuilder();
+			StringBuilder imported = new StringBuilder();
+			int j = 0;
+			for (int dependency : dependencies) {
+				// require half of the dependencies and import the API of the others
+				StringBuilder header = j % 2 == 0 ? required : imported;
+				if (!header.isEmpty()) {
+					header.append(',');
+				}
+				header.append(getName(dependency)).append(j % 2 == 0 ? "" : ".api"); //$NON-NLS-1$ //$NON-NLS-2$
+				if (++j == F_REQUIREMENTS) {
+					header.append(";resolution:=optional"); //$NON-NLS-1$
+				}
+			}
+			Map<String, String> headers = new LinkedHashMap<>();
+			headers.put(Constants.EXPORT_PACKAGE, getName(i) + ".api"); //$NON-NLS-1$
+			if (!required.isEmpty()) {
+				headers.put(Constants.REQUIRE_BUNDLE, required.toString());
+			}
+			if (!imported.isEmpty()) {
+				headers.put(Constants.IMPORT_PACKAGE, imported.toString());
+			}
+			bundles.put(new NameVersionDescriptor(getName(i), "1.0.0"), headers); //$NON-NLS-1$
+		}
+		TargetPlatformUtil.setDummyBundlesAsTarget(bundles, List.of(), fJarDirectory);
+
+		for (int i = 0; i < F_ROOT_SETS; i++) {
+			List<BundleDescription> roots = new ArrayList<>();
+			for (int j = 0; j < 5; j++) {
+				int bundle = F_BUNDLES - 1 - random.nextInt(F_BUNDLES / 10);
+				roots.add(TargetPlatformHelper.getState().getBundle(getName(bundle), null));
+			}
+			fRootSets.add(roots);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		TargetPlatformUtil.loadAndSetTarget(fOriginalTarget);
+		if (fJarDirectory != null) {
+			try (Stream<Path> files = Files.walk(fJarDirectory)) {
+				files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+		super.tearDown();
+	}
+
+	public void testFindRequirementsClosure() throws Exception {
+		tagAsSummary("Find requirements closures (5000 bundles)", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		for (int i = 0; i < F_WARMUP_ITERATIONS; i++) {
+			findClosures();
+		}
+		for (int i = 0; i < F_TEST_ITERATIONS; i++) {
+			startMeasuring();
+			findClosures();
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void findClosures() {
+		for (int i = 0; i < F_REPETITIONS; i++) {
+			for (List<BundleDescription> roots : fRootSets) {
+				Set<BundleDescription> closure = DependencyManager.findRequirementsClosure(roots);
+				assertTrue(closure.containsAll(roots));
+				DependencyManager.findRequirementsClosure(roots, Options.INCLUDE_OPTIONAL_DEPENDENCIES,
+						Options.INCLUDE_ALL_FRAGMENTS);
+			}
+		}
+	}
+
+	private static String getName(int bundle) {
+		return "closure.perf.bundle" + bundle; //$NON-NLS-1$
+	}
+}
@@ -16,12 +16,15 @@ package org.eclipse.pde.ui.tests.target;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
@@ -170,6 +173,59 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 
 	}
 
+	/**
+	 * Tests that resolving a target again only re-resolves locations whose
+	 * content changed on disk.
+	 */
+	@Test
+	public void testIncrementalResolution() throws Exception {
+		Path dirPath = extractAbcdePlugins().resolve("plugins");
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation container = getTargetService().newDirectoryLocation(dirPath.toString());
+		definition.setTargetLocations(new ITargetLocation[] { container });
+		definition.resolve(null);
+		TargetBundle[] bundles = container.getBundles();
+		assertEquals(10, bundles.length);
+
+		// nothing changed, the previous resolution is kept
+		definition.resolve(null);
+		assertSame(bundles, container.getBundles());
+
+		// removing a bundle from the directory triggers a new resolution
+		Path removed;
+		try (Stream<Path> files = Files.list(dirPath)) {
+			removed = files.filter(Files::isRegularFile).sorted().findFirst().orElseThrow();
+		}
+		Files.delete(removed);
+		definition.resolve(null);
+		assertNotSame(bundles, container.getBundles());
+		assertEquals(9, container.getBundles().length);
+	}
+
+	/**
+	 * Tests that a bundle added to an empty plug-ins site of a location is
+	 * found by resolving the target again.
+	 */
+	@Test
+	public void testIncrementalResolutionOfNewSite() throws Exception {
+		Path dirPath = extractAbcdePlugins().resolve("plugins");
+		Path root = dirPath.resolveSibling("incremental");
+		Path site = Files.createDirectories(root.resolve("plugins"));
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation container = getTargetService().newDirectoryLocation(root.toString());
+		definition.setTargetLocations(new ITargetLocation[] { container });
+		definition.resolve(null);
+		assertEquals(0, container.getBundles().length);
+
+		Path added;
+		try (Stream<Path> files = Files.list(dirPath)) {
+			added = files.filter(Files::isRegularFile).sorted().findFirst().orElseThrow();
+		}
+		Files.copy(added, site.resolve(added.getFileName()));
+		definition.resolve(null);
+		assertEquals(1, container.getBundles().length);
+	}
+
 	/**
 	 * Tests that a target definition is in synch with the target platform.
 	 */
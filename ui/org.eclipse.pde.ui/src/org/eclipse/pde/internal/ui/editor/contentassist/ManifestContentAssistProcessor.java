@@ -49,6 +49,7 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.util.PDEJavaHelper;
 import org.eclipse.pde.internal.ui.PDEPluginImages;
 import org.eclipse.pde.internal.ui.editor.PDEFormEditor;
@@ -304,20 +305,16 @@ public class ManifestContentAssistProcessor extends TypePackageCompletionProcess
 			int length = value.length();
 			set.remove(value);
 			ArrayList<TypeCompletionProposal> completions = new ArrayList<>();
-			IPluginModelBase[] bases = PluginRegistry.getActiveModels();
-
-			for (IPluginModelBase base : bases) { // Remove any packages already imported through Require-Bundle
-				BundleDescription desc = base.getBundleDescription();
+			for (ExportPackageDescription expPkg : PDECore.getDefault().getExportedPackageIndex().getExportedPackages(value)) {
+				// Remove any packages already imported through Require-Bundle
+				BundleDescription desc = expPkg.getExporter();
 				if (desc == null || importedBundles.contains(desc.getSymbolicName())) {
 					continue;
 				}
-				ExportPackageDescription[] expPkgs = desc.getExportPackages();
-				for (ExportPackageDescription expPkg : expPkgs) {
-					String pkgName = expPkg.getName();
-					if (pkgName.regionMatches(true, 0, value, 0, length) && !set.contains(pkgName)) {
-						completions.add(new TypeCompletionProposal(pkgName, getImage(F_TYPE_PKG), pkgName, offset - length, length));
-						set.add(pkgName);
-					}
+				String pkgName = expPkg.getName();
+				if (!set.contains(pkgName)) {
+					completions.add(new TypeCompletionProposal(pkgName, getImage(F_TYPE_PKG), pkgName, offset - length, length));
+					set.add(pkgName);
 				}
 			}
 			ICompletionProposal[] proposals = completions.toArray(new ICompletionProposal[completions.size()]);
@@ -374,14 +371,10 @@ public class ManifestContentAssistProcessor extends TypePackageCompletionProcess
 
 			String pluginStart = removeLeadingSpaces(currentValue);
 			int length = pluginStart.length();
-			IPluginModelBase[] bases = PluginRegistry.getActiveModels();
-			for (IPluginModelBase base2 : bases) {
-				desc = base2.getBundleDescription();
-				if (desc != null && desc.getHost() == null) {
-					String pluginID = base2.getBundleDescription().getSymbolicName();
-					if (!completions.containsKey(pluginID) && pluginID.regionMatches(true, 0, pluginStart, 0, length) && !pluginID.equals(currentId)) {
-						completions.put(pluginID, new TypeCompletionProposal(pluginID, getImage(F_TYPE_BUNDLE), pluginID, offset - length, length));
-					}
+			for (BundleDescription host : PDECore.getDefault().getExportedPackageIndex().getBundles(pluginStart, false)) {
+				String pluginID = host.getSymbolicName();
+				if (!completions.containsKey(pluginID) && !pluginID.equals(currentId)) {
+					completions.put(pluginID, new TypeCompletionProposal(pluginID, getImage(F_TYPE_BUNDLE), pluginID, offset - length, length));
 				}
 			}
 			return completions.values().toArray(new ICompletionProposal[completions.size()]);
@@ -478,17 +471,10 @@ public class ManifestContentAssistProcessor extends TypePackageCompletionProcess
 		int length = value.length();
 		doNotInclude.remove(value);
 		ArrayList<TypeCompletionProposal> completions = new ArrayList<>();
-		IPluginModelBase[] bases = PluginRegistry.getActiveModels();
-		for (IPluginModelBase base : bases) {
-			BundleDescription desc = base.getBundleDescription();
-			if (desc != null) {
-				if (!includeFragments && desc.getHost() != null) {
-					continue;
-				}
-				String bundleId = desc.getSymbolicName();
-				if (bundleId.regionMatches(true, 0, value, 0, value.length()) && !doNotInclude.contains(bundleId)) {
-					completions.add(new TypeCompletionProposal(bundleId, getImage(type), bundleId, offset - length, length));
-				}
+		for (BundleDescription desc : PDECore.getDefault().getExportedPackageIndex().getBundles(value, includeFragments)) {
+			String bundleId = desc.getSymbolicName();
+			if (!doNotInclude.contains(bundleId)) {
+				completions.add(new TypeCompletionProposal(bundleId, getImage(type), bundleId, offset - length, length));
 			}
 		}
 		return completions.toArray(new ICompletionProposal[completions.size()]);